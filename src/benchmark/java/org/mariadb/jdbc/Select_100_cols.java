@@ -30,6 +30,16 @@ public class Select_100_cols extends Common {
     run(state.connectionBinaryNoPipeline, blackhole);
   }
 
+  @Benchmark
+  public void textReverse(MyState state, Blackhole blackhole) throws Throwable {
+    runReverse(state.connectionText, blackhole);
+  }
+
+  @Benchmark
+  public void binaryReverse(MyState state, Blackhole blackhole) throws Throwable {
+    runReverse(state.connectionBinary, blackhole);
+  }
+
   private void run(Connection con, Blackhole blackhole) throws Throwable {
 
     try (PreparedStatement prep = con.prepareStatement("select * FROM test100")) {
@@ -41,4 +51,16 @@ public class Select_100_cols extends Common {
       }
     }
   }
+
+  private void runReverse(Connection con, Blackhole blackhole) throws Throwable {
+
+    try (PreparedStatement prep = con.prepareStatement("select * FROM test100")) {
+      try (ResultSet rs = prep.executeQuery()) {
+        rs.next();
+        for (int i = 100; i > 0; i--) {
+          blackhole.consume(rs.getInt(i));
+        }
+      }
+    }
+  }
 }
@@ -14,6 +14,7 @@ import java.util.*;
 import org.mariadb.jdbc.client.result.Result;
 import org.mariadb.jdbc.client.util.ClosableLock;
 import org.mariadb.jdbc.codec.Parameter;
+import org.mariadb.jdbc.message.ClientMessage;
 import org.mariadb.jdbc.util.ParameterList;
 
 /** Common methods for function/stored procedure */
@@ -77,6 +78,12 @@ public abstract class BaseCallableStatement extends ServerPreparedStatement
    */
   public abstract boolean isFunction();
 
+  @Override
+  protected ClientMessage asyncMessage() throws SQLException {
+    throw exceptionFactory()
+        .notSupported("Asynchronous execution is not supported for callable statement");
+  }
+
   /**
    * Output result without output parameters
    *
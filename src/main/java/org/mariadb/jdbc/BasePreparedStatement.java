@@ -13,16 +13,20 @@ import java.sql.*;
 import java.sql.Date;
 import java.sql.ParameterMetaData;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import org.mariadb.jdbc.client.ColumnDecoder;
 import org.mariadb.jdbc.client.Completion;
 import org.mariadb.jdbc.client.DataType;
 import org.mariadb.jdbc.client.result.CompleteResult;
 import org.mariadb.jdbc.client.result.Result;
+import org.mariadb.jdbc.client.result.ResultSetPublisher;
 import org.mariadb.jdbc.client.util.ClosableLock;
 import org.mariadb.jdbc.client.util.Parameters;
 import org.mariadb.jdbc.codec.*;
 import org.mariadb.jdbc.export.ExceptionFactory;
 import org.mariadb.jdbc.export.Prepare;
+import org.mariadb.jdbc.export.RowMapper;
+import org.mariadb.jdbc.export.RowPublisher;
 import org.mariadb.jdbc.message.ClientMessage;
 import org.mariadb.jdbc.message.client.BulkExecutePacket;
 import org.mariadb.jdbc.message.client.PreparePacket;
@@ -50,6 +54,9 @@ public abstract class BasePreparedStatement extends Statement implements Prepare
   /** PREPARE command result */
   protected Prepare prepareResult = null;
 
+  /** last batch has been sent as multi-values INSERT commands */
+  protected boolean rewrittenBatch;
+
   /**
    * Constructor
    *
@@ -132,6 +139,74 @@ public abstract class BasePreparedStatement extends Statement implements Prepare
 
   public abstract long executeLargeUpdate() throws SQLException;
 
+  /**
+   * Create message executing command with current parameters, for asynchronous execution.
+   * Parameters are copied, so they can be changed right after.
+   *
+   * @return client message
+   * @throws SQLException if parameters are not valid
+   */
+  protected abstract ClientMessage asyncMessage() throws SQLException;
+
+  /** Called once a message created by {@link #asyncMessage()} has been executed, or has failed. */
+  protected void asyncCompleted() {}
+
+  /**
+   * Executes asynchronously the SQL query in this <code>PreparedStatement</code> object with
+   * current parameters. Commands are executed in submission order by connection asynchronous
+   * pipeline, see {@link Connection#executeQueryAsync(String)}.
+   *
+   * @return future completed with a <code>ResultSet</code> object that contains the data produced
+   *     by the query, or completed exceptionally with a <code>SQLException</code>
+   */
+  public CompletableFuture<ResultSet> executeQueryAsync() {
+    try {
+      checkNotClosed();
+      ClientMessage message = asyncMessage();
+      return con.executeQueryAsync(message, this).whenComplete((res, t) -> asyncCompleted());
+    } catch (SQLException e) {
+      CompletableFuture<ResultSet> future = new CompletableFuture<>();
+      future.completeExceptionally(e);
+      return future;
+    }
+  }
+
+  /**
+   * Executes asynchronously the SQL statement in this <code>PreparedStatement</code> object with
+   * current parameters, which must be an SQL Data Manipulation Language (DML) statement or an SQL
+   * statement that returns nothing. Commands are executed in submission order by connection
+   * asynchronous pipeline, see {@link Connection#executeQueryAsync(String)}.
+   *
+   * @return future completed with the row count for SQL Data Manipulation Language (DML) statements
+   *     or 0 for SQL statements that return nothing, or completed exceptionally with a <code>
+   *     SQLException</code>
+   */
+  public CompletableFuture<Long> executeLargeUpdateAsync() {
+    try {
+      checkNotClosed();
+      ClientMessage message = asyncMessage();
+      return con.executeLargeUpdateAsync(message, this).whenComplete((res, t) -> asyncCompleted());
+    } catch (SQLException e) {
+      CompletableFuture<Long> future = new CompletableFuture<>();
+      future.completeExceptionally(e);
+      return future;
+    }
+  }
+
+  /**
+   * Create a publisher of the rows returned by this <code>PreparedStatement</code> query. Query is
+   * executed with parameters set at the time of first subscriber request, then rows are read from
+   * socket according to subscriber demand, see {@link Statement#executeQueryPublisher(String,
+   * RowMapper)}.
+   *
+   * @param mapper row mapper
+   * @param <T> row type
+   * @return row publisher
+   */
+  public <T> RowPublisher<T> executeQueryPublisher(RowMapper<T> mapper) {
+    return new ResultSetPublisher<>(this, this::executeQuery, mapper);
+  }
+
   public abstract void addBatch() throws SQLException;
 
   public abstract ResultSetMetaData getMetaData() throws SQLException;
@@ -1698,7 +1773,7 @@ public abstract class BasePreparedStatement extends Statement implements Prepare
       return handleBulkUnitResults(updates);
     }
 
-    if (shouldHandleBulkInsert(wasBulk)) {
+    if (shouldHandleBulkInsert(wasBulk || rewrittenBatch)) {
       int[] bulkInsertUpdates = handleBulkInsert(updates);
       if (bulkInsertUpdates != null) {
         return bulkInsertUpdates;
@@ -1870,7 +1945,7 @@ public abstract class BasePreparedStatement extends Statement implements Prepare
       return handleLongBulkUnitResults(updates);
     }
 
-    if (shouldHandleBulkInsert(wasBulk)) {
+    if (shouldHandleBulkInsert(wasBulk || rewrittenBatch)) {
       long[] bulkInsertUpdates = handleLongBulkInsert(updates);
       if (bulkInsertUpdates != null) {
         return bulkInsertUpdates;
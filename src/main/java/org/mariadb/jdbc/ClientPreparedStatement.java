@@ -48,7 +48,7 @@ public class ClientPreparedStatement extends BasePreparedStatement {
     super(sql, con, lock, autoGeneratedKeys, resultSetType, resultSetConcurrency, defaultFetchSize);
     boolean noBackslashEscapes =
         (con.getContext().getServerStatus() & ServerStatus.NO_BACKSLASH_ESCAPES) > 0;
-    parser = ClientParser.parameterParts(sql, noBackslashEscapes);
+    parser = con.parameterParts(sql, noBackslashEscapes);
     parameters = new ParameterList(parser.getParamCount());
   }
 
@@ -74,6 +74,12 @@ public class ClientPreparedStatement extends BasePreparedStatement {
     return null;
   }
 
+  @Override
+  protected ClientMessage asyncMessage() throws SQLException {
+    validParameters();
+    return new QueryWithParametersPacket(preSqlCmd(), parser, parameters.clone(), null);
+  }
+
   @SuppressWarnings("try")
   private void executeInternal() throws SQLException {
     checkNotClosed();
@@ -93,6 +99,7 @@ public class ClientPreparedStatement extends BasePreparedStatement {
                   resultSetType,
                   closeOnCompletion,
                   false);
+      con.countClientExecution(sql);
     } catch (SQLException e) {
       results = null;
       currResult = null;
@@ -106,6 +113,7 @@ public class ClientPreparedStatement extends BasePreparedStatement {
     checkNotClosed();
     parseCommandIfNeeded(sql);
     Configuration conf = con.getContext().getConf();
+    rewrittenBatch = false;
 
     boolean possibleLoadLocal = con.getContext().hasClientCapability(LOCAL_FILES);
     if (possibleLoadLocal) {
@@ -136,6 +144,13 @@ public class ClientPreparedStatement extends BasePreparedStatement {
           && batchParameters.get(0).size() > 0) {
         executeBatchBulk(escapeTimeout(sql));
         return true;
+      } else if (conf.rewriteBatchedStatements()
+          && batchParameters.size() > 1
+          && parser.isRewritable()
+          && (autoGeneratedKeys != Statement.RETURN_GENERATED_KEYS
+              || (conf.returnMultiValuesGeneratedIds() && !parser.isInsertDuplicate()))) {
+        // generated keys of multi-values INSERT can only be deduced from first insert id
+        executeBatchRewrite();
       } else {
         executeBatchPipeline();
       }
@@ -144,6 +159,36 @@ public class ClientPreparedStatement extends BasePreparedStatement {
     return false;
   }
 
+  /**
+   * Send batch as multi-values INSERT COM_QUERY commands, limited to max_allowed_packet.
+   *
+   * @throws SQLException if IOException / Command error
+   */
+  private void executeBatchRewrite() throws SQLException {
+    QueryWithMultiValuesPacket packet =
+        new QueryWithMultiValuesPacket(
+            preSqlCmd(), parser, batchParameters, con.getContext().getConf().maxAllowedPacket());
+    try {
+      results =
+          con.getClient()
+              .execute(
+                  packet,
+                  this,
+                  0,
+                  maxRows,
+                  ResultSet.CONCUR_READ_ONLY,
+                  ResultSet.TYPE_FORWARD_ONLY,
+                  closeOnCompletion,
+                  false);
+      rewrittenBatch = true;
+    } catch (SQLException bue) {
+      results = null;
+      // commands that succeeded before or after the failing one are kept
+      throw new BatchUpdateException(
+          bue.getMessage(), bue.getSQLState(), bue.getErrorCode(), packet.getUpdateCounts(), bue);
+    }
+  }
+
   /**
    * Send n * COM_QUERY + n * read answer
    *
@@ -113,6 +113,11 @@ public class Configuration {
   private Boolean permitRedirect;
   private TransactionIsolation transactionIsolation;
   private int defaultFetchSize;
+  private boolean useCompactRowStorage;
+  private boolean streamingPrefetch;
+  private int streamingMemoryBudget;
+  private int resultSetSpillThreshold;
+  private boolean deduplicateStrings;
   private int maxQuerySizeToLog;
   private Integer maxAllowedPacket;
   private String geometryDefaultType;
@@ -135,6 +140,7 @@ public class Configuration {
   private String localSocketAddress;
   private int socketTimeout;
   private boolean useReadAheadInput;
+  private boolean useSocketChannel;
   private String tlsSocketType;
 
   // SSL
@@ -155,14 +161,21 @@ public class Configuration {
   private boolean allowMultiQueries;
   private boolean allowLocalInfile;
   private boolean useCompression;
+  private int compressionLevel;
+  private int compressionMinSize;
+  private boolean compressionAdaptive;
   private boolean useAffectedRows;
   private boolean useBulkStmts;
   private boolean useBulkStmtsForInserts;
+  private boolean rewriteBatchedStatements;
+  private int bulkChunkWindow;
   private boolean disablePipeline;
   // prepare
   private boolean cachePrepStmts;
   private int prepStmtCacheSize;
+  private int sqlParseCacheSize;
   private boolean useServerPrepStmts;
+  private int serverPrepareThreshold;
 
   // authentication
   private CredentialPlugin credentialType;
@@ -306,8 +319,18 @@ public class Configuration {
     this.localSocketAddress = builder.localSocketAddress;
     this.socketTimeout = builder.socketTimeout != null ? builder.socketTimeout : 0;
     this.useReadAheadInput = builder.useReadAheadInput != null && builder.useReadAheadInput;
+    this.useSocketChannel = builder.useSocketChannel != null && builder.useSocketChannel;
     this.tlsSocketType = builder.tlsSocketType;
     this.useCompression = builder.useCompression != null && builder.useCompression;
+    this.compressionLevel = builder.compressionLevel != null ? builder.compressionLevel : 6;
+    if (this.compressionLevel < 0 || this.compressionLevel > 9) {
+      throw new IllegalArgumentException(
+          "compressionLevel must be between 0 and 9, current set value is "
+              + this.compressionLevel);
+    }
+    this.compressionMinSize =
+        builder.compressionMinSize != null ? builder.compressionMinSize : 1536;
+    this.compressionAdaptive = builder.compressionAdaptive != null && builder.compressionAdaptive;
   }
 
   private void initializeTransactionConfig(Builder builder) {
@@ -338,8 +361,11 @@ public class Configuration {
     this.dumpQueriesOnException =
         builder.dumpQueriesOnException != null && builder.dumpQueriesOnException;
     this.prepStmtCacheSize = builder.prepStmtCacheSize != null ? builder.prepStmtCacheSize : 250;
+    this.sqlParseCacheSize = builder.sqlParseCacheSize != null ? builder.sqlParseCacheSize : 0;
     this.useAffectedRows = builder.useAffectedRows != null && builder.useAffectedRows;
     this.useServerPrepStmts = builder.useServerPrepStmts != null && builder.useServerPrepStmts;
+    this.serverPrepareThreshold =
+        builder.serverPrepareThreshold != null ? builder.serverPrepareThreshold : 0;
     this.connectionAttributes = builder.connectionAttributes;
     this.allowLocalInfile = builder.allowLocalInfile == null || builder.allowLocalInfile;
     this.allowMultiQueries = builder.allowMultiQueries != null && builder.allowMultiQueries;
@@ -351,6 +377,9 @@ public class Configuration {
         builder.useBulkStmtsForInserts != null
             ? builder.useBulkStmtsForInserts
             : (builder.useBulkStmts == null || builder.useBulkStmts);
+    this.rewriteBatchedStatements =
+        builder.rewriteBatchedStatements != null && builder.rewriteBatchedStatements;
+    this.bulkChunkWindow = builder.bulkChunkWindow != null ? builder.bulkChunkWindow : 0;
   }
 
   private void initializePipelineConfig(Builder builder) {
@@ -428,6 +457,14 @@ public class Configuration {
   private void initializeAdditionalConfig(Builder builder) {
     this.servicePrincipalName = builder.servicePrincipalName;
     this.defaultFetchSize = builder.defaultFetchSize != null ? builder.defaultFetchSize : 0;
+    this.useCompactRowStorage =
+        builder.useCompactRowStorage != null && builder.useCompactRowStorage;
+    this.streamingPrefetch = builder.streamingPrefetch != null && builder.streamingPrefetch;
+    this.streamingMemoryBudget =
+        builder.streamingMemoryBudget != null ? builder.streamingMemoryBudget : 0;
+    this.resultSetSpillThreshold =
+        builder.resultSetSpillThreshold != null ? builder.resultSetSpillThreshold : 0;
+    this.deduplicateStrings = builder.deduplicateStrings != null && builder.deduplicateStrings;
     this.tlsSocketType = builder.tlsSocketType;
     this.maxQuerySizeToLog = builder.maxQuerySizeToLog != null ? builder.maxQuerySizeToLog : 1024;
     this.maxAllowedPacket = builder.maxAllowedPacket;
@@ -564,6 +601,11 @@ public class Configuration {
             .transactionIsolation(
                 transactionIsolation == null ? null : this.transactionIsolation.getValue())
             .defaultFetchSize(this.defaultFetchSize)
+            .useCompactRowStorage(this.useCompactRowStorage)
+            .streamingPrefetch(this.streamingPrefetch)
+            .streamingMemoryBudget(this.streamingMemoryBudget)
+            .resultSetSpillThreshold(this.resultSetSpillThreshold)
+            .deduplicateStrings(this.deduplicateStrings)
             .maxQuerySizeToLog(this.maxQuerySizeToLog)
             .maxAllowedPacket(this.maxAllowedPacket)
             .geometryDefaultType(this.geometryDefaultType)
@@ -583,6 +625,7 @@ public class Configuration {
             .localSocketAddress(this.localSocketAddress)
             .socketTimeout(this.socketTimeout)
             .useReadAheadInput(this.useReadAheadInput)
+            .useSocketChannel(this.useSocketChannel)
             .tlsSocketType(this.tlsSocketType)
             .sslMode(this.sslMode.name())
             .serverSslCert(this.serverSslCert)
@@ -600,13 +643,20 @@ public class Configuration {
             .allowMultiQueries(this.allowMultiQueries)
             .allowLocalInfile(this.allowLocalInfile)
             .useCompression(this.useCompression)
+            .compressionLevel(this.compressionLevel)
+            .compressionMinSize(this.compressionMinSize)
+            .compressionAdaptive(this.compressionAdaptive)
             .useAffectedRows(this.useAffectedRows)
             .useBulkStmts(this.useBulkStmts)
             .useBulkStmtsForInserts(this.useBulkStmtsForInserts)
+            .rewriteBatchedStatements(this.rewriteBatchedStatements)
+            .bulkChunkWindow(this.bulkChunkWindow)
             .disablePipeline(this.disablePipeline)
             .cachePrepStmts(this.cachePrepStmts)
             .prepStmtCacheSize(this.prepStmtCacheSize)
+            .sqlParseCacheSize(this.sqlParseCacheSize)
             .useServerPrepStmts(this.useServerPrepStmts)
+            .serverPrepareThreshold(this.serverPrepareThreshold)
             .credentialType(this.credentialType == null ? null : this.credentialType.type())
             .sessionVariables(this.sessionVariables)
             .connectionAttributes(this.connectionAttributes)
@@ -1682,6 +1732,33 @@ public class Configuration {
     return useCompression;
   }
 
+  /**
+   * Compression level (0-9) used when compression is enabled
+   *
+   * @return compression level
+   */
+  public int compressionLevel() {
+    return compressionLevel;
+  }
+
+  /**
+   * Minimum packet size for compression to be applied
+   *
+   * @return minimum packet size to compress
+   */
+  public int compressionMinSize() {
+    return compressionMinSize;
+  }
+
+  /**
+   * Must compression be temporary disabled when packets don't compress well
+   *
+   * @return must compression be adaptive
+   */
+  public boolean compressionAdaptive() {
+    return compressionAdaptive;
+  }
+
   /**
    * force returning blank table metadata (for old oracle compatibility)
    *
@@ -1828,6 +1905,16 @@ public class Configuration {
     return prepStmtCacheSize;
   }
 
+  /**
+   * Maximum number of client side parsed SQL commands kept in cache, shared by connections of a
+   * pool. 0 disables cache.
+   *
+   * @return sql parse cache size
+   */
+  public int sqlParseCacheSize() {
+    return sqlParseCacheSize;
+  }
+
   /**
    * Use affected row
    *
@@ -1846,6 +1933,17 @@ public class Configuration {
     return useServerPrepStmts;
   }
 
+  /**
+   * When option useServerPrepStmts is disabled, number of executions of a same SQL command on a
+   * connection after which new prepared statements for this command are prepared server side. 0
+   * disables adaptive promotion.
+   *
+   * @return server prepare promotion threshold
+   */
+  public int serverPrepareThreshold() {
+    return serverPrepareThreshold;
+  }
+
   /**
    * Connections attributes
    *
@@ -1874,6 +1972,26 @@ public class Configuration {
     return useBulkStmtsForInserts;
   }
 
+  /**
+   * Rewrite client side INSERT batches into multi-values INSERT commands when bulk is not used,
+   * and, when allowMultiQueries is set, Statement batches into multi-statement commands.
+   *
+   * @return must rewrite batches
+   */
+  public boolean rewriteBatchedStatements() {
+    return rewriteBatchedStatements;
+  }
+
+  /**
+   * Maximum number of COM_STMT_BULK_EXECUTE commands of a batch sent without having read their
+   * results. 0 means no limit.
+   *
+   * @return bulk chunk window
+   */
+  public int bulkChunkWindow() {
+    return bulkChunkWindow;
+  }
+
   /**
    * Disable pipeline.
    *
@@ -2036,6 +2154,54 @@ public class Configuration {
     return defaultFetchSize;
   }
 
+  /**
+   * Must complete read-only result-sets store rows in large shared chunks, rather than one array
+   * per row
+   *
+   * @return use compact row storage
+   */
+  public boolean useCompactRowStorage() {
+    return useCompactRowStorage;
+  }
+
+  /**
+   * Must streaming result-sets read next fetch-size batch in background while current one is
+   * processed
+   *
+   * @return use streaming prefetch
+   */
+  public boolean streamingPrefetch() {
+    return streamingPrefetch;
+  }
+
+  /**
+   * Byte budget of a streaming result-set batch. 0 if batches are sized by fetch size only
+   *
+   * @return streaming batch byte budget
+   */
+  public int streamingMemoryBudget() {
+    return streamingMemoryBudget;
+  }
+
+  /**
+   * Size of rows kept in memory by a complete read-only result-set, before remaining rows are
+   * spilled to a temporary file. 0 if never spilled
+   *
+   * @return result-set spill threshold in bytes
+   */
+  public int resultSetSpillThreshold() {
+    return resultSetSpillThreshold;
+  }
+
+  /**
+   * Must repeated string values of low-cardinality columns be decoded to a same String instance
+   *
+   * @return deduplicate strings
+   */
+  public boolean deduplicateStrings() {
+    return deduplicateStrings;
+  }
+
   /**
    * non standard options
    *
@@ -2190,6 +2356,15 @@ public class Configuration {
     return useReadAheadInput;
   }
 
+  /**
+   * Use a NIO SocketChannel transport with pooled direct buffers in place of socket streams
+   *
+   * @return use socket channel transport
+   */
+  public boolean useSocketChannel() {
+    return useSocketChannel;
+  }
+
   /**
    * Cache prepared statement result.
    *
@@ -2320,6 +2495,11 @@ public class Configuration {
     private Boolean pinGlobalTxToPhysicalConnection;
     private Boolean permitNoResults;
     private Integer defaultFetchSize;
+    private Boolean useCompactRowStorage;
+    private Boolean streamingPrefetch;
+    private Integer streamingMemoryBudget;
+    private Integer resultSetSpillThreshold;
+    private Boolean deduplicateStrings;
     private Integer maxQuerySizeToLog;
     private Integer maxAllowedPacket;
     private String geometryDefaultType;
@@ -2341,6 +2521,7 @@ public class Configuration {
     private String localSocketAddress;
     private Integer socketTimeout;
     private Boolean useReadAheadInput;
+    private Boolean useSocketChannel;
     private String tlsSocketType;
 
     // SSL
@@ -2361,14 +2542,21 @@ public class Configuration {
     private Boolean allowMultiQueries;
     private Boolean allowLocalInfile;
     private Boolean useCompression;
+    private Integer compressionLevel;
+    private Integer compressionMinSize;
+    private Boolean compressionAdaptive;
     private Boolean useAffectedRows;
     private Boolean useBulkStmts;
     private Boolean useBulkStmtsForInserts;
+    private Boolean rewriteBatchedStatements;
+    private Integer bulkChunkWindow;
     private Boolean disablePipeline;
     // prepare
     private Boolean cachePrepStmts;
     private Integer prepStmtCacheSize;
+    private Integer sqlParseCacheSize;
     private Boolean useServerPrepStmts;
+    private Integer serverPrepareThreshold;
 
     // authentication
     private String credentialType;
@@ -2890,6 +3078,42 @@ public class Configuration {
       return this;
     }
 
+    /**
+     * Set compression level when using compression, from 0 (no compression) to 9 (best
+     * compression). Default to 6
+     *
+     * @param compressionLevel compression level
+     * @return this {@link Builder}
+     */
+    public Builder compressionLevel(Integer compressionLevel) {
+      this.compressionLevel = compressionLevel;
+      return this;
+    }
+
+    /**
+     * Set minimum packet size for compression to be applied when using compression. Smaller packets
+     * are sent uncompressed. Default to 1536 (single TCP packet)
+     *
+     * @param compressionMinSize minimum packet size to compress
+     * @return this {@link Builder}
+     */
+    public Builder compressionMinSize(Integer compressionMinSize) {
+      this.compressionMinSize = compressionMinSize;
+      return this;
+    }
+
+    /**
+     * When using compression, temporary send packets uncompressed when recent packets show a poor
+     * compression ratio, to avoid spending CPU on incompressible data
+     *
+     * @param compressionAdaptive must compression be adaptive
+     * @return this {@link Builder}
+     */
+    public Builder compressionAdaptive(Boolean compressionAdaptive) {
+      this.compressionAdaptive = compressionAdaptive;
+      return this;
+    }
+
     /**
      * Set blank table name for metadata (old oracle compatibility)
      *
@@ -3080,6 +3304,19 @@ public class Configuration {
       return this;
     }
 
+    /**
+     * Maximum number of client side parsed SQL commands (parameter positions, escape sequences)
+     * kept in a cache. Connections of a pool share the pool cache, a standalone connection has its
+     * own. 0 (default) disables cache.
+     *
+     * @param sqlParseCacheSize sql parse cache size
+     * @return this {@link Builder}
+     */
+    public Builder sqlParseCacheSize(Integer sqlParseCacheSize) {
+      this.sqlParseCacheSize = sqlParseCacheSize;
+      return this;
+    }
+
     /**
      * Indicate server to return affected rows in place of found rows. This impact the return number
      * of rows affected by update
@@ -3103,6 +3340,19 @@ public class Configuration {
       return this;
     }
 
+    /**
+     * When option useServerPrepStmts is disabled, number of executions of a same SQL command on a
+     * connection after which new prepared statements for this command use server side prepare
+     * (binary protocol), reusing prepare cache. 0 (default) disables adaptive promotion.
+     *
+     * @param serverPrepareThreshold number of executions before server side prepare
+     * @return this {@link Builder}
+     */
+    public Builder serverPrepareThreshold(Integer serverPrepareThreshold) {
+      this.serverPrepareThreshold = serverPrepareThreshold;
+      return this;
+    }
+
     /**
      * Additional connection attributes to identify connection
      *
@@ -3137,6 +3387,34 @@ public class Configuration {
       return this;
     }
 
+    /**
+     * When batch doesn't use COM_STMT_BULK_EXECUTE, rewrite client side INSERT ... VALUES (...)
+     * batches into multi-values INSERT commands. When allowMultiQueries is set, Statement batches
+     * are sent combined in multi-statement commands. Commands are limited to maxAllowedPacket (1Mb
+     * if not set). Default to false.
+     *
+     * @param rewriteBatchedStatements must rewrite batches
+     * @return this {@link Builder}
+     */
+    public Builder rewriteBatchedStatements(Boolean rewriteBatchedStatements) {
+      this.rewriteBatchedStatements = rewriteBatchedStatements;
+      return this;
+    }
+
+    /**
+     * When a bulk batch is split in many COM_STMT_BULK_EXECUTE commands (max_allowed_packet),
+     * maximum number of commands sent before reading results of the first ones. Results are then
+     * read while sending remaining commands, avoiding results to fill socket buffers. 0 (default)
+     * means no limit: results are read when the whole batch is sent.
+     *
+     * @param bulkChunkWindow bulk chunk window
+     * @return this {@link Builder}
+     */
+    public Builder bulkChunkWindow(Integer bulkChunkWindow) {
+      this.bulkChunkWindow = bulkChunkWindow;
+      return this;
+    }
+
     /**
      * Disable pipeline
      *
@@ -3346,6 +3624,70 @@ public class Configuration {
       return this;
     }
 
+    /**
+     * Complete read-only result-sets store rows in large shared chunks with an offset index, rather
+     * than one array per row, reducing memory and GC pressure of big result-sets. Default: false
+     *
+     * @param useCompactRowStorage must use compact row storage
+     * @return this {@link Builder}
+     */
+    public Builder useCompactRowStorage(Boolean useCompactRowStorage) {
+      this.useCompactRowStorage = useCompactRowStorage;
+      return this;
+    }
+
+    /**
+     * Forward-only streaming result-sets (using fetch size) read the next batch of rows in
+     * background while the application processes the current one, overlapping network latency with
+     * row processing. Default: false
+     *
+     * @param streamingPrefetch must prefetch next streaming batch
+     * @return this {@link Builder}
+     */
+    public Builder streamingPrefetch(Boolean streamingPrefetch) {
+      this.streamingPrefetch = streamingPrefetch;
+      return this;
+    }
+
+    /**
+     * When using streaming result-sets (fetch size), size batches in bytes rather than in rows: the
+     * number of rows of next batch is computed from the observed average row size, and a batch is
+     * ended once its size reaches this budget. Default: 0 (disabled)
+     *
+     * @param streamingMemoryBudget streaming batch byte budget
+     * @return this {@link Builder}
+     */
+    public Builder streamingMemoryBudget(Integer streamingMemoryBudget) {
+      this.streamingMemoryBudget = streamingMemoryBudget;
+      return this;
+    }
+
+    /**
+     * Once rows of a complete read-only result-set exceed this size in memory, remaining rows are
+     * written to a memory-mapped temporary file, deleted when result-set is closed. Default: 0
+     * (rows always kept in memory)
+     *
+     * @param resultSetSpillThreshold result-set spill threshold in bytes
+     * @return this {@link Builder}
+     */
+    public Builder resultSetSpillThreshold(Integer resultSetSpillThreshold) {
+      this.resultSetSpillThreshold = resultSetSpillThreshold;
+      return this;
+    }
+
+    /**
+     * Decode repeated values of ENUM, SET and short CHAR/VARCHAR columns to a same String instance,
+     * using a small per-column cache, reducing allocation and retained duplicates. Cache disables
+     * itself for columns without repeated values. Default: false
+     *
+     * @param deduplicateStrings must deduplicate strings
+     * @return this {@link Builder}
+     */
+    public Builder deduplicateStrings(Boolean deduplicateStrings) {
+      this.deduplicateStrings = deduplicateStrings;
+      return this;
+    }
+
     /**
      * Permit to defined default tls plugin type
      *
@@ -3528,6 +3870,19 @@ public class Configuration {
       return this;
     }
 
+    /**
+     * Use a NIO SocketChannel transport, reading and writing through pooled direct buffers in place
+     * of socket streams. Only applies to plain TCP connections (no TLS, compression, named pipe,
+     * unix socket or custom socket factory).
+     *
+     * @param useSocketChannel use socket channel transport
+     * @return this {@link Builder}
+     */
+    public Builder useSocketChannel(Boolean useSocketChannel) {
+      this.useSocketChannel = useSocketChannel;
+      return this;
+    }
+
     /**
      * Cache server prepare result
      *
@@ -6,23 +6,37 @@ package org.mariadb.jdbc;
 import java.nio.FloatBuffer;
 import java.sql.*;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.sql.ConnectionEvent;
 import org.mariadb.jdbc.client.Client;
+import org.mariadb.jdbc.client.ColumnDecoder;
+import org.mariadb.jdbc.client.Completion;
 import org.mariadb.jdbc.client.Context;
+import org.mariadb.jdbc.client.impl.AsyncPipeline;
 import org.mariadb.jdbc.client.impl.StandardClient;
+import org.mariadb.jdbc.client.result.CompleteResult;
+import org.mariadb.jdbc.client.result.Result;
 import org.mariadb.jdbc.client.util.ClosableLock;
+import org.mariadb.jdbc.client.util.ExecutionCounter;
+import org.mariadb.jdbc.client.util.ServerPrepareMetrics;
 import org.mariadb.jdbc.export.ExceptionFactory;
+import org.mariadb.jdbc.message.ClientMessage;
 import org.mariadb.jdbc.message.client.ChangeDbPacket;
 import org.mariadb.jdbc.message.client.PingPacket;
 import org.mariadb.jdbc.message.client.QueryPacket;
 import org.mariadb.jdbc.message.client.ResetPacket;
+import org.mariadb.jdbc.message.server.OkPacket;
 import org.mariadb.jdbc.plugin.array.FloatArray;
 import org.mariadb.jdbc.pool.MariaDbInnerPoolConnection;
+import org.mariadb.jdbc.util.BulkLoadInputStream;
+import org.mariadb.jdbc.util.ClientParser;
 import org.mariadb.jdbc.util.NativeSql;
+import org.mariadb.jdbc.util.SqlParseCache;
 import org.mariadb.jdbc.util.constants.Capabilities;
 import org.mariadb.jdbc.util.constants.CatalogTerm;
 import org.mariadb.jdbc.util.constants.ConnectionState;
@@ -42,6 +56,10 @@ public class Connection implements java.sql.Connection {
               + "((`[^`]+`)|([^`\\}(]+)))\\s*(\\(.*\\))?(\\s*/\\*([^*]|\\*[^/])*\\*/)*"
               + "\\s*(#.*)?)\\s*(\\}\\s*)?$",
           Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+  private static final int ER_PARSE_ERROR = 1064;
+  private static final int ER_UNSUPPORTED_PS = 1295;
+  private static final Pattern QUOTED_TABLE_PATTERN =
+      Pattern.compile("`([^`]|``)+`(\\.`([^`]|``)+`)?");
 
   private final ClosableLock lock;
   private final Configuration conf;
@@ -58,6 +76,9 @@ public class Connection implements java.sql.Connection {
   private boolean readOnly;
   private MariaDbPoolConnection poolConnection;
   private QueryTimeoutHandler queryTimeoutHandler;
+  private final AsyncPipeline asyncPipeline;
+  private final ExecutionCounter executionCounter;
+  private SqlParseCache sqlParseCache;
 
   /**
    * Connection construction.
@@ -89,6 +110,13 @@ public class Connection implements java.sql.Connection {
             && context.getVersion().versionGreaterOrEqual(10, 3, 0);
     this.canCachePrepStmts = context.getConf().cachePrepStmts();
     this.defaultFetchSize = context.getConf().defaultFetchSize();
+    this.asyncPipeline = new AsyncPipeline(client, lock);
+    this.executionCounter =
+        conf.serverPrepareThreshold() > 0 && !conf.useServerPrepStmts()
+            ? new ExecutionCounter(
+                conf.serverPrepareThreshold(), Math.max(16, conf.prepStmtCacheSize() * 4))
+            : null;
+    this.sqlParseCache = SqlParseCache.create(conf);
   }
 
   /**
@@ -101,6 +129,15 @@ public class Connection implements java.sql.Connection {
     this.exceptionFactory = exceptionFactory.setPoolConnection(poolConnection);
   }
 
+  /**
+   * Internal method. Use parse cache shared by pool connections
+   *
+   * @param sqlParseCache pool sql parse cache
+   */
+  public void setSqlParseCache(SqlParseCache sqlParseCache) {
+    this.sqlParseCache = sqlParseCache;
+  }
+
   /**
    * Cancels the current query - clones the current protocol and executes a query using the new
    * connection.
@@ -161,22 +198,38 @@ public class Connection implements java.sql.Connection {
       boolean useBinary)
       throws SQLException {
     checkNotClosed();
-    if (useBinary && !sql.startsWith("/*client prepare*/")) {
+    String nativeSql = escapeSql(sql);
+    // adaptive mode: command executed often enough client side is prepared server side
+    boolean promoted =
+        !useBinary && executionCounter != null && executionCounter.isPromoted(nativeSql);
+    if ((useBinary || promoted) && !sql.startsWith("/*client prepare*/")) {
       try {
-        return new ServerPreparedStatement(
-            NativeSql.parse(sql, client.getContext()),
-            this,
-            lock,
-            autoGeneratedKeys,
-            resultSetType,
-            resultSetConcurrency,
-            defaultFetchSize);
+        PreparedStatement prep =
+            new ServerPreparedStatement(
+                nativeSql,
+                this,
+                lock,
+                autoGeneratedKeys,
+                resultSetType,
+                resultSetConcurrency,
+                defaultFetchSize);
+        if (promoted) ServerPrepareMetrics.getInstance().promotedPrepare();
+        return prep;
       } catch (SQLException e) {
         // failover to client
+        if (promoted) {
+          // only a command the server cannot prepare stays client side for good
+          if (e.getErrorCode() == ER_PARSE_ERROR || e.getErrorCode() == ER_UNSUPPORTED_PS) {
+            executionCounter.demote(nativeSql);
+          } else {
+            executionCounter.reset(nativeSql);
+          }
+          ServerPrepareMetrics.getInstance().failedPromotion();
+        }
       }
     }
     return new ClientPreparedStatement(
-        NativeSql.parse(sql, client.getContext()),
+        nativeSql,
         this,
         lock,
         autoGeneratedKeys,
@@ -185,6 +238,43 @@ public class Connection implements java.sql.Connection {
         defaultFetchSize);
   }
 
+  /**
+   * Resolve JDBC escape sequences of a command, using parse cache when option sqlParseCacheSize is
+   * set.
+   *
+   * @param sql command
+   * @return native command
+   * @throws SQLException if escape sequences are wrong
+   */
+  String escapeSql(String sql) throws SQLException {
+    return sqlParseCache != null
+        ? sqlParseCache.nativeSql(sql, client.getContext())
+        : NativeSql.parse(sql, client.getContext());
+  }
+
+  /**
+   * Parse parameter parts of a client side command, using parse cache when option sqlParseCacheSize
+   * is set.
+   *
+   * @param sql command
+   * @param noBackslashEscapes escape mode
+   * @return parsing result
+   */
+  ClientParser parameterParts(String sql, boolean noBackslashEscapes) {
+    return sqlParseCache != null
+        ? sqlParseCache.parameterParts(sql, noBackslashEscapes)
+        : ClientParser.parameterParts(sql, noBackslashEscapes);
+  }
+
+  /**
+   * Count a client side execution of a prepared command, when option serverPrepareThreshold is set.
+   *
+   * @param sql command
+   */
+  void countClientExecution(String sql) {
+    if (executionCounter != null) executionCounter.increment(sql);
+  }
+
   @Override
   public CallableStatement prepareCall(String sql) throws SQLException {
     return prepareCall(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
@@ -193,7 +283,7 @@ public class Connection implements java.sql.Connection {
   @Override
   public String nativeSQL(String sql) throws SQLException {
     checkNotClosed();
-    return NativeSql.parse(sql, client.getContext());
+    return escapeSql(sql);
   }
 
   @Override
@@ -528,7 +618,7 @@ public class Connection implements java.sql.Connection {
               + sql);
     }
 
-    String query = NativeSql.parse(matcher.group(2), client.getContext());
+    String query = escapeSql(matcher.group(2));
 
     boolean isFunction = (matcher.group(3) != null);
     String databaseAndProcedure = matcher.group(8);
@@ -940,6 +1030,168 @@ public class Connection implements java.sql.Connection {
     return queryTimeoutHandler.create(queryTimeout);
   }
 
+  /**
+   * Executes asynchronously the given SQL statement, which returns a single <code>ResultSet</code>
+   * object. Commands are executed in submission order, by a driver I/O thread pipelining all
+   * pending commands of this connection, so many commands can be in flight without a thread per
+   * command.
+   *
+   * <p>Future is completed outside connection lock, so dependant actions can use this connection.
+   * The statement issuing the command is closed when the result-set is closed.
+   *
+   * @param sql an SQL statement to be sent to the database, typically a static SQL <code>SELECT
+   *     </code> statement
+   * @return future completed with a <code>ResultSet</code> object that contains the data produced
+   *     by the given query, or completed exceptionally with a <code>SQLException</code>
+   */
+  public CompletableFuture<ResultSet> executeQueryAsync(String sql) {
+    Statement stmt = createStatement();
+    return executeQueryAsync(new QueryPacket(sql), stmt)
+        .whenComplete((rs, t) -> closeAsyncStatement(stmt, rs));
+  }
+
+  /**
+   * Executes asynchronously the given SQL statement, which may be an <code>INSERT</code>, <code>
+   * UPDATE</code>, or <code>DELETE</code> statement or an SQL statement that returns nothing, such
+   * as an SQL DDL statement. See {@link #executeQueryAsync(String)} for execution details.
+   *
+   * @param sql an SQL Data Manipulation Language (DML) statement
+   * @return future completed with the row count for SQL Data Manipulation Language (DML) statements
+   *     or 0 for SQL statements that return nothing, or completed exceptionally with a <code>
+   *     SQLException</code>
+   */
+  public CompletableFuture<Long> executeLargeUpdateAsync(String sql) {
+    Statement stmt = createStatement();
+    return executeLargeUpdateAsync(new QueryPacket(sql), stmt)
+        .whenComplete((count, t) -> closeAsyncStatement(stmt, null));
+  }
+
+  /**
+   * Close statement created for an asynchronous command, or delay closing until result-set is
+   * closed.
+   *
+   * @param stmt statement created for asynchronous command
+   * @param rs command result-set, if any
+   */
+  private static void closeAsyncStatement(Statement stmt, ResultSet rs) {
+    try {
+      if (rs instanceof Result && ((Result) rs).getStatement() == stmt) {
+        ((Result) rs).closeOnCompletion();
+      } else {
+        stmt.close();
+      }
+    } catch (SQLException e) {
+      // eat
+    }
+  }
+
+  /**
+   * Load rows into a table using LOAD DATA LOCAL INFILE. Rows are encoded on the fly while sent,
+   * without temporary file, so rows can be produced lazily by iterator.
+   *
+   * <p>Values are encoded according to type: <code>null</code> as NULL, <code>byte[]</code> as raw
+   * bytes, Boolean as 1/0, numbers, dates and timestamps in their SQL text form, and any other
+   * object using its <code>toString()</code> value.
+   *
+   * <p>An iterator failure, or a row not having the column number of values, interrupts the file
+   * transfer and closes the connection.
+   *
+   * @param table table name, possibly qualified with database name ("db.table"). Table is quoted
+   *     like column names, unless already quoted
+   * @param columns column names, in row value order
+   * @param rows row iterator
+   * @return number of inserted rows
+   * @throws SQLException if option <code>allowLocalInfile</code> is disabled, if no column is
+   *     given, or if load fails
+   */
+  public long bulkLoad(String table, String[] columns, Iterator<Object[]> rows)
+      throws SQLException {
+    checkNotClosed();
+    if (columns == null || columns.length == 0) {
+      throw exceptionFactory.create("bulk load requires at least one column", "42000");
+    }
+    if (!getContext().hasClientCapability(Capabilities.LOCAL_FILES)) {
+      throw exceptionFactory.create(
+          "bulk load requires LOAD DATA LOCAL INFILE, enabled with option 'allowLocalInfile'",
+          "0A000");
+    }
+    StringBuilder sql =
+        new StringBuilder("LOAD DATA LOCAL INFILE 'bulkLoad' INTO TABLE ")
+            .append(enquoteTable(table))
+            .append(' ')
+            .append(BulkLoadInputStream.FORMAT)
+            .append(" (");
+    for (int i = 0; i < columns.length; i++) {
+      if (i > 0) sql.append(',');
+      sql.append(Driver.enquoteIdentifier(columns[i], false));
+    }
+    sql.append(')');
+
+    try (Statement stmt = createStatement()) {
+      stmt.setLocalInfileInputStream(new BulkLoadInputStream(rows, columns.length));
+      return stmt.executeLargeUpdate(sql.toString());
+    }
+  }
+
+  private static String enquoteTable(String table) throws SQLException {
+    if (QUOTED_TABLE_PATTERN.matcher(table).matches()) return table;
+    int dot = table.indexOf('.');
+    if (dot > 0 && table.indexOf('`') < 0) {
+      return Driver.enquoteIdentifier(table.substring(0, dot), false)
+          + "."
+          + Driver.enquoteIdentifier(table.substring(dot + 1), false);
+    }
+    return Driver.enquoteIdentifier(table, false);
+  }
+
+  /**
+   * Internal : queue a command returning a result-set in asynchronous pipeline
+   *
+   * @param message client message
+   * @param stmt statement
+   * @return future result-set
+   */
+  CompletableFuture<ResultSet> executeQueryAsync(ClientMessage message, Statement stmt) {
+    return asyncPipeline
+        .submit(message, stmt)
+        .thenApply(
+            completions -> {
+              for (Completion completion : completions) {
+                if (completion instanceof Result) return (Result) completion;
+              }
+              if (conf.permitNoResults()) {
+                return new CompleteResult(
+                    new ColumnDecoder[0], new byte[0][], getContext(), stmt.getResultSetType());
+              }
+              throw new CompletionException(
+                  exceptionFactory.create(
+                      "Asynchronous query command does NOT return a result-set as expected"));
+            });
+  }
+
+  /**
+   * Internal : queue an update command in asynchronous pipeline
+   *
+   * @param message client message
+   * @param stmt statement
+   * @return future update count
+   */
+  CompletableFuture<Long> executeLargeUpdateAsync(ClientMessage message, Statement stmt) {
+    return asyncPipeline
+        .submit(message, stmt)
+        .thenApply(
+            completions -> {
+              for (Completion completion : completions) {
+                if (completion instanceof OkPacket)
+                  return ((OkPacket) completion).getAffectedRows();
+                if (completion instanceof Result) break;
+              }
+              throw new CompletionException(
+                  exceptionFactory.create(
+                      "the given SQL statement produces an unexpected ResultSet object", "HY000"));
+            });
+  }
+
   /**
    * Internal : retrieve internal ClosableLock
    *
@@ -15,6 +15,7 @@ import org.mariadb.jdbc.client.result.Result;
 import org.mariadb.jdbc.client.util.ClosableLock;
 import org.mariadb.jdbc.client.util.Parameters;
 import org.mariadb.jdbc.export.ExceptionFactory;
+import org.mariadb.jdbc.export.Prepare;
 import org.mariadb.jdbc.message.ClientMessage;
 import org.mariadb.jdbc.message.client.ExecutePacket;
 import org.mariadb.jdbc.message.client.PrepareExecutePacket;
@@ -32,6 +33,12 @@ public class ServerPreparedStatement extends BasePreparedStatement {
   private static final Pattern PREPARABLE_STATEMENT_PATTERN =
       Pattern.compile("^(SELECT|UPDATE|INSERT|DELETE|REPLACE|DO|CALL)", Pattern.CASE_INSENSITIVE);
 
+  /** asynchronous executions not run yet, guarded by lock */
+  private int asyncPending;
+
+  /** prepare of closed statement, released once asynchronous executions have run */
+  private Prepare asyncClosedPrepare;
+
   /**
    * Server prepare statement constructor
    *
@@ -82,6 +89,10 @@ public class ServerPreparedStatement extends BasePreparedStatement {
         executeStandard(cmd);
       }
     } catch (SQLException e) {
+      // types may not have been recorded by server: send them again next time
+      if (prepareResult instanceof PrepareResultPacket) {
+        ((PrepareResultPacket) prepareResult).resetParameterTypesSent();
+      }
       results = null;
       currResult = null;
       throw e;
@@ -90,6 +101,41 @@ public class ServerPreparedStatement extends BasePreparedStatement {
     }
   }
 
+  @Override
+  @SuppressWarnings("try")
+  protected ClientMessage asyncMessage() throws SQLException {
+    validParameters();
+    String cmd = escapeTimeout(sql);
+    if (prepareResult == null && con.cachePrepStmts())
+      prepareResult = con.getContext().getPrepareCacheCmd(cmd, this);
+    if (prepareResult == null) {
+      // prepare synchronously once, so queued executions all use the same prepared statement
+      try (ClosableLock ignore = lock.closeableLock()) {
+        con.getClient().execute(new PreparePacket(cmd), this, true);
+      }
+    }
+    ExecutePacket message = new ExecutePacket(prepareResult, parameters.clone(), cmd, this, null);
+    // prepare must stay open until execution has run, even if statement is closed
+    try (ClosableLock ignore = lock.closeableLock()) {
+      asyncPending++;
+    }
+    return message;
+  }
+
+  @Override
+  @SuppressWarnings("try")
+  protected void asyncCompleted() {
+    try (ClosableLock ignore = lock.closeableLock()) {
+      if (--asyncPending == 0 && asyncClosedPrepare != null) {
+        Prepare prepare = asyncClosedPrepare;
+        asyncClosedPrepare = null;
+        prepare.decrementUse(con.getClient(), this);
+      }
+    } catch (SQLException e) {
+      // eat
+    }
+  }
+
   /**
    * Send COM_STMT_PREPARE + COM_STMT_EXECUTE, then read for the 2 answers
    *
@@ -558,10 +604,17 @@ public class ServerPreparedStatement extends BasePreparedStatement {
   }
 
   @Override
+  @SuppressWarnings("try")
   public void close() throws SQLException {
-    if (prepareResult != null) {
-      prepareResult.decrementUse(con.getClient(), this);
-      prepareResult = null;
+    try (ClosableLock ignore = lock.closeableLock()) {
+      if (prepareResult != null) {
+        if (asyncPending > 0) {
+          asyncClosedPrepare = prepareResult;
+        } else {
+          prepareResult.decrementUse(con.getClient(), this);
+        }
+        prepareResult = null;
+      }
     }
     con.fireStatementClosed(this);
     super.close();
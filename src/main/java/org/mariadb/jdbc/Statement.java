@@ -13,12 +13,15 @@ import org.mariadb.jdbc.client.Completion;
 import org.mariadb.jdbc.client.DataType;
 import org.mariadb.jdbc.client.result.CompleteResult;
 import org.mariadb.jdbc.client.result.Result;
+import org.mariadb.jdbc.client.result.ResultSetPublisher;
 import org.mariadb.jdbc.client.util.ClosableLock;
 import org.mariadb.jdbc.export.ExceptionFactory;
+import org.mariadb.jdbc.export.RowMapper;
+import org.mariadb.jdbc.export.RowPublisher;
+import org.mariadb.jdbc.message.client.MultiQueryBatchPacket;
 import org.mariadb.jdbc.message.client.QueryPacket;
 import org.mariadb.jdbc.message.server.OkPacket;
 import org.mariadb.jdbc.util.ClientParser;
-import org.mariadb.jdbc.util.NativeSql;
 import org.mariadb.jdbc.util.constants.ColumnFlags;
 import org.mariadb.jdbc.util.constants.ServerStatus;
 import org.mariadb.jdbc.util.timeout.QueryTimeoutHandler;
@@ -149,6 +152,23 @@ public class Statement implements java.sql.Statement {
             + " Statement.execute(), Statement.executeUpdate(), or correct command");
   }
 
+  /**
+   * Create a publisher of the rows returned by the given query. Query is executed on first
+   * subscriber request, then rows are read from socket according to subscriber demand, see {@link
+   * RowPublisher}.
+   *
+   * <p>Like any streaming result-set, connection cannot be used for another command without loading
+   * remaining rows in memory until publication is completed or cancelled.
+   *
+   * @param sql an SQL statement that returns a single result-set
+   * @param mapper row mapper
+   * @param <T> row type
+   * @return row publisher
+   */
+  public <T> RowPublisher<T> executeQueryPublisher(String sql, RowMapper<T> mapper) {
+    return new ResultSetPublisher<>(this, () -> executeQuery(sql), mapper);
+  }
+
   /**
    * Executes the given SQL statement, which may be an <code>INSERT</code>, <code>UPDATE</code>, or
    * <code>DELETE</code> statement or an SQL statement that returns nothing, such as an SQL DDL
@@ -651,7 +671,7 @@ public class Statement implements java.sql.Statement {
       throw exceptionFactory().create("null cannot be set to addBatch(String sql)");
     }
     if (batchQueries == null) batchQueries = new ArrayList<>();
-    batchQueries.add(escape ? NativeSql.parse(sql, con.getContext()) : sql);
+    batchQueries.add(escape ? con.escapeSql(sql) : sql);
   }
 
   /**
@@ -738,6 +758,14 @@ public class Statement implements java.sql.Statement {
         }
       }
 
+      if (!possibleLoadLocal && canCombineBatch()) {
+        long[] counts = executeInternalBatchMultiQuery(false);
+        int[] updates = new int[counts.length];
+        for (int i = 0; i < counts.length; i++) updates[i] = (int) counts[i];
+        currResult = results.remove(0);
+        return updates;
+      }
+
       List<Completion> res =
           possibleLoadLocal ? executeInternalBatchStandard() : executeInternalBatchPipeline();
 
@@ -944,7 +972,7 @@ public class Statement implements java.sql.Statement {
   protected void parseCommandIfNeeded(String sql) {
     if (clientParser == null && sql != null) {
       clientParser =
-          ClientParser.parameterParts(
+          con.parameterParts(
               sql, (con.getContext().getServerStatus() & ServerStatus.NO_BACKSLASH_ESCAPES) > 0);
     }
   }
@@ -1149,7 +1177,7 @@ public class Statement implements java.sql.Statement {
    * @throws SQLException if fails to escape sql
    */
   protected String escapeTimeout(final String sql) throws SQLException {
-    String escapedSql = escape ? NativeSql.parse(sql, con.getContext()) : sql;
+    String escapedSql = escape ? con.escapeSql(sql) : sql;
     if (queryTimeout != 0 && con.useServerTimeout()) {
       if (con.useServerMaxRows() && maxRows > 0) {
         return "SET STATEMENT max_statement_time="
@@ -1566,6 +1594,12 @@ public class Statement implements java.sql.Statement {
         }
       }
 
+      if (!possibleLoadLocal && canCombineBatch()) {
+        long[] updates = executeInternalBatchMultiQuery(true);
+        currResult = results.remove(0);
+        return updates;
+      }
+
       List<Completion> res =
           possibleLoadLocal ? executeInternalBatchStandard() : executeInternalBatchPipeline();
 
@@ -1612,6 +1646,72 @@ public class Statement implements java.sql.Statement {
             false);
   }
 
+  private boolean canCombineBatch() {
+    Configuration conf = con.getContext().getConf();
+    return batchQueries.size() > 1 && conf.allowMultiQueries() && conf.rewriteBatchedStatements();
+  }
+
+  /**
+   * Execute batch combining consecutive queries in multi-statement commands, limited to
+   * max_allowed_packet. Queries that are multi-statement or CALL (possibly returning multiple
+   * results), or that begin with a comment, are sent alone.
+   *
+   * @param largeUpdateCounts indicate if error must report update counts as long
+   * @return update counts
+   * @throws SQLException if any error occurs
+   */
+  private long[] executeInternalBatchMultiQuery(boolean largeUpdateCounts) throws SQLException {
+    boolean noBackslashEscapes =
+        (con.getContext().getServerStatus() & ServerStatus.NO_BACKSLASH_ESCAPES) > 0;
+    List<String> queries = new ArrayList<>(batchQueries.size());
+    boolean[] combinable = new boolean[batchQueries.size()];
+    for (int i = 0; i < batchQueries.size(); i++) {
+      String sql = batchQueries.get(i);
+      // remove ending ";" that would result in empty statement
+      int end = sql.length();
+      while (end > 0 && (sql.charAt(end - 1) <= ' ' || sql.charAt(end - 1) == ';')) end--;
+      int start = 0;
+      while (start < end && sql.charAt(start) <= ' ') start++;
+      // query beginning with a comment might hide a CALL
+      combinable[i] =
+          end > start
+              && !sql.regionMatches(true, start, "CALL", 0, 4)
+              && !sql.startsWith("/*", start)
+              && !sql.startsWith("--", start)
+              && !sql.startsWith("#", start)
+              && !con.parameterParts(sql, noBackslashEscapes).isMultiQuery();
+      queries.add(combinable[i] ? sql.substring(0, end) : sql);
+    }
+
+    MultiQueryBatchPacket packet =
+        new MultiQueryBatchPacket(
+            queries, combinable, con.getContext().getConf().maxAllowedPacket());
+    try {
+      results =
+          con.getClient()
+              .execute(
+                  packet,
+                  this,
+                  0,
+                  0L,
+                  ResultSet.CONCUR_READ_ONLY,
+                  ResultSet.TYPE_FORWARD_ONLY,
+                  closeOnCompletion,
+                  false);
+      return packet.getUpdateCounts();
+    } catch (SQLException sqle) {
+      long[] counts = packet.getUpdateCounts();
+      if (largeUpdateCounts) {
+        throw new BatchUpdateException(
+            sqle.getMessage(), sqle.getSQLState(), sqle.getErrorCode(), counts, sqle);
+      }
+      int[] updateCounts = new int[counts.length];
+      for (int i = 0; i < counts.length; i++) updateCounts[i] = (int) counts[i];
+      throw new BatchUpdateException(
+          sqle.getMessage(), sqle.getSQLState(), sqle.getErrorCode(), updateCounts, sqle);
+    }
+  }
+
   /**
    * basic implementation Send batch query per query.
    *
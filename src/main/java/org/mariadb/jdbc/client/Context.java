@@ -212,6 +212,13 @@ public interface Context {
   /** Reset prepare cache (after a failover) */
   void resetPrepareCache();
 
+  /**
+   * Prepare cache, with its hit, miss and eviction statistics
+   *
+   * @return prepare cache, null if option cachePrepStmts is disabled
+   */
+  PrepareCache getPrepareCache();
+
   /**
    * return connection current state change flag
    *
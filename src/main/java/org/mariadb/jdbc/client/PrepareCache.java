@@ -4,30 +4,47 @@
 package org.mariadb.jdbc.client;
 
 import org.mariadb.jdbc.BasePreparedStatement;
+import org.mariadb.jdbc.client.util.PrepareCacheStatistics;
 import org.mariadb.jdbc.export.Prepare;
 
 /** LRU Prepare cache */
 public interface PrepareCache {
 
   /**
-   * Get cache value for key
+   * Get cache value for command
    *
-   * @param key key
+   * @param database current database
+   * @param sql sql command
    * @param preparedStatement prepared statement
    * @return Prepare value
    */
-  Prepare get(String key, BasePreparedStatement preparedStatement);
+  Prepare get(String database, String sql, BasePreparedStatement preparedStatement);
 
   /**
    * Add a prepare cache value
    *
-   * @param key key
+   * @param database current database
+   * @param sql sql command
    * @param result value
    * @param preparedStatement prepared statement
    * @return Prepare if was already cached
    */
-  Prepare put(String key, Prepare result, BasePreparedStatement preparedStatement);
+  Prepare put(String database, String sql, Prepare result, BasePreparedStatement preparedStatement);
 
   /** Reset cache */
   void reset();
+
+  /**
+   * Number of cached prepares
+   *
+   * @return cache size
+   */
+  int size();
+
+  /**
+   * Cache hit, miss and eviction counters
+   *
+   * @return cache statistics
+   */
+  PrepareCacheStatistics getStatistics();
 }
@@ -16,15 +16,22 @@ import org.mariadb.jdbc.client.Context;
 import org.mariadb.jdbc.client.DataType;
 import org.mariadb.jdbc.client.ReadableByteBuf;
 import org.mariadb.jdbc.client.util.MutableInt;
+import org.mariadb.jdbc.client.util.StringCache;
 import org.mariadb.jdbc.message.server.ColumnDefinitionPacket;
 import org.mariadb.jdbc.plugin.codec.LocalDateTimeCodec;
 import org.mariadb.jdbc.plugin.codec.LocalTimeCodec;
 import org.mariadb.jdbc.util.CharsetEncodingLength;
+import org.mariadb.jdbc.util.constants.ColumnFlags;
 
 /** Column metadata definition */
 public class StringColumn extends ColumnDefinitionPacket implements ColumnDecoder {
   private static final int NULL_LENGTH = -1;
 
+  /** string deduplication cache, for low-cardinality columns */
+  private StringCache stringCache;
+
+  private boolean stringCacheInitialized;
+
   /**
    * VARCHAR/STRING/VARSTRING metadata type decoder
    *
@@ -146,7 +153,7 @@ public class StringColumn extends ColumnDefinitionPacket implements ColumnDecode
       buf.readBytes(arr);
       return arr;
     }
-    return buf.readString(length.get());
+    return readString(buf, length.get(), context);
   }
 
   @Override
@@ -158,7 +165,7 @@ public class StringColumn extends ColumnDefinitionPacket implements ColumnDecode
       buf.readBytes(arr);
       return arr;
     }
-    return buf.readString(length.get());
+    return readString(buf, length.get(), context);
   }
 
   @Override
@@ -205,14 +212,43 @@ public class StringColumn extends ColumnDefinitionPacket implements ColumnDecode
   public String decodeStringText(
       final ReadableByteBuf buf, final MutableInt length, final Calendar cal, final Context context)
       throws SQLDataException {
-    return buf.readString(length.get());
+    return readString(buf, length.get(), context);
   }
 
   @Override
   public String decodeStringBinary(
       final ReadableByteBuf buf, final MutableInt length, final Calendar cal, final Context context)
       throws SQLDataException {
-    return buf.readString(length.get());
+    return readString(buf, length.get(), context);
+  }
+
+  private String readString(final ReadableByteBuf buf, final int length, final Context context) {
+    if (!stringCacheInitialized) {
+      if (context.getConf().deduplicateStrings() && isLowCardinality()) {
+        stringCache = new StringCache();
+      }
+      stringCacheInitialized = true;
+    }
+    return stringCache == null ? buf.readString(length) : stringCache.readString(buf, length);
+  }
+
+  /**
+   * Indicate if column values are expected to be often repeated: ENUM/SET, or short text columns
+   *
+   * @return true if column is expected to have low cardinality
+   */
+  private boolean isLowCardinality() {
+    if (dataType == DataType.ENUM
+        || dataType == DataType.SET
+        || (getFlags() & (ColumnFlags.ENUM | ColumnFlags.SET)) != 0) {
+      return true;
+    }
+    return (dataType == DataType.VARCHAR
+            || dataType == DataType.VARSTRING
+            || dataType == DataType.STRING)
+        && !isBinary()
+        && columnLength > 0
+        && getDisplaySize() <= StringCache.MAX_LENGTH;
   }
 
   @Override
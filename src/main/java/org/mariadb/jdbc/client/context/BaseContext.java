@@ -183,18 +183,22 @@ public class BaseContext implements Context {
   }
 
   public Prepare getPrepareCacheCmd(String sql, BasePreparedStatement preparedStatement) {
-    return prepareCache.get(database + "|" + sql, preparedStatement);
+    return prepareCache.get(database, sql, preparedStatement);
   }
 
   public Prepare putPrepareCacheCmd(
       String sql, Prepare result, BasePreparedStatement preparedStatement) {
-    return prepareCache.put(database + "|" + sql, result, preparedStatement);
+    return prepareCache.put(database, sql, result, preparedStatement);
   }
 
   public void resetPrepareCache() {
     if (prepareCache != null) prepareCache.reset();
   }
 
+  public PrepareCache getPrepareCache() {
+    return prepareCache;
+  }
+
   public int getStateFlag() {
     return stateFlag;
   }
@@ -0,0 +1,196 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.client.impl;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.mariadb.jdbc.Statement;
+import org.mariadb.jdbc.client.Client;
+import org.mariadb.jdbc.client.Completion;
+import org.mariadb.jdbc.client.util.ClosableLock;
+import org.mariadb.jdbc.client.util.SchedulerProvider;
+import org.mariadb.jdbc.message.ClientMessage;
+
+/**
+ * Asynchronous command queue of a connection. Submitted commands are sent by an I/O executor thread
+ * using pipelining: all queued commands (up to {@link #MAX_PIPELINE}) are sent, then all responses
+ * are read, under connection lock. Futures are completed once lock is released, so dependant
+ * actions can use connection.
+ */
+public class AsyncPipeline {
+
+  /** maximum number of commands sent before reading responses */
+  private static final int MAX_PIPELINE = 64;
+
+  private final Client client;
+  private final ClosableLock lock;
+  private final boolean usePipeline;
+  private final ConcurrentLinkedQueue<Command> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean running = new AtomicBoolean();
+
+  /**
+   * Constructor
+   *
+   * @param client connection client
+   * @param lock connection lock
+   */
+  public AsyncPipeline(Client client, ClosableLock lock) {
+    this.client = client;
+    this.lock = lock;
+    this.usePipeline =
+        client instanceof StandardClient && !client.getContext().getConf().disablePipeline();
+  }
+
+  /**
+   * Queue a command to be executed asynchronously.
+   *
+   * @param message client message
+   * @param stmt statement
+   * @return future completed with command results
+   */
+  public CompletableFuture<List<Completion>> submit(ClientMessage message, Statement stmt) {
+    Command command;
+    try {
+      command = new Command(message, stmt);
+    } catch (SQLException e) {
+      CompletableFuture<List<Completion>> future = new CompletableFuture<>();
+      future.completeExceptionally(e);
+      return future;
+    }
+    queue.offer(command);
+    schedule();
+    return command.future;
+  }
+
+  private void schedule() {
+    if (!queue.isEmpty() && running.compareAndSet(false, true)) {
+      try {
+        SchedulerProvider.getAsyncExecutor().execute(this::drain);
+      } catch (RuntimeException e) {
+        running.set(false);
+        Command command;
+        while ((command = queue.poll()) != null) {
+          command.future.completeExceptionally(e);
+        }
+      }
+    }
+  }
+
+  @SuppressWarnings("try")
+  private void drain() {
+    List<Command> commands = new ArrayList<>();
+    try {
+      Command command;
+      while (commands.size() < MAX_PIPELINE && (command = queue.poll()) != null) {
+        commands.add(command);
+      }
+      if (commands.isEmpty()) return;
+
+      try (ClosableLock ignore = lock.closeableLock()) {
+        if (usePipeline) {
+          executePipeline((StandardClient) client, commands);
+        } else {
+          for (Command cmd : commands) {
+            try {
+              cmd.results =
+                  client.execute(
+                      cmd.message,
+                      cmd.stmt,
+                      cmd.fetchSize,
+                      cmd.maxRows,
+                      cmd.resultSetConcurrency,
+                      cmd.resultSetType,
+                      false,
+                      false);
+            } catch (SQLException e) {
+              cmd.error = e;
+            }
+          }
+        }
+      }
+
+      // complete outside lock
+      for (Command cmd : commands) {
+        if (cmd.error != null) {
+          cmd.future.completeExceptionally(cmd.error);
+        } else {
+          cmd.future.complete(cmd.results);
+        }
+      }
+    } catch (Throwable t) {
+      for (Command cmd : commands) {
+        cmd.future.completeExceptionally(t);
+      }
+    } finally {
+      running.set(false);
+      schedule();
+    }
+  }
+
+  private static void executePipeline(StandardClient client, List<Command> commands) {
+    int[] responseMsg = new int[commands.size()];
+    int sent = 0;
+    SQLException sendError = null;
+    for (; sent < commands.size(); sent++) {
+      try {
+        responseMsg[sent] = client.sendQuery(commands.get(sent).message);
+      } catch (SQLException e) {
+        sendError = e;
+        break;
+      }
+    }
+
+    for (int i = 0; i < commands.size(); i++) {
+      Command cmd = commands.get(i);
+      if (i >= sent) {
+        cmd.error = sendError;
+        continue;
+      }
+      List<Completion> results = new ArrayList<>();
+      for (int j = 0; j < responseMsg[i]; j++) {
+        try {
+          results.addAll(
+              client.readResponse(
+                  cmd.stmt,
+                  cmd.message,
+                  cmd.fetchSize,
+                  cmd.maxRows,
+                  cmd.resultSetConcurrency,
+                  cmd.resultSetType,
+                  false));
+        } catch (SQLException e) {
+          // keep reading remaining responses of this command
+          if (cmd.error == null) cmd.error = e;
+        }
+      }
+      cmd.results = results;
+    }
+  }
+
+  /** Queued command. Statement options are read at submission, statement might be closed since. */
+  private static final class Command {
+    private final ClientMessage message;
+    private final Statement stmt;
+    private final int fetchSize;
+    private final long maxRows;
+    private final int resultSetConcurrency;
+    private final int resultSetType;
+    private final CompletableFuture<List<Completion>> future = new CompletableFuture<>();
+    private List<Completion> results;
+    private SQLException error;
+
+    private Command(ClientMessage message, Statement stmt) throws SQLException {
+      this.message = message;
+      this.stmt = stmt;
+      this.fetchSize = stmt.getFetchSize();
+      this.maxRows = stmt.getLargeMaxRows();
+      this.resultSetConcurrency = stmt.getResultSetConcurrency();
+      this.resultSetType = stmt.getResultSetType();
+    }
+  }
+}
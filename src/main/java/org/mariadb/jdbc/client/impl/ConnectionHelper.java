@@ -8,6 +8,7 @@ import java.lang.reflect.Constructor;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
+import java.nio.channels.SocketChannel;
 import java.sql.SQLException;
 import java.sql.SQLNonTransientConnectionException;
 import java.sql.SQLTimeoutException;
@@ -92,10 +93,32 @@ public final class ConnectionHelper {
             exp);
       }
     }
+    if (useSocketChannel(conf, hostAddress)) {
+      return SocketChannel.open().socket();
+    }
     socketFactory = SocketFactory.getDefault();
     return socketFactory.createSocket();
   }
 
+  /**
+   * Socket channel transport is only used for plain TCP connections: TLS and compression layers
+   * rely on socket streams. Sockets created by a custom socket factory always use socket streams,
+   * even if channel backed.
+   *
+   * @param conf configuration
+   * @param hostAddress host to connect
+   * @return true if connection must use a socket channel
+   */
+  public static boolean useSocketChannel(Configuration conf, HostAddress hostAddress) {
+    return conf.useSocketChannel()
+        && conf.socketFactory() == null
+        && hostAddress != null
+        && hostAddress.pipe == null
+        && hostAddress.localSocket == null
+        && !conf.useCompression()
+        && !shouldEnableSsl(conf, hostAddress);
+  }
+
   /**
    * Connect socket
    *
@@ -245,7 +268,7 @@ public final class ConnectionHelper {
   }
 
   private static boolean shouldEnableMetadataCache(Configuration configuration) {
-    return configuration.useServerPrepStmts()
+    return (configuration.useServerPrepStmts() || configuration.serverPrepareThreshold() > 0)
         && getBooleanProperty(configuration, "enableSkipMeta", true);
   }
 
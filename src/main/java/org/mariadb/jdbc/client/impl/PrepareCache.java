@@ -3,24 +3,49 @@
 // Copyright (c) 2015-2025 MariaDB Corporation Ab
 package org.mariadb.jdbc.client.impl;
 
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import org.mariadb.jdbc.BasePreparedStatement;
+import org.mariadb.jdbc.client.util.ClosableLock;
+import org.mariadb.jdbc.client.util.PrepareCacheStatistics;
 import org.mariadb.jdbc.export.Prepare;
 import org.mariadb.jdbc.message.server.CachedPrepareResultPacket;
-import org.mariadb.jdbc.message.server.PrepareResultPacket;
 
-/** LRU prepare cache */
-public final class PrepareCache extends LinkedHashMap<String, CachedPrepareResultPacket>
-    implements org.mariadb.jdbc.client.PrepareCache {
-
-  private static final long serialVersionUID = -8922905563713952695L;
+/**
+ * Concurrent LRU prepare cache.
+ *
+ * <p>Lookups are lock-free: entries are indexed by SQL command only, with a chain of entries per
+ * database using this command, so no key is built on each execution. Each lookup stamps the entry
+ * with a logical clock. Insertions, that only occur after a server prepare, are serialized, and
+ * evict the least recently used entries. Chains are never modified, but replaced. Evicted prepares
+ * are closed (COM_STMT_CLOSE) once the lock is released, and only when no statement uses them
+ * anymore.
+ */
+public final class PrepareCache implements org.mariadb.jdbc.client.PrepareCache {
 
   /** cache maximum size */
   private final int maxSize;
 
   /** client */
-  private final transient StandardClient con;
+  private final StandardClient con;
+
+  /** cached entry chains by sql command */
+  private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+  /** insertion lock */
+  private final ClosableLock lock = new ClosableLock();
+
+  /** logical access clock */
+  private final AtomicLong clock = new AtomicLong();
+
+  private final PrepareCacheStatistics statistics = new PrepareCacheStatistics();
+
+  /** number of cached entries, all chains included */
+  private volatile int size;
 
   /**
    * LRU prepare cache constructor
@@ -29,66 +54,129 @@ public final class PrepareCache extends LinkedHashMap<String, CachedPrepareResul
    * @param con client
    */
   public PrepareCache(int size, StandardClient con) {
-    super(size, .75f, true);
     this.maxSize = size;
     this.con = con;
   }
 
-  @Override
-  public boolean removeEldestEntry(Map.Entry<String, CachedPrepareResultPacket> eldest) {
-    if (this.size() > maxSize) {
-      eldest.getValue().unCache(con);
-      return true;
+  public Prepare get(String database, String sql, BasePreparedStatement preparedStatement) {
+    Entry entry = find(entries.get(sql), database);
+    if (entry != null && entry.prepare.incrementUse(preparedStatement)) {
+      entry.lastAccess = clock.incrementAndGet();
+      statistics.hit();
+      return entry.prepare;
     }
-    return false;
+    statistics.miss();
+    return null;
   }
 
-  public synchronized Prepare get(String key, BasePreparedStatement preparedStatement) {
-    CachedPrepareResultPacket prepare = super.get(key);
-    if (prepare != null && preparedStatement != null) {
-      prepare.incrementUse(preparedStatement);
-    }
-    return prepare;
-  }
+  @SuppressWarnings("try")
+  public Prepare put(
+      String database, String sql, Prepare result, BasePreparedStatement preparedStatement) {
+    CachedPrepareResultPacket prepare = (CachedPrepareResultPacket) result;
+    List<CachedPrepareResultPacket> removed = new ArrayList<>();
+    CachedPrepareResultPacket existing = null;
+    int evicted = 0;
+    try (ClosableLock ignore = lock.closeableLock()) {
+      Entry chain = entries.get(sql);
+      Entry entry = find(chain, database);
 
-  public synchronized Prepare put(
-      String key, Prepare result, BasePreparedStatement preparedStatement) {
-    CachedPrepareResultPacket cached = super.get(key);
+      // if there is already some cached data, return existing cached data
+      if (entry != null && entry.prepare.incrementUse(preparedStatement)) {
+        entry.lastAccess = clock.incrementAndGet();
+        existing = entry.prepare;
+        removed.add(prepare);
+      } else if (prepare.cache()) {
+        prepare.incrementUse(preparedStatement);
+        if (entry != null) {
+          // entry being closed
+          removed.add(entry.prepare);
+          chain = without(chain, entry);
+          size--;
+        }
+        entries.put(sql, new Entry(database, prepare, clock.incrementAndGet(), chain));
+        size++;
 
-    // if there is already some cached data, return existing cached data
-    if (cached != null) {
-      cached.incrementUse(preparedStatement);
-      ((CachedPrepareResultPacket) result).unCache(con);
-      return cached;
+        while (size > maxSize) {
+          String eldestSql = null;
+          Entry eldest = null;
+          for (Map.Entry<String, Entry> e : entries.entrySet()) {
+            for (Entry cur = e.getValue(); cur != null; cur = cur.next) {
+              if (eldest == null || cur.lastAccess < eldest.lastAccess) {
+                eldestSql = e.getKey();
+                eldest = cur;
+              }
+            }
+          }
+          if (eldest == null) break;
+          Entry remaining = without(entries.get(eldestSql), eldest);
+          if (remaining == null) {
+            entries.remove(eldestSql);
+          } else {
+            entries.put(eldestSql, remaining);
+          }
+          size--;
+          removed.add(eldest.prepare);
+          evicted++;
+        }
+      }
     }
 
-    if (((CachedPrepareResultPacket) result).cache()) {
-      ((CachedPrepareResultPacket) result).incrementUse(preparedStatement);
-      super.put(key, (CachedPrepareResultPacket) result);
+    // closing outside lock
+    for (CachedPrepareResultPacket prep : removed) {
+      prep.unCache(con);
     }
-    return null;
+    for (int i = 0; i < evicted; i++) {
+      statistics.eviction();
+    }
+    return existing;
   }
 
-  public CachedPrepareResultPacket get(Object key) {
-    throw new IllegalStateException("not available method");
+  private static Entry find(Entry chain, String database) {
+    for (Entry entry = chain; entry != null; entry = entry.next) {
+      if (Objects.equals(entry.database, database)) return entry;
+    }
+    return null;
   }
 
-  /**
-   * NOT USED
-   *
-   * @param key key
-   * @param result results
-   * @return will throw an exception
-   */
-  @SuppressWarnings("unused")
-  public CachedPrepareResultPacket put(String key, PrepareResultPacket result) {
-    throw new IllegalStateException("not available method");
+  /** copy of chain without an entry */
+  private static Entry without(Entry chain, Entry removed) {
+    if (chain == null) return null;
+    if (chain == removed) return chain.next;
+    return new Entry(chain.database, chain.prepare, chain.lastAccess, without(chain.next, removed));
   }
 
+  @SuppressWarnings("try")
   public void reset() {
-    for (CachedPrepareResultPacket prep : values()) {
-      prep.reset();
+    try (ClosableLock ignore = lock.closeableLock()) {
+      for (Entry chain : entries.values()) {
+        for (Entry entry = chain; entry != null; entry = entry.next) {
+          entry.prepare.reset();
+        }
+      }
+      entries.clear();
+      size = 0;
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public PrepareCacheStatistics getStatistics() {
+    return statistics;
+  }
+
+  private static final class Entry {
+    private final String database;
+    private final CachedPrepareResultPacket prepare;
+    private final Entry next;
+    private volatile long lastAccess;
+
+    Entry(String database, CachedPrepareResultPacket prepare, long lastAccess, Entry next) {
+      this.database = database;
+      this.prepare = prepare;
+      this.lastAccess = lastAccess;
+      this.next = next;
     }
-    this.clear();
   }
 }
@@ -12,6 +12,7 @@ import java.net.Socket;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
 import java.net.URLDecoder;
+import java.nio.channels.SocketChannel;
 import java.nio.charset.StandardCharsets;
 import java.security.KeyManagementException;
 import java.security.MessageDigest;
@@ -135,12 +136,21 @@ public class StandardClient implements Client, AutoCloseable {
   }
 
   private void setupConnection(boolean skipPostCommands) throws SQLException, IOException {
-    OutputStream out = socket.getOutputStream();
-    InputStream in =
-        conf.useReadAheadInput()
-            ? new ReadAheadBufferedStream(socket.getInputStream())
-            : new BufferedInputStream(socket.getInputStream(), 16384);
-    assignStream(out, in, conf, null);
+    OutputStream out = null;
+    InputStream in = null;
+    SocketChannel channel =
+        ConnectionHelper.useSocketChannel(conf, hostAddress) ? socket.getChannel() : null;
+    if (channel != null) {
+      // socket channel is only used for plain TCP connections (no TLS, no compression)
+      assignChannel(channel, conf);
+    } else {
+      out = socket.getOutputStream();
+      in =
+          conf.useReadAheadInput()
+              ? new ReadAheadBufferedStream(socket.getInputStream())
+              : new BufferedInputStream(socket.getInputStream(), 16384);
+      assignStream(out, in, conf, null);
+    }
     configureTimeout();
 
     InitialHandshakePacket handshake = handleServerHandshake();
@@ -169,7 +179,7 @@ public class StandardClient implements Client, AutoCloseable {
       InputStream in, OutputStream out, long clientCapabilities, long threadId) {
     if ((clientCapabilities & Capabilities.COMPRESS) != 0) {
       assignStream(
-          new CompressOutputStream(out, compressionSequence),
+          new CompressOutputStream(out, compressionSequence, conf),
           new CompressInputStream(in, compressionSequence),
           conf,
           threadId);
@@ -620,6 +630,21 @@ public class StandardClient implements Client, AutoCloseable {
     this.reader.setServerThreadId(threadId, hostAddress);
   }
 
+  private void assignChannel(SocketChannel channel, Configuration conf) throws IOException {
+    channel.configureBlocking(false);
+    ChannelSelector selector = new ChannelSelector(channel);
+    this.writer =
+        new PacketWriter(
+            new ChannelOutputStream(channel, selector),
+            conf.maxQuerySizeToLog(),
+            conf.maxAllowedPacket(),
+            sequence,
+            compressionSequence);
+    this.writer.setServerThreadId(null, hostAddress);
+    this.reader = new ChannelPacketReader(channel, selector, conf, sequence);
+    this.reader.setServerThreadId(null, hostAddress);
+  }
+
   /** Closing socket in case of Connection error after socket creation. */
   protected void destroySocket() {
     closed = true;
@@ -1033,6 +1058,21 @@ public class StandardClient implements Client, AutoCloseable {
       boolean closeOnCompletion,
       boolean canRedo)
       throws SQLException {
+    if (!disablePipeline
+        && conf.bulkChunkWindow() > 0
+        && messages.length == 2
+        && messages[0] instanceof PreparePacket
+        && messages[1] instanceof BulkExecutePacket) {
+      return executeBulkWindow(
+          messages[0],
+          (BulkExecutePacket) messages[1],
+          stmt,
+          fetchSize,
+          maxRows,
+          resultSetConcurrency,
+          resultSetType,
+          closeOnCompletion);
+    }
     List<Completion> results = new ArrayList<>();
     int perMsgCounter = 0;
     int readCounter = 0;
@@ -1141,6 +1181,17 @@ public class StandardClient implements Client, AutoCloseable {
       boolean closeOnCompletion,
       boolean canRedo)
       throws SQLException {
+    if (message instanceof BulkExecutePacket && conf.bulkChunkWindow() > 0) {
+      return executeBulkWindow(
+          null,
+          (BulkExecutePacket) message,
+          stmt,
+          fetchSize,
+          maxRows,
+          resultSetConcurrency,
+          resultSetType,
+          closeOnCompletion);
+    }
     int nbResp = sendQuery(message);
     if (nbResp == 1) {
       return readResponse(
@@ -1191,6 +1242,139 @@ public class StandardClient implements Client, AutoCloseable {
     }
   }
 
+  /**
+   * Execute a bulk batch, reading results of the first COM_STMT_BULK_EXECUTE commands while sending
+   * the next ones, limiting the number of commands sent without having read their results to
+   * bulkChunkWindow.
+   *
+   * <p>When not already prepared, COM_STMT_PREPARE is sent just before the bulk commands, its
+   * response being read before the first bulk result: a batch sent in a single command then costs
+   * only one round trip.
+   *
+   * @param prepare prepare message sent before bulk commands, if any
+   * @param message bulk message
+   * @param stmt statement that issue the message
+   * @param fetchSize fetch size
+   * @param maxRows maximum number of rows
+   * @param resultSetConcurrency concurrency
+   * @param resultSetType result-set type
+   * @param closeOnCompletion close statement on resultset completion
+   * @return list of result
+   * @throws SQLException if any error occurs
+   */
+  private List<Completion> executeBulkWindow(
+      ClientMessage prepare,
+      BulkExecutePacket message,
+      org.mariadb.jdbc.Statement stmt,
+      int fetchSize,
+      long maxRows,
+      int resultSetConcurrency,
+      int resultSetType,
+      boolean closeOnCompletion)
+      throws SQLException {
+    if (streamStmt != null) {
+      streamStmt.fetchRemaining();
+      streamStmt = null;
+    }
+    int window = conf.bulkChunkWindow();
+    List<Completion> completions = new ArrayList<>();
+    SQLException[] error = new SQLException[1];
+    int[] readCounter = new int[1];
+    int[] prepareResp = new int[] {prepare == null ? 0 : sendQuery(prepare)};
+
+    message.setChunkListener(
+        sentCommands -> {
+          while (sentCommands - readCounter[0] >= window) {
+            while (prepareResp[0] > 0) {
+              prepareResp[0]--;
+              readBulkResults(
+                  stmt,
+                  prepare,
+                  completions,
+                  error,
+                  fetchSize,
+                  maxRows,
+                  resultSetConcurrency,
+                  resultSetType,
+                  closeOnCompletion);
+            }
+            readCounter[0]++;
+            readBulkResults(
+                stmt,
+                message,
+                completions,
+                error,
+                fetchSize,
+                maxRows,
+                resultSetConcurrency,
+                resultSetType,
+                closeOnCompletion);
+          }
+        });
+    int nbResp;
+    try {
+      nbResp = sendQuery(message);
+    } finally {
+      message.setChunkListener(null);
+    }
+    while (prepareResp[0] > 0) {
+      prepareResp[0]--;
+      readBulkResults(
+          stmt,
+          prepare,
+          completions,
+          error,
+          fetchSize,
+          maxRows,
+          resultSetConcurrency,
+          resultSetType,
+          closeOnCompletion);
+    }
+    while (readCounter[0] < nbResp) {
+      readCounter[0]++;
+      readBulkResults(
+          stmt,
+          message,
+          completions,
+          error,
+          fetchSize,
+          maxRows,
+          resultSetConcurrency,
+          resultSetType,
+          closeOnCompletion);
+    }
+    if (error[0] != null) throw error[0];
+    return completions;
+  }
+
+  private void readBulkResults(
+      org.mariadb.jdbc.Statement stmt,
+      ClientMessage message,
+      List<Completion> completions,
+      SQLException[] error,
+      int fetchSize,
+      long maxRows,
+      int resultSetConcurrency,
+      int resultSetType,
+      boolean closeOnCompletion)
+      throws SQLException {
+    try {
+      readResults(
+          stmt,
+          message,
+          completions,
+          fetchSize,
+          maxRows,
+          resultSetConcurrency,
+          resultSetType,
+          closeOnCompletion);
+    } catch (SQLException e) {
+      // connection error stops batch, command error is thrown when all results have been read
+      if (closed) throw e;
+      if (error[0] == null) error[0] = e;
+    }
+  }
+
   /**
    * Read server responses for a client message
    *
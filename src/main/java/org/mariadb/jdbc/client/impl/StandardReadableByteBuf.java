@@ -15,6 +15,15 @@ public final class StandardReadableByteBuf implements ReadableByteBuf {
   /** current position reading buffer */
   public int pos;
 
+  /** data start position, when buffer is shared by multiple rows */
+  public int start;
+
+  /** field start positions of current row, filled lazily by row decoders */
+  public int[] fieldOffsets;
+
+  /** number of fields of current row with known start position in {@link #fieldOffsets} */
+  public int knownOffsets;
+
   /** row data limit */
   private int limit;
 
@@ -57,6 +66,8 @@ public final class StandardReadableByteBuf implements ReadableByteBuf {
     this.buf = buf;
     this.limit = limit;
     this.pos = pos;
+    this.start = pos;
+    this.knownOffsets = 0;
   }
 
   public void pos(int pos) {
@@ -5,6 +5,7 @@ package org.mariadb.jdbc.client.result;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -13,6 +14,7 @@ import org.mariadb.jdbc.Statement;
 import org.mariadb.jdbc.client.ColumnDecoder;
 import org.mariadb.jdbc.client.Context;
 import org.mariadb.jdbc.client.DataType;
+import org.mariadb.jdbc.client.ReadableByteBuf;
 import org.mariadb.jdbc.client.socket.Reader;
 import org.mariadb.jdbc.client.util.ClosableLock;
 
@@ -22,9 +24,25 @@ public class CompleteResult extends Result {
   /** before first row position = initial position */
   protected static final int BEFORE_FIRST_POS = -1;
 
+  private static final int MAX_PACKET_LENGTH = 0xffffff;
+
   private boolean bulkResult;
   private boolean mightBeBulkResult;
 
+  /** compact row storage, null if rows are stored in data array */
+  private RowArena arena;
+
+  /** rows spilled to disk, null if all rows are in memory */
+  private RowSpillFile spill;
+
+  /** index of first spilled row */
+  private int spillStart;
+
+  /** size of in-memory rows before spilling to disk, 0 to never spill */
+  private long spillThreshold;
+
+  private long storedBytes;
+
   /**
    * Constructor from exchanges
    *
@@ -67,7 +85,35 @@ public class CompleteResult extends Result {
         false,
         0);
     this.mightBeBulkResult = mightBeBulkResult;
+    this.spillThreshold = canUseCompactStorage() ? context.getConf().resultSetSpillThreshold() : 0;
+
+    try {
+      if (context.getConf().useCompactRowStorage() && canUseCompactStorage()) {
+        this.arena = new RowArena();
+        this.data = new byte[0][];
+        readCompactRows(reader, maxRows);
+      } else {
+        readRows(reader, maxRows);
+      }
+      if (spill != null) spill.finish();
+    } catch (UncheckedIOException e) {
+      closeSpill();
+      throw e.getCause();
+    } catch (IOException | SQLException e) {
+      closeSpill();
+      throw e;
+    }
+  }
 
+  /**
+   * Read all rows, each row being stored in its own array.
+   *
+   * @param reader packet reader
+   * @param maxRows row number limit
+   * @throws IOException if Socket error occurs
+   * @throws SQLException for all other kind of errors
+   */
+  private void readRows(Reader reader, long maxRows) throws IOException, SQLException {
     this.data = new byte[10][];
     if (maxRows > 0) {
       this.data = new byte[10][];
@@ -104,12 +150,125 @@ public class CompleteResult extends Result {
     }
   }
 
+  /**
+   * Read all rows into compact storage. Rows are copied from reusable packet buffer, without
+   * allocating an array per row.
+   *
+   * @param reader packet reader
+   * @param maxRows row number limit
+   * @throws IOException if Socket error occurs
+   * @throws SQLException for all other kind of errors
+   */
+  private void readCompactRows(Reader reader, long maxRows) throws IOException, SQLException {
+    do {
+      ReadableByteBuf buf = reader.readReusablePacket(traceEnable);
+      byte header = buf.getByte();
+      if (buf.readableBytes() == MAX_PACKET_LENGTH) {
+        // row bigger than a packet: read remaining packets
+        byte[] remaining = reader.readPacket(traceEnable);
+        byte[] packet = new byte[MAX_PACKET_LENGTH + remaining.length];
+        System.arraycopy(buf.buf(), buf.pos(), packet, 0, MAX_PACKET_LENGTH);
+        System.arraycopy(remaining, 0, packet, MAX_PACKET_LENGTH, remaining.length);
+        readNext(packet);
+      } else if (header == (byte) 0xFF || header == (byte) 0xFE) {
+        // error, end of rows, or row beginning with 0xFE: standard handling
+        byte[] packet = new byte[buf.readableBytes()];
+        buf.readBytes(packet);
+        readNext(packet);
+      } else if (!spillRow(buf.buf(), buf.pos(), buf.readableBytes())) {
+        arena.add(buf.buf(), buf.pos(), buf.readableBytes());
+        dataSize++;
+      }
+    } while (!this.loaded && (maxRows <= 0 || this.dataSize < maxRows));
+    if (!this.loaded) skipRemaining();
+  }
+
+  /**
+   * Spill row to disk if in-memory rows exceed threshold.
+   *
+   * @param buf buffer containing row
+   * @param off row offset in buffer
+   * @param len row length
+   * @return true if row has been spilled, false if it must be stored in memory
+   */
+  private boolean spillRow(byte[] buf, int off, int len) {
+    try {
+      if (spill == null) {
+        storedBytes += len;
+        if (spillThreshold <= 0 || storedBytes <= spillThreshold) return false;
+        spill = new RowSpillFile();
+        spillStart = dataSize;
+      }
+      spill.add(buf, off, len);
+      dataSize++;
+      return true;
+    } catch (IOException ioe) {
+      throw new UncheckedIOException(ioe);
+    }
+  }
+
+  private void closeSpill() {
+    if (spill != null) {
+      try {
+        spill.close();
+      } catch (IOException ioe) {
+        // eat
+      }
+    }
+  }
+
+  /**
+   * Can rows be stored in compact or spilled storage. Rows must not be changed afterward.
+   *
+   * @return true if compact storage can be used
+   */
+  protected boolean canUseCompactStorage() {
+    return true;
+  }
+
   public void setBulkResult() {
     if (mightBeBulkResult) bulkResult = true;
   }
 
   private CompleteResult(ColumnDecoder[] metadataList, CompleteResult prev) {
     super(metadataList, prev);
+    this.arena = prev.arena;
+    this.spill = prev.spill;
+    this.spillStart = prev.spillStart;
+  }
+
+  @Override
+  protected void addRowData(byte[] buf) {
+    if (spillRow(buf, 0, buf.length)) return;
+    if (arena != null) {
+      arena.add(buf);
+      dataSize++;
+    } else {
+      super.addRowData(buf);
+    }
+  }
+
+  @Override
+  protected byte[] getCurrentRowData() {
+    if (spill != null && spillStart == 0) return spill.copy(0);
+    return arena != null ? arena.copy(0) : super.getCurrentRowData();
+  }
+
+  /**
+   * set row decoder to row at index
+   *
+   * @param index row index
+   */
+  protected void setRowAt(int index) {
+    if (spill != null && index >= spillStart) {
+      spill.position(rowBuf, index - spillStart);
+      fieldIndex.set(-1);
+    } else if (arena != null) {
+      arena.position(rowBuf, index);
+      fieldIndex.set(-1);
+    } else {
+      setRow(data[index]);
+    }
   }
 
   /**
@@ -226,7 +385,7 @@ public class CompleteResult extends Result {
   @Override
   public boolean next() throws SQLException {
     if (rowPointer < dataSize - 1) {
-      setRow(data[++rowPointer]);
+      setRowAt(++rowPointer);
       return true;
     } else {
       // all data are reads and pointer is after last
@@ -252,6 +411,13 @@ public class CompleteResult extends Result {
   @Override
   public void closeFromStmtClose(ClosableLock lock) {
     this.closed = true;
+    closeSpill();
+  }
+
+  @Override
+  public void close() throws SQLException {
+    super.close();
+    closeSpill();
   }
 
   @Override
@@ -303,7 +469,7 @@ public class CompleteResult extends Result {
       setNullRowBuf();
       return false;
     }
-    setRow(data[rowPointer]);
+    setRowAt(rowPointer);
     return true;
   }
 
@@ -315,7 +481,7 @@ public class CompleteResult extends Result {
       setNullRowBuf();
       return false;
     }
-    setRow(data[rowPointer]);
+    setRowAt(rowPointer);
     return true;
   }
 
@@ -336,13 +502,13 @@ public class CompleteResult extends Result {
 
     if (idx > 0) {
       rowPointer = idx - 1;
-      setRow(data[rowPointer]);
+      setRowAt(rowPointer);
       return true;
     } else {
       if (dataSize + idx >= 0) {
         // absolute position reverse from ending resultSet
         rowPointer = dataSize + idx;
-        setRow(data[rowPointer]);
+        setRowAt(rowPointer);
         return true;
       }
       rowPointer = BEFORE_FIRST_POS;
@@ -365,7 +531,7 @@ public class CompleteResult extends Result {
       return false;
     } else {
       rowPointer = newPos;
-      setRow(data[rowPointer]);
+      setRowAt(rowPointer);
       return true;
     }
   }
@@ -376,7 +542,7 @@ public class CompleteResult extends Result {
     if (rowPointer > BEFORE_FIRST_POS) {
       rowPointer--;
       if (rowPointer != BEFORE_FIRST_POS) {
-        setRow(data[rowPointer]);
+        setRowAt(rowPointer);
         return true;
       }
     }
@@ -11,6 +11,7 @@ import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.net.URI;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.sql.*;
 import java.sql.Date;
 import java.util.*;
@@ -22,6 +23,10 @@ import org.mariadb.jdbc.client.result.rowdecoder.RowDecoder;
 import org.mariadb.jdbc.client.result.rowdecoder.TextRowDecoder;
 import org.mariadb.jdbc.client.util.ClosableLock;
 import org.mariadb.jdbc.client.util.MutableInt;
+import org.mariadb.jdbc.export.ArrowBatch;
+import org.mariadb.jdbc.export.ArrowColumnType;
+import org.mariadb.jdbc.export.ColumnBatch;
+import org.mariadb.jdbc.export.ColumnarResult;
 import org.mariadb.jdbc.export.ExceptionFactory;
 import org.mariadb.jdbc.message.server.ErrorPacket;
 import org.mariadb.jdbc.plugin.Codec;
@@ -30,13 +35,26 @@ import org.mariadb.jdbc.plugin.codec.*;
 import org.mariadb.jdbc.util.constants.ServerStatus;
 
 /** Result-set common */
-public abstract class Result implements ResultSet, Completion {
+public abstract class Result implements ResultSet, Completion, ColumnarResult {
   /** null length value */
   public static final int NULL_LENGTH = -1;
 
   private static final BinaryRowDecoder BINARY_ROW_DECODER = new BinaryRowDecoder();
   private static final TextRowDecoder TEXT_ROW_DECODER = new TextRowDecoder();
 
+  // column batch decoding kinds
+  private static final int DECODE_GENERIC = 0;
+  private static final int DECODE_TEXT_INTEGER = 1;
+  private static final int DECODE_BYTE = 2;
+  private static final int DECODE_UNSIGNED_BYTE = 3;
+  private static final int DECODE_SHORT = 4;
+  private static final int DECODE_UNSIGNED_SHORT = 5;
+  private static final int DECODE_INT = 6;
+  private static final int DECODE_UNSIGNED_INT = 7;
+  private static final int DECODE_LONG = 8;
+  private static final int DECODE_FLOAT = 9;
+  private static final int DECODE_DOUBLE = 10;
+
   /** result-set type */
   protected final int resultSetType;
 
@@ -237,10 +255,7 @@ public abstract class Result implements ResultSet, Completion {
         // continue reading rows
 
       default:
-        if (dataSize + 1 > data.length) {
-          growDataArray();
-        }
-        data[dataSize++] = buf;
+        addRowData(buf);
     }
     return true;
   }
@@ -1697,6 +1712,229 @@ public abstract class Result implements ResultSet, Completion {
     return getObject(findColumn(columnLabel), type);
   }
 
+  @Override
+  public int fetchColumns(int maxRows, ColumnBatch batch) throws SQLException {
+    checkClose();
+    int columns = batch.columnCount();
+    int[] decodeKinds = new int[columns];
+    for (int i = 0; i < columns; i++) {
+      checkIndex(batch.columnIndex(i));
+      decodeKinds[i] = decodeKind(metadataList[batch.columnIndex(i) - 1], batch.isDouble(i));
+      Arrays.fill(batch.nulls(i), 0L);
+    }
+
+    int limit = Math.min(maxRows, batch.capacity());
+    int row = 0;
+    while (row < limit && next()) {
+      for (int i = 0; i < columns; i++) {
+        fieldLength.set(
+            rowDecoder.setPosition(
+                batch.columnIndex(i) - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+        if (batch.isDouble(i)) {
+          double[] values = batch.doubles(i);
+          if (fieldLength.get() == NULL_LENGTH) {
+            batch.nulls(i)[row >>> 6] |= 1L << row;
+            values[row] = 0;
+          } else {
+            values[row] = decodeDouble(decodeKinds[i]);
+          }
+        } else {
+          long[] values = batch.longs(i);
+          if (fieldLength.get() == NULL_LENGTH) {
+            batch.nulls(i)[row >>> 6] |= 1L << row;
+            values[row] = 0;
+          } else {
+            values[row] = decodeLong(decodeKinds[i]);
+          }
+        }
+      }
+      row++;
+    }
+    batch.size(row);
+    return row;
+  }
+
+  private int decodeKind(ColumnDecoder column, boolean isDouble) {
+    boolean binary = rowDecoder == BINARY_ROW_DECODER;
+    if (isDouble) {
+      if (binary && column.getType() == DataType.DOUBLE) return DECODE_DOUBLE;
+      if (binary && column.getType() == DataType.FLOAT) return DECODE_FLOAT;
+      return DECODE_GENERIC;
+    }
+    switch (column.getType()) {
+      case TINYINT:
+        if (!binary) return DECODE_TEXT_INTEGER;
+        return column.isSigned() ? DECODE_BYTE : DECODE_UNSIGNED_BYTE;
+      case SMALLINT:
+      case YEAR:
+        if (!binary) return DECODE_TEXT_INTEGER;
+        return column.isSigned() ? DECODE_SHORT : DECODE_UNSIGNED_SHORT;
+      case MEDIUMINT:
+        return binary ? DECODE_INT : DECODE_TEXT_INTEGER;
+      case INTEGER:
+        if (!binary) return DECODE_TEXT_INTEGER;
+        return column.isSigned() ? DECODE_INT : DECODE_UNSIGNED_INT;
+      case BIGINT:
+        // unsigned BIGINT may overflow: standard decoding
+        if (!column.isSigned()) return DECODE_GENERIC;
+        return binary ? DECODE_LONG : DECODE_TEXT_INTEGER;
+      default:
+        return DECODE_GENERIC;
+    }
+  }
+
+  private long decodeLong(int decodeKind) throws SQLException {
+    switch (decodeKind) {
+      case DECODE_TEXT_INTEGER:
+        return rowBuf.atoll(fieldLength.get());
+      case DECODE_BYTE:
+        return rowBuf.readByte();
+      case DECODE_UNSIGNED_BYTE:
+        return rowBuf.readUnsignedByte();
+      case DECODE_SHORT:
+        return rowBuf.readShort();
+      case DECODE_UNSIGNED_SHORT:
+        return rowBuf.readUnsignedShort();
+      case DECODE_INT:
+        return rowBuf.readInt();
+      case DECODE_UNSIGNED_INT:
+        return rowBuf.readUnsignedInt();
+      case DECODE_LONG:
+        return rowBuf.readLong();
+      default:
+        return rowDecoder.decodeLong(metadataList, fieldIndex, rowBuf, fieldLength);
+    }
+  }
+
+  private double decodeDouble(int decodeKind) throws SQLException {
+    switch (decodeKind) {
+      case DECODE_FLOAT:
+        return rowBuf.readFloat();
+      case DECODE_DOUBLE:
+        return rowBuf.readDouble();
+      default:
+        return rowDecoder.decodeDouble(metadataList, fieldIndex, rowBuf, fieldLength);
+    }
+  }
+
+  @Override
+  public int fetchArrow(int maxRows, ArrowBatch batch) throws SQLException {
+    checkClose();
+    int columns = metadataList.length;
+    if (!batch.isInitialized()) {
+      String[] names = new String[columns];
+      ArrowColumnType[] types = new ArrowColumnType[columns];
+      for (int i = 0; i < columns; i++) {
+        names[i] = metadataList[i].getColumnAlias();
+        types[i] = arrowType(metadataList[i]);
+      }
+      batch.init(names, types);
+    } else if (batch.columnCount() != columns) {
+      throw exceptionFactory.create(
+          String.format(
+              "Arrow batch has %s columns, but result-set has %s", batch.columnCount(), columns));
+    }
+    batch.reset();
+
+    boolean binary = rowDecoder == BINARY_ROW_DECODER;
+    int limit = Math.min(maxRows, batch.capacity());
+    int row = 0;
+    while (row < limit && next()) {
+      for (int i = 0; i < columns; i++) {
+        fieldLength.set(
+            rowDecoder.setPosition(i, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+        int length = fieldLength.get();
+        if (length == NULL_LENGTH) {
+          batch.setNull(i, row);
+          continue;
+        }
+        batch.setValid(i, row);
+        ArrowColumnType type = batch.type(i);
+        if (type.isFixedWidth()) {
+          int width = type.byteWidth();
+          if (binary) {
+            // binary protocol fixed-width values are already little-endian
+            System.arraycopy(rowBuf.buf, rowBuf.pos, batch.data(i), row * width, width);
+          } else {
+            writeArrowValue(type, batch.data(i), row * width, length);
+          }
+        } else if (binary && isBinaryTemporal(metadataList[i].getType())) {
+          byte[] value =
+              rowDecoder
+                  .decodeString(metadataList, fieldIndex, rowBuf, fieldLength, context)
+                  .getBytes(StandardCharsets.UTF_8);
+          System.arraycopy(
+              value, 0, batch.reserve(i, row, value.length), batch.offsets(i)[row], value.length);
+        } else {
+          System.arraycopy(
+              rowBuf.buf, rowBuf.pos, batch.reserve(i, row, length), batch.offsets(i)[row], length);
+        }
+      }
+      row++;
+    }
+    batch.size(row);
+    return row;
+  }
+
+  private static ArrowColumnType arrowType(ColumnDecoder column) {
+    switch (column.getType()) {
+      case TINYINT:
+        return column.isSigned() ? ArrowColumnType.INT8 : ArrowColumnType.UINT8;
+      case SMALLINT:
+        return column.isSigned() ? ArrowColumnType.INT16 : ArrowColumnType.UINT16;
+      case YEAR:
+        return ArrowColumnType.INT16;
+      case MEDIUMINT:
+        return ArrowColumnType.INT32;
+      case INTEGER:
+        return column.isSigned() ? ArrowColumnType.INT32 : ArrowColumnType.UINT32;
+      case BIGINT:
+        return column.isSigned() ? ArrowColumnType.INT64 : ArrowColumnType.UINT64;
+      case FLOAT:
+        return ArrowColumnType.FLOAT32;
+      case DOUBLE:
+        return ArrowColumnType.FLOAT64;
+      case BIT:
+        return ArrowColumnType.BINARY;
+      default:
+        return column.isBinary() ? ArrowColumnType.BINARY : ArrowColumnType.UTF8;
+    }
+  }
+
+  private static boolean isBinaryTemporal(DataType type) {
+    switch (type) {
+      case DATE:
+      case NEWDATE:
+      case TIME:
+      case DATETIME:
+      case TIMESTAMP:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private void writeArrowValue(ArrowColumnType type, byte[] data, int offset, int length) {
+    long value;
+    switch (type) {
+      case FLOAT32:
+        value = Float.floatToIntBits(Float.parseFloat(rowBuf.readAscii(length)));
+        break;
+      case FLOAT64:
+        value = Double.doubleToLongBits(Double.parseDouble(rowBuf.readAscii(length)));
+        break;
+      case UINT64:
+        value = rowBuf.atoull(length);
+        break;
+      default:
+        value = rowBuf.atoll(length);
+        break;
+    }
+    for (int i = 0; i < type.byteWidth(); i++) {
+      data[offset + i] = (byte) (value >>> (i << 3));
+    }
+  }
+
   @Override
   public <T> T unwrap(Class<T> iface) throws SQLException {
     if (isWrapperFor(iface)) {
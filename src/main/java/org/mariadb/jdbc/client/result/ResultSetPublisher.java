@@ -0,0 +1,175 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.client.result;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.mariadb.jdbc.Statement;
+import org.mariadb.jdbc.export.RowMapper;
+import org.mariadb.jdbc.export.RowPublisher;
+
+/**
+ * Publisher of streaming result-set rows. Query is executed with a fetch size corresponding to
+ * subscriber demand, so rows are only read from socket when requested. Fetch size is only raised
+ * afterward when subscriber demand exceeds it, letting result-set adapt batch size (option
+ * streamingMemoryBudget) otherwise.
+ *
+ * @param <T> row type
+ */
+public class ResultSetPublisher<T> implements RowPublisher<T> {
+
+  private static final int MAX_FETCH_SIZE = 16384;
+
+  private final Statement stmt;
+  private final QueryExecutor executor;
+  private final RowMapper<T> mapper;
+  private final AtomicBoolean subscribed = new AtomicBoolean();
+
+  /**
+   * Constructor
+   *
+   * @param stmt statement executing query
+   * @param executor query execution
+   * @param mapper row mapper
+   */
+  public ResultSetPublisher(Statement stmt, QueryExecutor executor, RowMapper<T> mapper) {
+    this.stmt = stmt;
+    this.executor = executor;
+    this.mapper = mapper;
+  }
+
+  @Override
+  public void subscribe(Subscriber<? super T> subscriber) {
+    if (subscriber == null) throw new NullPointerException("subscriber");
+    if (!subscribed.compareAndSet(false, true)) {
+      subscriber.onSubscribe(
+          new Subscription() {
+            @Override
+            public void request(long n) {}
+
+            @Override
+            public void cancel() {}
+          });
+      subscriber.onError(new IllegalStateException("Publisher only permit one subscriber"));
+      return;
+    }
+    subscriber.onSubscribe(new RowSubscription(subscriber));
+  }
+
+  /** Query execution */
+  @FunctionalInterface
+  public interface QueryExecutor {
+
+    /**
+     * Execute query
+     *
+     * @return result-set
+     * @throws SQLException if query fails
+     */
+    ResultSet execute() throws SQLException;
+  }
+
+  private final class RowSubscription implements Subscription {
+    private final Subscriber<? super T> subscriber;
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private volatile boolean cancelled;
+    private Throwable invalidRequest;
+    private boolean done;
+    private ResultSet rs;
+    private int rsFetchSize;
+
+    private RowSubscription(Subscriber<? super T> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    public void request(long n) {
+      if (n <= 0) {
+        invalidRequest =
+            new IllegalArgumentException(String.format("non-positive subscription request: %s", n));
+        cancelled = true;
+      } else {
+        long current;
+        do {
+          current = requested.get();
+          if (current == Long.MAX_VALUE) break;
+        } while (!requested.compareAndSet(current, current + n < 0 ? Long.MAX_VALUE : current + n));
+      }
+      drain();
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+      drain();
+    }
+
+    /** only one thread emits at a time, a request from onNext is handled by the current loop */
+    private void drain() {
+      if (wip.getAndIncrement() != 0) return;
+      int missed = 1;
+      do {
+        emit();
+        missed = wip.addAndGet(-missed);
+      } while (missed != 0);
+    }
+
+    private void emit() {
+      if (done) return;
+      try {
+        long demand = requested.get();
+        long emitted = 0;
+        while (!cancelled && emitted != demand) {
+          int fetchSize = (int) Math.min(demand - emitted, MAX_FETCH_SIZE);
+          if (rs == null) {
+            int initialFetchSize = stmt.getFetchSize();
+            stmt.setFetchSize(fetchSize);
+            try {
+              rs = executor.execute();
+            } finally {
+              stmt.setFetchSize(initialFetchSize);
+            }
+            rsFetchSize = fetchSize;
+          } else if (fetchSize > rsFetchSize) {
+            // demand has grown
+            rs.setFetchSize(fetchSize);
+            rsFetchSize = fetchSize;
+          }
+          if (!rs.next()) {
+            terminate();
+            subscriber.onComplete();
+            return;
+          }
+          subscriber.onNext(mapper.map(rs));
+          emitted++;
+        }
+        if (cancelled) {
+          terminate();
+          if (invalidRequest != null) subscriber.onError(invalidRequest);
+          return;
+        }
+        if (demand != Long.MAX_VALUE) requested.addAndGet(-emitted);
+      } catch (Throwable t) {
+        terminate();
+        subscriber.onError(t);
+      }
+    }
+
+    private void terminate() {
+      done = true;
+      if (rs != null) {
+        try {
+          // skip remaining rows, releasing connection
+          rs.close();
+        } catch (SQLException e) {
+          // eat
+        }
+      }
+    }
+  }
+}
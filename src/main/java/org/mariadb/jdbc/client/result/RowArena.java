@@ -0,0 +1,119 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.client.result;
+
+import java.util.Arrays;
+import org.mariadb.jdbc.client.impl.StandardReadableByteBuf;
+
+/**
+ * Compact row storage: rows are appended into large chunks, with an index of row chunk, offset and
+ * length. Chunk size starts small, doubling up to {@link #MAX_CHUNK_SIZE}, so small result-sets
+ * stay small. A row bigger than chunk size has a dedicated chunk.
+ */
+final class RowArena {
+
+  private static final int MIN_CHUNK_SIZE = 8192;
+  private static final int MAX_CHUNK_SIZE = 1024 * 1024;
+
+  private byte[][] chunks = new byte[4][];
+  private int chunkCount;
+  private byte[] current;
+  private int currentPos;
+
+  /** row position: chunk index in upper 32 bits, offset in lower 32 bits */
+  private long[] positions = new long[16];
+
+  private int[] lengths = new int[16];
+  private int size;
+
+  /**
+   * Append a row
+   *
+   * @param buf buffer containing row
+   * @param off row offset in buffer
+   * @param len row length
+   */
+  void add(byte[] buf, int off, int len) {
+    if (current == null || current.length - currentPos < len) {
+      int chunkSize =
+          current == null ? MIN_CHUNK_SIZE : Math.min(MAX_CHUNK_SIZE, current.length * 2);
+      newChunk(Math.max(chunkSize, len));
+    }
+    System.arraycopy(buf, off, current, currentPos, len);
+    addPosition(currentPos, len);
+    currentPos += len;
+  }
+
+  /**
+   * Append a row, a row bigger than max chunk size being kept as its own chunk without copy.
+   *
+   * @param row row
+   */
+  void add(byte[] row) {
+    if (row.length < MAX_CHUNK_SIZE) {
+      add(row, 0, row.length);
+      return;
+    }
+    if (chunkCount == chunks.length) {
+      chunks = Arrays.copyOf(chunks, chunkCount * 2);
+    }
+    chunks[chunkCount++] = row;
+    addPosition(0, row.length);
+    // next rows go to a new chunk
+    current = row;
+    currentPos = row.length;
+  }
+
+  private void addPosition(int offset, int len) {
+    if (size == positions.length) {
+      int newCapacity = size + (size >> 1);
+      positions = Arrays.copyOf(positions, newCapacity);
+      lengths = Arrays.copyOf(lengths, newCapacity);
+    }
+    positions[size] = ((long) (chunkCount - 1) << 32) | offset;
+    lengths[size++] = len;
+  }
+
+  private void newChunk(int chunkSize) {
+    if (chunkCount == chunks.length) {
+      chunks = Arrays.copyOf(chunks, chunkCount * 2);
+    }
+    current = new byte[chunkSize];
+    currentPos = 0;
+    chunks[chunkCount++] = current;
+  }
+
+  /**
+   * Point row buffer to a row
+   *
+   * @param rowBuf row buffer
+   * @param index row index
+   */
+  void position(StandardReadableByteBuf rowBuf, int index) {
+    long position = positions[index];
+    int offset = (int) position;
+    rowBuf.buf(chunks[(int) (position >>> 32)], offset + lengths[index], offset);
+  }
+
+  /**
+   * Copy of a row
+   *
+   * @param index row index
+   * @return row data
+   */
+  byte[] copy(int index) {
+    long position = positions[index];
+    int offset = (int) position;
+    return Arrays.copyOfRange(chunks[(int) (position >>> 32)], offset, offset + lengths[index]);
+  }
+
+  /**
+   * Number of rows
+   *
+   * @return row number
+   */
+  int size() {
+    return size;
+  }
+}
@@ -0,0 +1,159 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.client.result;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import org.mariadb.jdbc.client.impl.StandardReadableByteBuf;
+
+/**
+ * Row storage in a temporary file, for result-sets too big to be kept in memory. Rows are appended
+ * through a write buffer, with an index of row offset and length, then file is memory-mapped once
+ * all rows are written. File is mapped in segments of {@link #SEGMENT_SIZE}, a row never crossing a
+ * segment boundary, except rows bigger than a segment, read from consecutive segments.
+ */
+final class RowSpillFile {
+
+  private static final long SEGMENT_SIZE = 1L << 30;
+  private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+  private final FileChannel channel;
+  private final ByteBuffer writeBuffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+  private long length;
+  private long writtenLength;
+  private MappedByteBuffer[] segments;
+
+  private long[] positions = new long[16];
+  private int[] lengths = new int[16];
+  private int size;
+
+  /**
+   * Create temporary file. File is deleted when closed.
+   *
+   * @throws IOException if file cannot be created
+   */
+  RowSpillFile() throws IOException {
+    this.channel =
+        FileChannel.open(
+            Files.createTempFile("mariadb-resultset-", ".tmp"),
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.DELETE_ON_CLOSE);
+  }
+
+  /**
+   * Append a row
+   *
+   * @param buf buffer containing row
+   * @param off row offset in buffer
+   * @param len row length
+   * @throws IOException if file cannot be written
+   */
+  void add(byte[] buf, int off, int len) throws IOException {
+    long segmentEnd = (length / SEGMENT_SIZE + 1) * SEGMENT_SIZE;
+    if (length + len > segmentEnd && len <= SEGMENT_SIZE) {
+      // start row at next segment, leaving a hole in file
+      flush();
+      length = segmentEnd;
+      writtenLength = segmentEnd;
+    }
+    if (size == positions.length) {
+      int newCapacity = size + (size >> 1);
+      positions = Arrays.copyOf(positions, newCapacity);
+      lengths = Arrays.copyOf(lengths, newCapacity);
+    }
+    positions[size] = length;
+    lengths[size++] = len;
+    length += len;
+
+    while (len > 0) {
+      if (!writeBuffer.hasRemaining()) flush();
+      int writeLen = Math.min(len, writeBuffer.remaining());
+      writeBuffer.put(buf, off, writeLen);
+      off += writeLen;
+      len -= writeLen;
+    }
+  }
+
+  private void flush() throws IOException {
+    ((Buffer) writeBuffer).flip();
+    while (writeBuffer.hasRemaining()) {
+      writtenLength += channel.write(writeBuffer, writtenLength);
+    }
+    ((Buffer) writeBuffer).clear();
+  }
+
+  /**
+   * Write buffered rows and map file. No row can be added afterward.
+   *
+   * @throws IOException if file cannot be written or mapped
+   */
+  void finish() throws IOException {
+    flush();
+    segments = new MappedByteBuffer[(int) ((length + SEGMENT_SIZE - 1) / SEGMENT_SIZE)];
+    for (int i = 0; i < segments.length; i++) {
+      long start = i * SEGMENT_SIZE;
+      segments[i] =
+          channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(SEGMENT_SIZE, length - start));
+    }
+  }
+
+  /**
+   * Point row buffer to a row. Row is copied to a new array, since decoded values like blobs may
+   * reference row buffer.
+   *
+   * @param rowBuf row buffer
+   * @param index row index
+   */
+  void position(StandardReadableByteBuf rowBuf, int index) {
+    byte[] row = copy(index);
+    rowBuf.buf(row, row.length, 0);
+  }
+
+  /**
+   * Copy of a row
+   *
+   * @param index row index
+   * @return row data
+   */
+  byte[] copy(int index) {
+    long position = positions[index];
+    byte[] row = new byte[lengths[index]];
+    int off = 0;
+    while (off < row.length) {
+      // only a row bigger than a segment needs more than one segment
+      ByteBuffer segment = segments[(int) (position / SEGMENT_SIZE)].duplicate();
+      ((Buffer) segment).position((int) (position % SEGMENT_SIZE));
+      int len = Math.min(row.length - off, segment.remaining());
+      segment.get(row, off, len);
+      off += len;
+      position += len;
+    }
+    return row;
+  }
+
+  /**
+   * Number of rows
+   *
+   * @return row number
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Close and delete file. Already mapped segments stay readable.
+   *
+   * @throws IOException if file cannot be closed
+   */
+  void close() throws IOException {
+    channel.close();
+  }
+}
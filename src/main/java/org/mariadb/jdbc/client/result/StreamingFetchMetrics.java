@@ -0,0 +1,94 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.client.result;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * JVM-wide metrics of streaming result-set batches sized according to option streamingMemoryBudget.
+ */
+public final class StreamingFetchMetrics implements StreamingFetchMetricsMBean {
+
+  private static final StreamingFetchMetrics INSTANCE = new StreamingFetchMetrics();
+
+  private final AtomicLong batchCount = new AtomicLong();
+  private final AtomicLong rowCount = new AtomicLong();
+  private final AtomicLong byteCount = new AtomicLong();
+  private final AtomicLong lastBatchRows = new AtomicLong();
+  private final AtomicLong maxBatchRows = new AtomicLong();
+  private final AtomicLong lastComputedFetchSize = new AtomicLong();
+
+  private StreamingFetchMetrics() {}
+
+  /**
+   * Get JVM-wide streaming fetch metrics
+   *
+   * @return streaming fetch metrics
+   */
+  public static StreamingFetchMetrics getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Register metrics JMX bean if not already registered
+   *
+   * @throws Exception if registration fails
+   */
+  public static void registerJmx() throws Exception {
+    MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+    ObjectName name = new ObjectName("org.mariadb.jdbc:type=StreamingFetch");
+    if (!mbs.isRegistered(name)) {
+      mbs.registerMBean(INSTANCE, name);
+    }
+  }
+
+  /**
+   * Record a batch read
+   *
+   * @param rows batch row number
+   * @param bytes batch size in bytes
+   * @param computedFetchSize fetch size computed for next batch
+   */
+  void record(int rows, long bytes, int computedFetchSize) {
+    batchCount.incrementAndGet();
+    rowCount.addAndGet(rows);
+    byteCount.addAndGet(bytes);
+    lastBatchRows.set(rows);
+    maxBatchRows.accumulateAndGet(rows, Math::max);
+    lastComputedFetchSize.set(computedFetchSize);
+  }
+
+  @Override
+  public long getBatchCount() {
+    return batchCount.get();
+  }
+
+  @Override
+  public long getRowCount() {
+    return rowCount.get();
+  }
+
+  @Override
+  public long getByteCount() {
+    return byteCount.get();
+  }
+
+  @Override
+  public long getLastBatchRows() {
+    return lastBatchRows.get();
+  }
+
+  @Override
+  public long getMaxBatchRows() {
+    return maxBatchRows.get();
+  }
+
+  @Override
+  public long getLastComputedFetchSize() {
+    return lastComputedFetchSize.get();
+  }
+}
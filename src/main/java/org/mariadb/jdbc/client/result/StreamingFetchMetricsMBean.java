@@ -0,0 +1,50 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.client.result;
+
+/** JMX streaming fetch bean */
+public interface StreamingFetchMetricsMBean {
+
+  /**
+   * get total number of streaming batches sized according to byte budget
+   *
+   * @return batch number
+   */
+  long getBatchCount();
+
+  /**
+   * get total number of rows read by batches sized according to byte budget
+   *
+   * @return row number
+   */
+  long getRowCount();
+
+  /**
+   * get total size of rows read by batches sized according to byte budget
+   *
+   * @return size in bytes
+   */
+  long getByteCount();
+
+  /**
+   * get number of rows of the last batch
+   *
+   * @return last batch row number
+   */
+  long getLastBatchRows();
+
+  /**
+   * get biggest batch row number
+   *
+   * @return maximum batch row number
+   */
+  long getMaxBatchRows();
+
+  /**
+   * get last fetch size computed from byte budget
+   *
+   * @return computed fetch size
+   */
+  long getLastComputedFetchSize();
+}
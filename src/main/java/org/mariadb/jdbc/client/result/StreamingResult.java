@@ -5,11 +5,13 @@ package org.mariadb.jdbc.client.result;
 
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.mariadb.jdbc.Statement;
 import org.mariadb.jdbc.client.ColumnDecoder;
 import org.mariadb.jdbc.client.Context;
 import org.mariadb.jdbc.client.socket.Reader;
 import org.mariadb.jdbc.client.util.ClosableLock;
+import org.mariadb.jdbc.client.util.SchedulerProvider;
 
 /**
  * Streaming result-set implementation. Implementation rely on reading as many rows than fetch size
@@ -36,12 +38,34 @@ import org.mariadb.jdbc.client.util.ClosableLock;
  * <p>If another query is executed on the same connection when a streaming result-set has not been
  * fully read, the connector will put the whole remaining streaming result-set in memory in order to
  * execute the next query. This can lead to OutOfMemoryError if not handled.
+ *
+ * <p>With option streamingPrefetch, forward-only results without max rows read the next batch in
+ * background, under connection lock, while current batch is processed: packets are kept in a second
+ * buffer, and only parsed when application reaches the end of current batch.
+ *
+ * <p>With option streamingMemoryBudget, batch row number is computed from average row size of
+ * previous batch, so that a batch uses about this number of bytes, and a batch ends as soon as this
+ * size is reached.
  */
 public class StreamingResult extends Result {
   private static final int MAX_FETCH_SIZE = 16384;
+  private static final int MAX_ADAPTIVE_FETCH_SIZE = 262144;
+  private static final int PREFETCH_IDLE = 0;
+  private static final int PREFETCH_SCHEDULED = 1;
+  private static final int PREFETCH_RUNNING = 2;
+  private static final int PREFETCH_DONE = 3;
+
   private final ClosableLock lock;
+  private final boolean prefetch;
+  private final int memoryBudget;
+  private final AtomicInteger prefetchState = new AtomicInteger(PREFETCH_IDLE);
+  private byte[][] prefetchRows;
+  private int prefetchSize;
+  private IOException prefetchError;
   private int dataFetchTime;
   private int requestedFetchSize;
+  private int batchFetchSize;
+  private long fetchedRows;
 
   /**
    * Constructor
@@ -89,8 +113,13 @@ public class StreamingResult extends Result {
     this.lock = lock;
     this.dataFetchTime = 0;
     this.requestedFetchSize = fetchSize;
+    this.batchFetchSize = Math.min(MAX_FETCH_SIZE, fetchSize);
+    this.memoryBudget = context.getConf().streamingMemoryBudget();
     this.data = new byte[Math.min(MAX_FETCH_SIZE, Math.max(fetchSize, 10))][];
+    this.prefetch =
+        context.getConf().streamingPrefetch() && resultSetType == TYPE_FORWARD_ONLY && maxRows <= 0;
     addStreamingValue();
+    if (prefetch && !loaded) schedulePrefetch();
   }
 
   @Override
@@ -124,26 +153,145 @@ public class StreamingResult extends Result {
   @SuppressWarnings("try")
   private void addStreamingValue() throws SQLException {
     try (ClosableLock ignore = lock.closeableLock()) {
+      if (prefetch && loadPrefetched()) {
+        dataFetchTime++;
+        return;
+      }
       // read only fetchSize values
       int fetchSizeTmp =
           (maxRows <= 0)
-              ? super.getFetchSize()
-              : Math.min(
-                  super.getFetchSize(),
-                  Math.max(0, (int) (maxRows - dataFetchTime * super.getFetchSize())));
+              ? batchFetchSize
+              : (int) Math.min(batchFetchSize, Math.max(0, maxRows - fetchedRows));
+      int rows = 0;
+      long bytes = 0;
       do {
         byte[] buf = reader.readPacket(traceEnable);
-        readNext(buf);
+        if (readNext(buf)) {
+          rows++;
+          bytes += buf.length;
+        }
         fetchSizeTmp--;
-      } while (fetchSizeTmp > 0 && !loaded);
+      } while (fetchSizeTmp > 0 && !loaded && (memoryBudget == 0 || bytes < memoryBudget));
+      endBatch(rows, bytes);
       dataFetchTime++;
-      if (maxRows > 0 && (long) dataFetchTime * super.getFetchSize() >= maxRows && !loaded)
-        skipRemaining();
+      if (maxRows > 0 && fetchedRows >= maxRows && !loaded) skipRemaining();
     } catch (IOException ioe) {
       throw exceptionFactory.create("Error while streaming resultSet data", "08000", ioe);
     }
   }
 
+  /**
+   * Record batch read, computing next batch row number when using a byte budget.
+   *
+   * @param rows batch row number
+   * @param bytes batch size in bytes
+   */
+  private void endBatch(int rows, long bytes) {
+    fetchedRows += rows;
+    if (memoryBudget > 0 && rows > 0) {
+      long avgRowSize = Math.max(1, bytes / rows);
+      batchFetchSize =
+          (int) Math.max(1, Math.min(MAX_ADAPTIVE_FETCH_SIZE, memoryBudget / avgRowSize));
+      StreamingFetchMetrics.getInstance().record(rows, bytes, batchFetchSize);
+    }
+  }
+
+  /** Schedule reading of next batch in background. */
+  private void schedulePrefetch() {
+    if (prefetchState.compareAndSet(PREFETCH_IDLE, PREFETCH_SCHEDULED)) {
+      int batchSize = Math.max(1, batchFetchSize);
+      try {
+        SchedulerProvider.getPrefetchExecutor().execute(() -> prefetchBatch(batchSize));
+      } catch (RuntimeException e) {
+        // executor unavailable: next batch will be read when needed
+        prefetchState.set(PREFETCH_IDLE);
+      }
+    }
+  }
+
+  /**
+   * Background reading of next batch packets. Reading is skipped if batch has already been read by
+   * application thread in the meantime.
+   *
+   * @param batchSize maximum number of rows to read
+   */
+  @SuppressWarnings("try")
+  private void prefetchBatch(int batchSize) {
+    try (ClosableLock ignore = lock.closeableLock()) {
+      if (!prefetchState.compareAndSet(PREFETCH_SCHEDULED, PREFETCH_RUNNING)) return;
+      if (prefetchRows == null || prefetchRows.length < batchSize) {
+        prefetchRows = new byte[batchSize][];
+      }
+      int size = 0;
+      long bytes = 0;
+      try {
+        while (size < batchSize && (memoryBudget == 0 || bytes < memoryBudget)) {
+          byte[] buf = reader.readPacket(traceEnable);
+          prefetchRows[size++] = buf;
+          if (isEnding(buf)) break;
+          bytes += buf.length;
+        }
+      } catch (IOException ioe) {
+        prefetchError = ioe;
+      }
+      prefetchSize = size;
+      prefetchState.set(PREFETCH_DONE);
+    }
+  }
+
+  /**
+   * Indicate if packet ends result-set: error packet, or EOF/OK packet
+   *
+   * @param buf packet
+   * @return true if no more rows follow
+   */
+  private boolean isEnding(byte[] buf) {
+    switch (buf[0]) {
+      case (byte) 0xFF:
+        return true;
+      case (byte) 0xFE:
+        return (context.isEofDeprecated() && buf.length < 16777215)
+            || (!context.isEofDeprecated() && buf.length < 8);
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * Load batch read in background, if any. Must be called with lock held, so a running prefetch has
+   * completed.
+   *
+   * @return true if a prefetched batch has been loaded
+   * @throws IOException if background reading failed
+   * @throws SQLException if server returned an error
+   */
+  private boolean loadPrefetched() throws IOException, SQLException {
+    if (prefetchState.compareAndSet(PREFETCH_SCHEDULED, PREFETCH_IDLE)
+        || prefetchState.get() != PREFETCH_DONE) {
+      // background reading not started: read batch directly
+      return false;
+    }
+    byte[][] rows = prefetchRows;
+    int size = prefetchSize;
+    IOException error = prefetchError;
+    prefetchError = null;
+    prefetchState.set(PREFETCH_IDLE);
+    try {
+      if (error != null) throw error;
+      int rowNumber = 0;
+      long bytes = 0;
+      for (int i = 0; i < size; i++) {
+        if (!readNext(rows[i])) break;
+        rowNumber++;
+        bytes += rows[i].length;
+      }
+      endBatch(rowNumber, bytes);
+    } finally {
+      for (int i = 0; i < size; i++) rows[i] = null;
+    }
+    return true;
+  }
+
   /**
    * When protocol has a current Streaming result (this) fetch all to permit another query is
    * executing.
@@ -172,6 +320,7 @@ public class StreamingResult extends Result {
         try (ClosableLock ignore = lock.closeableLock()) {
           if (!loaded) {
             nextStreamingValue();
+            if (prefetch && !loaded) schedulePrefetch();
           }
         }
 
@@ -202,6 +351,20 @@ public class StreamingResult extends Result {
     }
   }
 
+  @Override
+  @SuppressWarnings("try")
+  public void close() throws SQLException {
+    if (prefetch && !loaded) {
+      // take background batch into account before skipping remaining rows
+      try (ClosableLock ignore = lock.closeableLock()) {
+        loadPrefetched();
+      } catch (IOException ioe) {
+        throw exceptionFactory.create("Error while streaming resultSet data", "08000", ioe);
+      }
+    }
+    super.close();
+  }
+
   @Override
   public boolean isAfterLast() throws SQLException {
     checkClose();
@@ -400,6 +563,7 @@ public class StreamingResult extends Result {
     // so fetch size when explicitly different from 0 is limited to 16K rows
     super.setFetchSize(Math.min(MAX_FETCH_SIZE, fetchSize));
     this.requestedFetchSize = fetchSize;
+    this.batchFetchSize = Math.min(MAX_FETCH_SIZE, fetchSize);
     checkClose();
     if (fetchSize == 0) {
       // fetch all results
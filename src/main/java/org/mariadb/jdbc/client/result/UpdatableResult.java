@@ -85,6 +85,12 @@ public class UpdatableResult extends CompleteResult {
     parameters = new ParameterList(metadataList.length);
   }
 
+  @Override
+  protected boolean canUseCompactStorage() {
+    // rows are added, changed and removed
+    return false;
+  }
+
   private void checkIfUpdatable() throws SQLException {
     isAutoincrementPk = false;
     canInsert = true;
@@ -1067,7 +1073,7 @@ public class UpdatableResult extends CompleteResult {
   private void resetToRowPointer() {
     rowPointer = savedRowPointer;
     if (rowPointer != BEFORE_FIRST_POS && rowPointer < dataSize - 1) {
-      setRow(data[rowPointer]);
+      setRowAt(rowPointer);
     } else {
       // all data are reads and pointer is after last
       setNullRowBuf();
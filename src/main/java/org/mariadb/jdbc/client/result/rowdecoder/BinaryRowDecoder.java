@@ -182,50 +182,35 @@ public class BinaryRowDecoder implements RowDecoder {
       final byte[] nullBitmap,
       final ColumnDecoder[] metadataList) {
 
-    if (fieldIndex.get() >= newIndex) {
-      fieldIndex.set(0);
-      rowBuf.pos(1);
-      rowBuf.readBytes(nullBitmap);
+    int currentIndex = fieldIndex.get();
+    if (currentIndex == -1) rowBuf.knownOffsets = 0;
+
+    if (newIndex < rowBuf.knownOffsets) {
+      // field already reached for this row
+      rowBuf.pos(rowBuf.fieldOffsets[newIndex]);
     } else {
-      fieldIndex.incrementAndGet();
-      if (fieldIndex.get() == 0) {
-        // skip header + null-bitmap
-        rowBuf.pos(1);
+      int[] offsets = rowBuf.fieldOffsets;
+      if (offsets == null || offsets.length < maxIndex) {
+        offsets = rowBuf.fieldOffsets = new int[maxIndex];
+      }
+      int known = rowBuf.knownOffsets;
+      if (known == 0) {
+        // skip header + read null-bitmap
+        rowBuf.pos(rowBuf.start + 1);
         rowBuf.readBytes(nullBitmap);
+      } else if (currentIndex != known - 1) {
+        // last known field is not the one just read: go past it
+        rowBuf.pos(offsets[known - 1]);
+        skipField(known - 1, rowBuf, nullBitmap, metadataList);
       }
-    }
-
-    while (fieldIndex.get() < newIndex) {
-      if ((nullBitmap[(fieldIndex.get() + 2) / 8] & (1 << ((fieldIndex.get() + 2) % 8))) == 0) {
-        // skip bytes
-        switch (metadataList[fieldIndex.get()].getType()) {
-          case BIGINT:
-          case DOUBLE:
-            rowBuf.skip(8);
-            break;
-
-          case INTEGER:
-          case MEDIUMINT:
-          case FLOAT:
-            rowBuf.skip(4);
-            break;
-
-          case SMALLINT:
-          case YEAR:
-            rowBuf.skip(2);
-            break;
-
-          case TINYINT:
-            rowBuf.skip(1);
-            break;
-
-          default:
-            rowBuf.skipLengthEncoded();
-            break;
-        }
+      for (; known < newIndex; known++) {
+        offsets[known] = rowBuf.pos;
+        skipField(known, rowBuf, nullBitmap, metadataList);
       }
-      fieldIndex.incrementAndGet();
+      offsets[newIndex] = rowBuf.pos;
+      rowBuf.knownOffsets = newIndex + 1;
     }
+    fieldIndex.set(newIndex);
 
     if ((nullBitmap[(fieldIndex.get() + 2) / 8] & (1 << ((fieldIndex.get() + 2) % 8))) > 0) {
       return NULL_LENGTH;
@@ -269,4 +254,38 @@ public class BinaryRowDecoder implements RowDecoder {
         }
     }
   }
+
+  private static void skipField(
+      final int index,
+      final StandardReadableByteBuf rowBuf,
+      final byte[] nullBitmap,
+      final ColumnDecoder[] metadataList) {
+    if ((nullBitmap[(index + 2) / 8] & (1 << ((index + 2) % 8))) == 0) {
+      switch (metadataList[index].getType()) {
+        case BIGINT:
+        case DOUBLE:
+          rowBuf.skip(8);
+          break;
+
+        case INTEGER:
+        case MEDIUMINT:
+        case FLOAT:
+          rowBuf.skip(4);
+          break;
+
+        case SMALLINT:
+        case YEAR:
+          rowBuf.skip(2);
+          break;
+
+        case TINYINT:
+          rowBuf.skip(1);
+          break;
+
+        default:
+          rowBuf.skipLengthEncoded();
+          break;
+      }
+    }
+  }
 }
@@ -29,6 +29,9 @@ public interface RowDecoder {
   /**
    * Position the read index on buffer to data at indicated index.
    *
+   * <p>Field start positions are recorded in row buffer while walking the row, so that a field
+   * already reached for the current row is accessed directly.
+   *
    * @param newIndex new data index
    * @param fieldIndex current field index
    * @param maxIndex maximum index
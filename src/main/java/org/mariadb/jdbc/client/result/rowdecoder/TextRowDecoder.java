@@ -168,17 +168,33 @@ public class TextRowDecoder implements RowDecoder {
       final StandardReadableByteBuf rowBuf,
       final byte[] nullBitmap,
       final ColumnDecoder[] metadataList) {
-    if (fieldIndex.get() >= newIndex) {
-      fieldIndex.set(0);
-      rowBuf.pos(0);
-    } else {
-      fieldIndex.incrementAndGet();
-    }
+    int currentIndex = fieldIndex.get();
+    if (currentIndex == -1) rowBuf.knownOffsets = 0;
 
-    while (fieldIndex.get() < newIndex) {
-      rowBuf.skipLengthEncoded();
-      fieldIndex.incrementAndGet();
+    if (newIndex < rowBuf.knownOffsets) {
+      // field already reached for this row
+      rowBuf.pos(rowBuf.fieldOffsets[newIndex]);
+    } else {
+      int[] offsets = rowBuf.fieldOffsets;
+      if (offsets == null || offsets.length < maxIndex) {
+        offsets = rowBuf.fieldOffsets = new int[maxIndex];
+      }
+      int known = rowBuf.knownOffsets;
+      if (known == 0) {
+        rowBuf.pos(rowBuf.start);
+      } else if (currentIndex != known - 1) {
+        // last known field is not the one just read: go past it
+        rowBuf.pos(offsets[known - 1]);
+        rowBuf.skipLengthEncoded();
+      }
+      for (; known < newIndex; known++) {
+        offsets[known] = rowBuf.pos;
+        rowBuf.skipLengthEncoded();
+      }
+      offsets[newIndex] = rowBuf.pos;
+      rowBuf.knownOffsets = newIndex + 1;
     }
+    fieldIndex.set(newIndex);
 
     byte len = rowBuf.buf[rowBuf.pos++];
     switch (len) {
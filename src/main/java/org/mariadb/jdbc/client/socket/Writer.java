@@ -4,6 +4,7 @@
 package org.mariadb.jdbc.client.socket;
 
 import java.io.IOException;
+import java.io.InputStream;
 import org.mariadb.jdbc.HostAddress;
 
 /** Packet Writer interface */
@@ -154,6 +155,15 @@ public interface Writer {
    */
   void writeEmptyPacket() throws IOException;
 
+  /**
+   * Send all stream data in packets, each packet filling write buffer (1M, less if
+   * max_allowed_packet is smaller). Ending empty packet is not sent.
+   *
+   * @param is stream to send
+   * @throws IOException if socket or stream error occur.
+   */
+  void writeStream(InputStream is) throws IOException;
+
   /**
    * Send packet to socket.
    *
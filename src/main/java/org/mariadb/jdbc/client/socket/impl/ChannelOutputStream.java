@@ -0,0 +1,125 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.client.socket.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Output stream writing to a non-blocking socket channel. Data are accumulated into direct buffers
+ * borrowed from {@link DirectBufferPool}, then sent with a single gathering write on flush (or when
+ * reaching {@link #MAX_BUFFERS} buffers). Buffers are given back to pool once sent.
+ *
+ * <p>Implementation doesn't use synchronized/semaphore because all used are already locked by
+ * connection Reentrant lock
+ */
+public class ChannelOutputStream extends OutputStream {
+
+  private static final int MAX_BUFFERS = 16;
+
+  private final SocketChannel channel;
+  private final ChannelSelector selector;
+  private final ByteBuffer[] buffers = new ByteBuffer[MAX_BUFFERS];
+  private int bufferCount;
+
+  /**
+   * Constructor
+   *
+   * @param channel non-blocking socket channel
+   * @param selector channel selector
+   */
+  public ChannelOutputStream(SocketChannel channel, ChannelSelector selector) {
+    this.channel = channel;
+    this.selector = selector;
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    write(new byte[] {(byte) b}, 0, 1);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    while (len > 0) {
+      ByteBuffer current = bufferCount == 0 ? null : buffers[bufferCount - 1];
+      if (current == null || !current.hasRemaining()) {
+        if (bufferCount == MAX_BUFFERS) writeBuffers();
+        current = DirectBufferPool.acquire();
+        buffers[bufferCount++] = current;
+      }
+      int count = Math.min(len, current.remaining());
+      current.put(b, off, count);
+      off += count;
+      len -= count;
+    }
+  }
+
+  @Override
+  public void flush() throws IOException {
+    writeBuffers();
+  }
+
+  /**
+   * Send file content after pending data, using kernel transfer.
+   *
+   * @param file file channel
+   * @param position file position
+   * @param count number of bytes to send
+   * @throws IOException if socket or file error occur, or if file is truncated during transfer
+   */
+  public void transferFrom(FileChannel file, long position, long count) throws IOException {
+    writeBuffers();
+    long end = position + count;
+    while (position < end) {
+      long transferred = file.transferTo(position, end - position, channel);
+      if (transferred == 0) {
+        if (position >= file.size()) {
+          throw new IOException("file truncated during transfer");
+        }
+        selector.awaitWrite();
+      }
+      position += transferred;
+    }
+  }
+
+  private void writeBuffers() throws IOException {
+    if (bufferCount == 0) return;
+    try {
+      for (int i = 0; i < bufferCount; i++) {
+        ((Buffer) buffers[i]).flip();
+      }
+      int index = 0;
+      while (index < bufferCount) {
+        long written = channel.write(buffers, index, bufferCount - index);
+        while (index < bufferCount && !buffers[index].hasRemaining()) {
+          index++;
+        }
+        if (written == 0 && index < bufferCount) {
+          selector.awaitWrite();
+        }
+      }
+    } finally {
+      releaseBuffers();
+    }
+  }
+
+  private void releaseBuffers() {
+    for (int i = 0; i < bufferCount; i++) {
+      DirectBufferPool.release(buffers[i]);
+      buffers[i] = null;
+    }
+    bufferCount = 0;
+  }
+
+  @Override
+  public void close() throws IOException {
+    // buffers are not given back to pool, since close might be called by another thread
+    // (connection abort) while data are being written
+    channel.close();
+  }
+}
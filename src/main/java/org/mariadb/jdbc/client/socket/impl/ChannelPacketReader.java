@@ -0,0 +1,103 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.client.socket.impl;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import org.mariadb.jdbc.Configuration;
+import org.mariadb.jdbc.client.util.MutableByte;
+
+/**
+ * Packet reader using a non-blocking socket channel. Socket data are read into a direct buffer
+ * borrowed from {@link DirectBufferPool}, buffer being given back to pool as soon as all read data
+ * have been consumed.
+ *
+ * <p>Implementation doesn't use synchronized/semaphore because all used are already locked by
+ * connection Reentrant lock
+ */
+public class ChannelPacketReader extends PacketReader {
+
+  private final SocketChannel channel;
+  private final ChannelSelector selector;
+  private ByteBuffer buffer;
+
+  /**
+   * Constructor of socket channel MySQL packet reader.
+   *
+   * @param channel non-blocking socket channel
+   * @param selector channel selector
+   * @param conf connection options
+   * @param sequence current increment sequence
+   */
+  public ChannelPacketReader(
+      SocketChannel channel, ChannelSelector selector, Configuration conf, MutableByte sequence) {
+    super(null, conf, sequence);
+    this.channel = channel;
+    this.selector = selector;
+  }
+
+  @Override
+  protected int read(byte[] buf, int off, int len) throws IOException {
+    if (len == 0) return 0;
+    if (buffer == null && !fill()) return -1;
+
+    int count = Math.min(len, buffer.remaining());
+    buffer.get(buf, off, count);
+    releaseIfConsumed();
+    return count;
+  }
+
+  @Override
+  protected long skip(long len) throws IOException {
+    if (len <= 0) return 0;
+    if (buffer == null && !fill()) return 0;
+
+    int count = (int) Math.min(len, buffer.remaining());
+    ((Buffer) buffer).position(buffer.position() + count);
+    releaseIfConsumed();
+    return count;
+  }
+
+  /**
+   * Fill buffer with available socket data, waiting for data if none is available.
+   *
+   * @return false if end of stream has been reached
+   * @throws IOException if socket error occurs or socket timeout is reached
+   */
+  private boolean fill() throws IOException {
+    buffer = DirectBufferPool.acquire();
+    try {
+      int count;
+      while ((count = channel.read(buffer)) == 0) {
+        selector.awaitRead();
+      }
+      if (count < 0) {
+        DirectBufferPool.release(buffer);
+        buffer = null;
+        return false;
+      }
+    } catch (IOException e) {
+      DirectBufferPool.release(buffer);
+      buffer = null;
+      throw e;
+    }
+    ((Buffer) buffer).flip();
+    return true;
+  }
+
+  private void releaseIfConsumed() {
+    if (!buffer.hasRemaining()) {
+      DirectBufferPool.release(buffer);
+      buffer = null;
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    selector.close();
+    channel.close();
+  }
+}
@@ -0,0 +1,88 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.client.socket.impl;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Wait for a non-blocking socket channel readiness, respecting socket SO_TIMEOUT for reads like
+ * blocking socket streams do. Selector is only opened the first time channel has to wait.
+ */
+public class ChannelSelector {
+
+  private final SocketChannel channel;
+  private volatile Selector selector;
+  private SelectionKey key;
+
+  /**
+   * Constructor
+   *
+   * @param channel non-blocking socket channel
+   */
+  public ChannelSelector(SocketChannel channel) {
+    this.channel = channel;
+  }
+
+  /**
+   * Wait until channel is readable.
+   *
+   * @throws SocketTimeoutException if socket timeout is reached
+   * @throws IOException if channel is closed or any selector error occurs
+   */
+  public void awaitRead() throws IOException {
+    await(SelectionKey.OP_READ, channel.socket().getSoTimeout());
+  }
+
+  /**
+   * Wait until channel is writable.
+   *
+   * @throws IOException if channel is closed or any selector error occurs
+   */
+  public void awaitWrite() throws IOException {
+    await(SelectionKey.OP_WRITE, 0);
+  }
+
+  private void await(int ops, int timeout) throws IOException {
+    try {
+      if (selector == null) {
+        selector = Selector.open();
+        key = channel.register(selector, ops);
+      } else {
+        key.interestOps(ops);
+      }
+
+      long deadline = timeout > 0 ? System.nanoTime() + timeout * 1_000_000L : 0;
+      while (selector.select(timeout) == 0) {
+        if (!channel.isOpen()) throw new ClosedChannelException();
+        if (timeout > 0) {
+          long remaining = (deadline - System.nanoTime()) / 1_000_000L;
+          if (remaining <= 0) throw new SocketTimeoutException("Read timed out");
+          timeout = (int) remaining;
+        }
+      }
+      selector.selectedKeys().clear();
+    } catch (ClosedSelectorException | CancelledKeyException e) {
+      throw new ClosedChannelException();
+    }
+  }
+
+  /** Close selector, waking up thread waiting for channel if any. */
+  public void close() {
+    Selector sel = selector;
+    if (sel != null) {
+      try {
+        sel.close();
+      } catch (IOException e) {
+        // eat
+      }
+    }
+  }
+}
@@ -13,12 +13,20 @@ import org.mariadb.jdbc.client.util.MutableByte;
 /**
  * Compression handler, permitting decompression of mysql packet if needed. When compression is set,
  * using a 7 byte header to identify is packet is compressed or not.
+ *
+ * <p>A single {@link Inflater} is used for the connection lifetime, native zlib state being
+ * released on close.
  */
 public class CompressInputStream extends InputStream {
+  private static final int SMALL_BUFFER_SIZE = 8192;
+  private static final int MAX_RETAINED_BUFFER_SIZE = 131072;
+
   private final InputStream in;
   private final MutableByte sequence;
+  private final Inflater inflater = new Inflater();
 
   private final byte[] header = new byte[7];
+  private byte[] compressedBuf = new byte[SMALL_BUFFER_SIZE];
 
   private int end;
   private int pos;
@@ -128,7 +136,16 @@ public class CompressInputStream extends InputStream {
     int packetLength = (header[4] & 0xff) + ((header[5] & 0xff) << 8) + ((header[6] & 0xff) << 16);
     boolean compressed = (packetLength != 0);
     remaining = compressedPacketLength;
-    byte[] intermediaryBuf = new byte[remaining];
+    byte[] intermediaryBuf;
+    if (compressed) {
+      // compressed data are only used for inflating, so buffer can be reused
+      if (compressedBuf.length < remaining) {
+        compressedBuf = new byte[remaining];
+      }
+      intermediaryBuf = compressedBuf;
+    } else {
+      intermediaryBuf = new byte[remaining];
+    }
 
     // ***************************************************
     // Read content
@@ -151,9 +168,9 @@ public class CompressInputStream extends InputStream {
 
     if (compressed) {
       buf = new byte[packetLength];
-      Inflater inflater = new Inflater();
-      inflater.setInput(intermediaryBuf);
       try {
+        inflater.reset();
+        inflater.setInput(intermediaryBuf, 0, compressedPacketLength);
         int actualUncompressBytes = inflater.inflate(buf);
         if (actualUncompressBytes != packetLength) {
           throw new IOException(
@@ -164,8 +181,13 @@ public class CompressInputStream extends InputStream {
         }
       } catch (DataFormatException dfe) {
         throw new IOException(dfe);
+      } catch (NullPointerException npe) {
+        // inflater ended by a concurrent close (connection abort)
+        throw new IOException("Compression stream closed", npe);
+      }
+      if (compressedBuf.length > MAX_RETAINED_BUFFER_SIZE) {
+        compressedBuf = new byte[SMALL_BUFFER_SIZE];
       }
-      inflater.end();
       end = packetLength;
     } else {
       buf = intermediaryBuf;
@@ -232,7 +254,11 @@ public class CompressInputStream extends InputStream {
    */
   @Override
   public void close() throws IOException {
-    in.close();
+    try {
+      in.close();
+    } finally {
+      inflater.end();
+    }
   }
 
   /**
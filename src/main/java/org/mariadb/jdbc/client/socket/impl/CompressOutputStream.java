@@ -3,23 +3,43 @@
 // Copyright (c) 2015-2025 MariaDB Corporation Ab
 package org.mariadb.jdbc.client.socket.impl;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.util.zip.DeflaterOutputStream;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import org.mariadb.jdbc.Configuration;
 import org.mariadb.jdbc.client.util.MutableByte;
 
 /**
  * Compression writer handler Permit to wrap standard packet to compressed packet ( 7 byte header).
- * Driver will compress packet only if packet size is meaningful (1536 bytes) &gt; to one TCP
- * packet.
+ * Driver will compress packet only if packet size is meaningful (default 1536 bytes) &gt; to one
+ * TCP packet, and if compressed data are actually smaller than raw data.
+ *
+ * <p>A single {@link Deflater} is used for the connection lifetime, native zlib state being
+ * released on close.
+ *
+ * <p>When adaptive compression is enabled, after {@link #POOR_RATIO_THRESHOLD} consecutive packets
+ * with a poor compression ratio, the next {@link #SKIPPED_PACKETS} packets are sent uncompressed.
  */
 public class CompressOutputStream extends OutputStream {
   private static final int MIN_COMPRESSION_SIZE = 1536; // TCP-IP single packet
+  private static final int DEFAULT_COMPRESSION_LEVEL = 6;
+  private static final int MAX_PACKET_LENGTH = 0x00ffffff;
+  private static final int SMALL_BUFFER_SIZE = 8192;
+  private static final int MAX_RETAINED_BUFFER_SIZE = 131072;
+  private static final int POOR_RATIO_THRESHOLD = 4;
+  private static final int SKIPPED_PACKETS = 32;
+
   private final OutputStream out;
   private final MutableByte sequence;
   private final byte[] header = new byte[7];
+  private final Deflater deflater;
+  private final int minCompressionSize;
+  private final boolean adaptive;
+  private byte[] compressBuf = new byte[SMALL_BUFFER_SIZE];
   private byte[] longPacketBuffer = null;
+  private int poorRatioCount;
+  private int skipCount;
 
   /**
    * Constructor.
@@ -28,8 +48,37 @@ public class CompressOutputStream extends OutputStream {
    * @param compressionSequence compression sequence
    */
   public CompressOutputStream(OutputStream out, MutableByte compressionSequence) {
+    this(out, compressionSequence, DEFAULT_COMPRESSION_LEVEL, MIN_COMPRESSION_SIZE, false);
+  }
+
+  /**
+   * Constructor using connection compression options.
+   *
+   * @param out socket output stream
+   * @param compressionSequence compression sequence
+   * @param conf configuration
+   */
+  public CompressOutputStream(
+      OutputStream out, MutableByte compressionSequence, Configuration conf) {
+    this(
+        out,
+        compressionSequence,
+        conf.compressionLevel(),
+        conf.compressionMinSize(),
+        conf.compressionAdaptive());
+  }
+
+  private CompressOutputStream(
+      OutputStream out,
+      MutableByte compressionSequence,
+      int compressionLevel,
+      int minCompressionSize,
+      boolean adaptive) {
     this.out = out;
     this.sequence = compressionSequence;
+    this.deflater = new Deflater(compressionLevel);
+    this.minCompressionSize = minCompressionSize;
+    this.adaptive = adaptive;
   }
 
   /**
@@ -57,85 +106,114 @@ public class CompressOutputStream extends OutputStream {
    */
   @Override
   public void write(byte[] b, int off, int len) throws IOException {
-    if (len + ((longPacketBuffer != null) ? longPacketBuffer.length : 0) < MIN_COMPRESSION_SIZE) {
-      // *******************************************************************************
-      // small packet, no compression
-      // *******************************************************************************
-
-      if (longPacketBuffer != null) {
-        header[0] = (byte) (len + longPacketBuffer.length);
-        header[1] = (byte) ((len + longPacketBuffer.length) >>> 8);
-        header[2] = 0;
-        header[3] = sequence.incrementAndGet();
-        header[4] = 0;
-        header[5] = 0;
-        header[6] = 0;
-        out.write(header, 0, 7);
-        out.write(longPacketBuffer, 0, longPacketBuffer.length);
-        out.write(b, off, len);
-        longPacketBuffer = null;
-        return;
-      }
+    /*
+     * For multi packet, len will be 0x00ffffff + 4 bytes for header. but compressed packet can only
+     * contain up to 0x00ffffff bytes (header initial length size cannot be > 3 bytes) so, for this
+     * specific case, a buffer will save remaining data
+     */
+    byte[] pending = longPacketBuffer;
+    int pendingLen = pending == null ? 0 : pending.length;
+    longPacketBuffer = null;
 
-      header[0] = (byte) len;
-      header[1] = (byte) (len >>> 8);
-      header[2] = 0;
-      header[3] = sequence.incrementAndGet();
-      header[4] = 0;
-      header[5] = 0;
-      header[6] = 0;
-      out.write(header, 0, 7);
-      out.write(b, off, len);
+    int bufLenSent = Math.min(MAX_PACKET_LENGTH - pendingLen, len);
+    if (bufLenSent < len) {
+      longPacketBuffer = Arrays.copyOfRange(b, off + bufLenSent, off + len);
+    }
+    int packetLength = pendingLen + bufLenSent;
 
-    } else {
+    if (packetLength >= minCompressionSize && compressionEnabled()) {
       // *******************************************************************************
       // compressing packet
       // *******************************************************************************
-      int sent = 0;
-      try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-        try (DeflaterOutputStream deflater = new DeflaterOutputStream(baos)) {
-
-          /**
-           * For multi packet, len will be 0x00ffffff + 4 bytes for header. but compression can only
-           * compress up to 0x00ffffff bytes (header initial length size cannot be > 3 bytes) so,
-           * for this specific case, a buffer will save remaining data
-           */
-          if (longPacketBuffer != null) {
-            deflater.write(longPacketBuffer, 0, longPacketBuffer.length);
-            sent = longPacketBuffer.length;
-            longPacketBuffer = null;
-          }
-          if (len + sent > 0x00ffffff) {
-            int remaining = len + sent - 0x00ffffff;
-            longPacketBuffer = new byte[remaining];
-            System.arraycopy(b, off + 0x00ffffff - sent, longPacketBuffer, 0, remaining);
-          }
-
-          int bufLenSent = Math.min(0x00ffffff - sent, len);
-          deflater.write(b, off, bufLenSent);
-          sent += bufLenSent;
-          deflater.finish();
+      int compressLen = deflate(pending, pendingLen, b, off, bufLenSent, packetLength);
+      if (adaptive) recordRatio(compressLen, packetLength);
+      if (compressLen > 0) {
+        writeHeader(compressLen, packetLength);
+        out.write(compressBuf, 0, compressLen);
+        if (compressBuf.length > MAX_RETAINED_BUFFER_SIZE) {
+          compressBuf = new byte[SMALL_BUFFER_SIZE];
         }
+        return;
+      }
+    }
 
-        byte[] compressedBytes = baos.toByteArray();
+    // *******************************************************************************
+    // small or incompressible packet, no compression
+    // *******************************************************************************
+    writeHeader(packetLength, 0);
+    if (pending != null) out.write(pending, 0, pendingLen);
+    out.write(b, off, bufLenSent);
+  }
 
-        int compressLen = compressedBytes.length;
+  private boolean compressionEnabled() {
+    if (skipCount > 0) {
+      skipCount--;
+      return false;
+    }
+    return true;
+  }
 
-        header[0] = (byte) compressLen;
-        header[1] = (byte) (compressLen >>> 8);
-        header[2] = (byte) (compressLen >>> 16);
-        header[3] = sequence.incrementAndGet();
-        header[4] = (byte) sent;
-        header[5] = (byte) (sent >>> 8);
-        header[6] = (byte) (sent >>> 16);
+  private void recordRatio(int compressLen, int packetLength) {
+    // poor ratio: compression saves less than 10%
+    if (compressLen < 0 || compressLen * 10L > packetLength * 9L) {
+      if (++poorRatioCount >= POOR_RATIO_THRESHOLD) {
+        poorRatioCount = 0;
+        skipCount = SKIPPED_PACKETS;
+      }
+    } else {
+      poorRatioCount = 0;
+    }
+  }
 
-        out.write(header, 0, 7);
-        out.write(compressedBytes, 0, compressLen);
-        out.flush();
+  /**
+   * Compress data into compressBuf.
+   *
+   * @return compressed length, or -1 if compressed data would not be smaller than raw data
+   * @throws IOException if stream has been closed
+   */
+  private int deflate(byte[] pending, int pendingLen, byte[] b, int off, int len, int packetLength)
+      throws IOException {
+    try {
+      deflater.reset();
+      int compressLen = 0;
+      if (pendingLen > 0) {
+        deflater.setInput(pending, 0, pendingLen);
+        while (!deflater.needsInput()) {
+          if ((compressLen = deflateChunk(compressLen, packetLength)) < 0) return -1;
+        }
+      }
+      deflater.setInput(b, off, len);
+      deflater.finish();
+      while (!deflater.finished()) {
+        if ((compressLen = deflateChunk(compressLen, packetLength)) < 0) return -1;
       }
+      return compressLen < packetLength ? compressLen : -1;
+    } catch (NullPointerException npe) {
+      // deflater ended by a concurrent close (connection abort)
+      throw new IOException("Compression stream closed", npe);
     }
   }
 
+  private int deflateChunk(int compressLen, int packetLength) {
+    if (compressLen == compressBuf.length) {
+      if (compressLen >= packetLength) return -1;
+      compressBuf = Arrays.copyOf(compressBuf, Math.min(compressLen * 2, packetLength));
+    }
+    return compressLen
+        + deflater.deflate(compressBuf, compressLen, compressBuf.length - compressLen);
+  }
+
+  private void writeHeader(int length, int uncompressedLength) throws IOException {
+    header[0] = (byte) length;
+    header[1] = (byte) (length >>> 8);
+    header[2] = (byte) (length >>> 16);
+    header[3] = sequence.incrementAndGet();
+    header[4] = (byte) uncompressedLength;
+    header[5] = (byte) (uncompressedLength >>> 8);
+    header[6] = (byte) (uncompressedLength >>> 16);
+    out.write(header, 0, 7);
+  }
+
   /**
    * Flushes this output stream and forces any buffered output bytes to be written out. The general
    * contract of <code>flush</code> is that calling it is an indication that, if any bytes
@@ -173,7 +251,11 @@ public class CompressOutputStream extends OutputStream {
    */
   @Override
   public void close() throws IOException {
-    out.close();
+    try {
+      out.close();
+    } finally {
+      deflater.end();
+    }
   }
 
   /**
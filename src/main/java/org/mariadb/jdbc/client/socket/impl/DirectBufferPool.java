@@ -0,0 +1,66 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.client.socket.impl;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * JVM-wide pool of direct buffers used by socket channel transport. Connections borrow buffers only
+ * while data is in transit, so idle connections don't retain any socket buffer.
+ */
+public final class DirectBufferPool {
+
+  /** pooled buffer size */
+  public static final int BUFFER_SIZE = 16384;
+
+  /** maximum number of buffers kept in pool (16M) */
+  private static final int MAX_POOLED_BUFFERS = 1024;
+
+  private static final ConcurrentLinkedQueue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+  private static final AtomicInteger pooled = new AtomicInteger();
+
+  private DirectBufferPool() {}
+
+  /**
+   * Borrow a cleared direct buffer of {@link #BUFFER_SIZE} capacity.
+   *
+   * @return direct buffer
+   */
+  public static ByteBuffer acquire() {
+    ByteBuffer buf = buffers.poll();
+    if (buf == null) {
+      return ByteBuffer.allocateDirect(BUFFER_SIZE);
+    }
+    pooled.decrementAndGet();
+    // called on Buffer, binary compatible with a Java 8 runtime
+    ((Buffer) buf).clear();
+    return buf;
+  }
+
+  /**
+   * Give back a buffer to pool. Buffer is dropped if pool already contains the maximum number of
+   * buffers.
+   *
+   * @param buf buffer to release
+   */
+  public static void release(ByteBuffer buf) {
+    if (pooled.incrementAndGet() <= MAX_POOLED_BUFFERS) {
+      buffers.offer(buf);
+    } else {
+      pooled.decrementAndGet();
+    }
+  }
+
+  /**
+   * Current number of idle buffers in pool.
+   *
+   * @return idle buffer number
+   */
+  public static int size() {
+    return pooled.get();
+  }
+}
@@ -6,6 +6,8 @@ package org.mariadb.jdbc.client.socket.impl;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 import org.mariadb.jdbc.Configuration;
 import org.mariadb.jdbc.HostAddress;
 import org.mariadb.jdbc.client.ReadableByteBuf;
@@ -21,6 +23,7 @@ public class PacketReader implements Reader {
 
   private static final int REUSABLE_BUFFER_LENGTH = 1024;
   private static final int MAX_PACKET_SIZE = 0xffffff;
+  private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
   private static final Logger logger = Loggers.getLogger(PacketReader.class);
   private final byte[] header = new byte[4];
   private final byte[] reusableArray = new byte[REUSABLE_BUFFER_LENGTH];
@@ -59,7 +62,7 @@ public class PacketReader implements Reader {
     int remaining = 4;
     int off = 0;
     do {
-      int count = inputStream.read(header, off, remaining);
+      int count = read(header, off, remaining);
       if (count < 0) {
         throw new EOFException(
             "unexpected end of stream, read "
@@ -88,7 +91,7 @@ public class PacketReader implements Reader {
     remaining = lastPacketLength;
     off = 0;
     do {
-      int count = inputStream.read(rawBytes, off, remaining);
+      int count = read(rawBytes, off, remaining);
       if (count < 0) {
         throw new EOFException(
             "unexpected end of stream, read "
@@ -127,7 +130,7 @@ public class PacketReader implements Reader {
     int remaining = 4;
     int off = 0;
     do {
-      int count = inputStream.read(header, off, remaining);
+      int count = read(header, off, remaining);
       if (count < 0) {
         throw new EOFException(
             "unexpected end of stream, read "
@@ -150,7 +153,7 @@ public class PacketReader implements Reader {
     remaining = lastPacketLength;
     off = 0;
     do {
-      int count = inputStream.read(rawBytes, off, remaining);
+      int count = read(rawBytes, off, remaining);
       if (count < 0) {
         throw new EOFException(
             "unexpected end of stream, read "
@@ -171,15 +174,20 @@ public class PacketReader implements Reader {
     }
 
     // ***************************************************
-    // In case content length is big, content will be separate in many 16Mb packets
+    // In case content length is big, content will be separate in many 16Mb packets.
+    // Each packet content is read in its own segment, segments being assembled once in an array of
+    // the exact total length, so reading is linear in time and memory whatever payload size.
     // ***************************************************
     if (lastPacketLength == MAX_PACKET_SIZE) {
+      List<byte[]> segments = new ArrayList<>();
+      segments.add(rawBytes);
+      long totalLength = lastPacketLength;
       int packetLength;
       do {
         remaining = 4;
         off = 0;
         do {
-          int count = inputStream.read(header, off, remaining);
+          int count = read(header, off, remaining);
           if (count < 0) {
             throw new EOFException("unexpected end of stream, read " + off + " bytes from 4");
           }
@@ -188,19 +196,15 @@ public class PacketReader implements Reader {
         } while (remaining > 0);
 
         packetLength = (header[0] & 0xff) + ((header[1] & 0xff) << 8) + ((header[2] & 0xff) << 16);
-
-        int currentbufLength = rawBytes.length;
-        byte[] newRawBytes = new byte[currentbufLength + packetLength];
-        System.arraycopy(rawBytes, 0, newRawBytes, 0, currentbufLength);
-        rawBytes = newRawBytes;
+        byte[] segment = new byte[packetLength];
 
         // ***************************************************
         // Read content
         // ***************************************************
         remaining = packetLength;
-        off = currentbufLength;
+        off = 0;
         do {
-          int count = inputStream.read(rawBytes, off, remaining);
+          int count = read(segment, off, remaining);
           if (count < 0) {
             throw new EOFException(
                 "unexpected end of stream, read "
@@ -216,12 +220,23 @@ public class PacketReader implements Reader {
           logger.trace(
               "read: {}\n{}",
               serverThreadLog,
-              LoggerHelper.hex(
-                  header, rawBytes, currentbufLength, packetLength, maxQuerySizeToLog));
+              LoggerHelper.hex(header, segment, 0, packetLength, maxQuerySizeToLog));
         }
 
-        lastPacketLength += packetLength;
+        segments.add(segment);
+        totalLength += packetLength;
       } while (packetLength == MAX_PACKET_SIZE);
+
+      if (totalLength > MAX_ARRAY_LENGTH) {
+        throw new IOException(
+            "Packet of " + totalLength + " bytes exceed maximum java array length");
+      }
+      rawBytes = new byte[(int) totalLength];
+      off = 0;
+      for (byte[] segment : segments) {
+        System.arraycopy(segment, 0, rawBytes, off, segment.length);
+        off += segment.length;
+      }
     }
 
     return rawBytes;
@@ -239,7 +254,7 @@ public class PacketReader implements Reader {
     int remaining = 4;
     int off = 0;
     do {
-      int count = inputStream.read(header, off, remaining);
+      int count = read(header, off, remaining);
       if (count < 0) {
         throw new EOFException(
             "unexpected end of stream, read "
@@ -255,7 +270,7 @@ public class PacketReader implements Reader {
 
     remaining = lastPacketLength;
     do {
-      remaining -= (int) inputStream.skip(remaining);
+      remaining -= (int) skip(remaining);
     } while (remaining > 0);
 
     // ***************************************************
@@ -267,7 +282,7 @@ public class PacketReader implements Reader {
         remaining = 4;
         off = 0;
         do {
-          int count = inputStream.read(header, off, remaining);
+          int count = read(header, off, remaining);
           if (count < 0) {
             throw new EOFException("unexpected end of stream, read " + off + " bytes from 4");
           }
@@ -279,7 +294,7 @@ public class PacketReader implements Reader {
 
         remaining = packetLength;
         do {
-          remaining -= (int) inputStream.skip(remaining);
+          remaining -= (int) skip(remaining);
         } while (remaining > 0);
 
         lastPacketLength += packetLength;
@@ -287,6 +302,30 @@ public class PacketReader implements Reader {
     }
   }
 
+  /**
+   * Read up to len bytes from socket. At least one byte is read, blocking if needed.
+   *
+   * @param buf destination array
+   * @param off offset
+   * @param len maximum number of bytes to read
+   * @return number of bytes read, or -1 if end of stream has been reached
+   * @throws IOException if socket exception occur.
+   */
+  protected int read(byte[] buf, int off, int len) throws IOException {
+    return inputStream.read(buf, off, len);
+  }
+
+  /**
+   * Skip bytes from socket.
+   *
+   * @param len number of bytes to skip
+   * @return number of bytes skipped
+   * @throws IOException if socket exception occur.
+   */
+  protected long skip(long len) throws IOException {
+    return inputStream.skip(len);
+  }
+
   public MutableByte getSequence() {
     return sequence;
   }
@@ -3,8 +3,11 @@
 // Copyright (c) 2015-2025 MariaDB Corporation Ab
 package org.mariadb.jdbc.client.socket.impl;
 
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import org.mariadb.jdbc.HostAddress;
@@ -27,9 +30,9 @@ public class PacketWriter implements Writer {
   private static final byte DBL_QUOTE = (byte) '"';
   private static final byte ZERO_BYTE = (byte) '\0';
   private static final byte BACKSLASH = (byte) '\\';
-  private static final int MEDIUM_BUFFER_SIZE = 128 * 1024;
-  private static final int LARGE_BUFFER_SIZE = 1024 * 1024;
-  private static final int MAX_PACKET_LENGTH = 0x00ffffff + 4;
+  private static final int MEDIUM_BUFFER_SIZE = WriteBufferPool.MEDIUM_BUFFER_SIZE;
+  private static final int LARGE_BUFFER_SIZE = WriteBufferPool.LARGE_BUFFER_SIZE;
+  private static final int MAX_PACKET_LENGTH = WriteBufferPool.MAX_BUFFER_SIZE;
 
   /** packet sequence */
   protected final MutableByte sequence;
@@ -45,6 +48,12 @@ public class PacketWriter implements Writer {
   /** internal buffer */
   protected byte[] buf;
 
+  /** initial buffer, kept for connection lifetime. Bigger buffers are borrowed from pool */
+  private final byte[] smallBuf;
+
+  /** must bigger buffers be borrowed from pool (not for temporary writer without socket) */
+  private final boolean useBufferPool;
+
   /** buffer position */
   protected int pos = 4;
 
@@ -70,7 +79,9 @@ public class PacketWriter implements Writer {
       MutableByte sequence,
       MutableByte compressSequence) {
     this.out = out;
-    this.buf = new byte[SMALL_BUFFER_SIZE];
+    this.smallBuf = new byte[SMALL_BUFFER_SIZE];
+    this.buf = smallBuf;
+    this.useBufferPool = out != null;
     this.maxQuerySizeToLog = maxQuerySizeToLog;
     this.cmdLength = 0;
     this.sequence = sequence;
@@ -676,11 +687,21 @@ public class PacketWriter implements Writer {
       return;
     }
 
-    byte[] newBuf = new byte[newCapacity];
+    byte[] newBuf =
+        useBufferPool ? WriteBufferPool.getInstance().acquire(newCapacity) : new byte[newCapacity];
     System.arraycopy(buf, 0, newBuf, 0, pos);
+    releaseBuffer();
     buf = newBuf;
   }
 
+  /** Give back borrowed buffer to pool, if any, using initial buffer again. */
+  private void releaseBuffer() {
+    if (buf != smallBuf) {
+      if (useBufferPool) WriteBufferPool.getInstance().release(buf);
+      buf = smallBuf;
+    }
+  }
+
   /**
    * Send empty packet.
    *
@@ -702,6 +723,58 @@ public class PacketWriter implements Writer {
     cmdLength = 0;
   }
 
+  /**
+   * Send all stream data in packets. Stream is read directly into write buffer, each packet filling
+   * a 1M buffer (less if max_allowed_packet is smaller). When stream is a file and socket a plain
+   * channel, file content is transferred to socket by kernel without being copied to java heap.
+   *
+   * @param is stream to send
+   * @throws IOException if socket or stream error occur.
+   */
+  public void writeStream(InputStream is) throws IOException {
+    int packetLength = LARGE_BUFFER_SIZE - 4;
+    while (maxAllowedPacket != null && packetLength > 1024 && packetLength >= maxAllowedPacket) {
+      packetLength /= 2;
+    }
+
+    if (out instanceof ChannelOutputStream && is instanceof FileInputStream) {
+      FileChannel file = ((FileInputStream) is).getChannel();
+      long position = file.position();
+      long end = file.size();
+      while (position < end) {
+        int len = (int) Math.min(packetLength, end - position);
+        buf[0] = (byte) len;
+        buf[1] = (byte) (len >>> 8);
+        buf[2] = (byte) (len >>> 16);
+        buf[3] = this.sequence.incrementAndGet();
+        out.write(buf, 0, 4);
+        ((ChannelOutputStream) out).transferFrom(file, position, len);
+        position += len;
+        if (logger.isTraceEnabled()) {
+          logger.trace("send: content length={} {} com=<file>", len, serverThreadLog);
+        }
+      }
+      // file might have grown: remaining data are sent using standard stream reading
+      file.position(position);
+    }
+
+    pos = 4;
+    if (buf.length < packetLength + 4) growBuffer(packetLength);
+    int len;
+    while ((len = is.read(buf, pos, packetLength + 4 - pos)) > 0) {
+      pos += len;
+      if (pos == packetLength + 4) {
+        writeSocket(true);
+        // each packet is checked against max_allowed_packet independently
+        cmdLength = 0;
+      }
+    }
+    writeSocket(true);
+    releaseBuffer();
+    pos = 4;
+    cmdLength = 0;
+  }
+
   /**
    * Send packet to socket.
    *
@@ -710,11 +783,8 @@ public class PacketWriter implements Writer {
   public void flush() throws IOException {
     writeSocket(true);
 
-    // if buf is big, and last query doesn't use at least half of it, resize buf to default
-    // value
-    if (buf.length > SMALL_BUFFER_SIZE && cmdLength * 2 < buf.length) {
-      buf = new byte[SMALL_BUFFER_SIZE];
-    }
+    // command is sent, big buffer is given back to pool
+    releaseBuffer();
 
     pos = 4;
     cmdLength = 0;
@@ -724,11 +794,8 @@ public class PacketWriter implements Writer {
   public void flushPipeline() throws IOException {
     writeSocket(false);
 
-    // if buf is big, and last query doesn't use at least half of it, resize buf to default
-    // value
-    if (buf.length > SMALL_BUFFER_SIZE && cmdLength * 2 < buf.length) {
-      buf = new byte[SMALL_BUFFER_SIZE];
-    }
+    // command is sent, big buffer is given back to pool
+    releaseBuffer();
 
     pos = 4;
     cmdLength = 0;
@@ -832,6 +899,8 @@ public class PacketWriter implements Writer {
   public void initPacket() {
     sequence.set((byte) -1);
     compressSequence.set((byte) -1);
+    // buffer might still be borrowed if previous command failed
+    releaseBuffer();
     pos = 4;
     cmdLength = 0;
   }
@@ -0,0 +1,148 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.client.socket.impl;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * JVM-wide pool of large write buffers. Connections borrow a buffer bigger than their initial 8K
+ * buffer only for the duration of a command, and give it back once command is sent, so heap usage
+ * depends on the number of concurrent large commands, not on the number of connections.
+ *
+ * <p>Buffers are kept in slabs of fixed size ({@link #MEDIUM_BUFFER_SIZE}, {@link
+ * #LARGE_BUFFER_SIZE} and {@link #MAX_BUFFER_SIZE}), idle buffers being limited to {@link
+ * #MAX_POOLED_BYTES} bytes in total.
+ */
+public final class WriteBufferPool implements WriteBufferPoolMBean {
+
+  /** medium buffer size */
+  public static final int MEDIUM_BUFFER_SIZE = 128 * 1024;
+
+  /** large buffer size */
+  public static final int LARGE_BUFFER_SIZE = 1024 * 1024;
+
+  /** maximum buffer size: packet max length + packet header */
+  public static final int MAX_BUFFER_SIZE = 0x00ffffff + 4;
+
+  /** maximum size of idle buffers kept in pool */
+  private static final long MAX_POOLED_BYTES = 64L * 1024 * 1024;
+
+  private static final WriteBufferPool INSTANCE = new WriteBufferPool();
+
+  private final ConcurrentLinkedQueue<byte[]> mediumBuffers = new ConcurrentLinkedQueue<>();
+  private final ConcurrentLinkedQueue<byte[]> largeBuffers = new ConcurrentLinkedQueue<>();
+  private final ConcurrentLinkedQueue<byte[]> maxBuffers = new ConcurrentLinkedQueue<>();
+  private final AtomicLong pooledBytes = new AtomicLong();
+  private final AtomicLong borrowedBytes = new AtomicLong();
+  private final AtomicLong borrowingConnections = new AtomicLong();
+  private final AtomicLong borrowCount = new AtomicLong();
+  private final AtomicLong allocationCount = new AtomicLong();
+
+  private WriteBufferPool() {}
+
+  /**
+   * Get JVM-wide write buffer pool
+   *
+   * @return write buffer pool
+   */
+  public static WriteBufferPool getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Register pool JMX bean if not already registered
+   *
+   * @throws Exception if registration fails
+   */
+  public static void registerJmx() throws Exception {
+    MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+    ObjectName name = new ObjectName("org.mariadb.jdbc:type=WriteBufferPool");
+    if (!mbs.isRegistered(name)) {
+      mbs.registerMBean(INSTANCE, name);
+    }
+  }
+
+  private ConcurrentLinkedQueue<byte[]> slab(int size) {
+    switch (size) {
+      case MEDIUM_BUFFER_SIZE:
+        return mediumBuffers;
+      case LARGE_BUFFER_SIZE:
+        return largeBuffers;
+      case MAX_BUFFER_SIZE:
+        return maxBuffers;
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Borrow a buffer. Buffer content is not initialized.
+   *
+   * @param size buffer size
+   * @return buffer of requested size
+   */
+  public byte[] acquire(int size) {
+    ConcurrentLinkedQueue<byte[]> slab = slab(size);
+    byte[] buf = slab == null ? null : slab.poll();
+    if (buf == null) {
+      allocationCount.incrementAndGet();
+      buf = new byte[size];
+    } else {
+      pooledBytes.addAndGet(-size);
+    }
+    borrowCount.incrementAndGet();
+    borrowingConnections.incrementAndGet();
+    borrowedBytes.addAndGet(size);
+    return buf;
+  }
+
+  /**
+   * Give back a borrowed buffer to pool. Buffer is dropped if pool already contains the maximum
+   * idle size.
+   *
+   * @param buf buffer to release
+   */
+  public void release(byte[] buf) {
+    int size = buf.length;
+    borrowingConnections.decrementAndGet();
+    borrowedBytes.addAndGet(-size);
+    ConcurrentLinkedQueue<byte[]> slab = slab(size);
+    if (slab != null) {
+      if (pooledBytes.addAndGet(size) <= MAX_POOLED_BYTES) {
+        slab.offer(buf);
+      } else {
+        pooledBytes.addAndGet(-size);
+      }
+    }
+  }
+
+  @Override
+  public long getPooledBytes() {
+    return pooledBytes.get();
+  }
+
+  @Override
+  public long getBorrowedBytes() {
+    return borrowedBytes.get();
+  }
+
+  @Override
+  public long getBorrowingConnections() {
+    return borrowingConnections.get();
+  }
+
+  @Override
+  public long getBorrowCount() {
+    return borrowCount.get();
+  }
+
+  @Override
+  public long getAllocationCount() {
+    return allocationCount.get();
+  }
+}
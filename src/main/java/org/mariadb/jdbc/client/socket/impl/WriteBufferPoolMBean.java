@@ -0,0 +1,43 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.client.socket.impl;
+
+/** JMX write buffer pool bean */
+public interface WriteBufferPoolMBean {
+
+  /**
+   * get size of idle buffers kept in pool
+   *
+   * @return idle buffer size in bytes
+   */
+  long getPooledBytes();
+
+  /**
+   * get size of buffers currently borrowed by connections
+   *
+   * @return borrowed buffer size in bytes
+   */
+  long getBorrowedBytes();
+
+  /**
+   * get number of connections currently borrowing a buffer
+   *
+   * @return borrowing connection number
+   */
+  long getBorrowingConnections();
+
+  /**
+   * get total number of buffer borrowing
+   *
+   * @return borrow number
+   */
+  long getBorrowCount();
+
+  /**
+   * get total number of buffer allocations (borrowing when no idle buffer was available)
+   *
+   * @return allocation number
+   */
+  long getAllocationCount();
+}
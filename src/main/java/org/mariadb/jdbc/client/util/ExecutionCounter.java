@@ -0,0 +1,103 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.client.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LRU count of client side executions per SQL command, deciding when a command is executed often
+ * enough to be prepared server side.
+ */
+public final class ExecutionCounter extends LinkedHashMap<String, MutableInt> {
+
+  private static final long serialVersionUID = 4207396146153816417L;
+
+  /** count of commands that must not be promoted */
+  private static final int NEVER = Integer.MIN_VALUE;
+
+  /** number of executions before promotion */
+  private final int threshold;
+
+  /** maximum number of tracked commands */
+  private final int maxSize;
+
+  /** counter lock */
+  private final transient ClosableLock lock = new ClosableLock();
+
+  /**
+   * Constructor
+   *
+   * @param threshold number of executions before promotion
+   * @param maxSize maximum number of tracked commands
+   */
+  public ExecutionCounter(int threshold, int maxSize) {
+    super(16, .75f, true);
+    this.threshold = threshold;
+    this.maxSize = maxSize;
+  }
+
+  @Override
+  protected boolean removeEldestEntry(Map.Entry<String, MutableInt> eldest) {
+    return size() > maxSize;
+  }
+
+  /**
+   * Count a client side execution of a command.
+   *
+   * @param sql command
+   */
+  @SuppressWarnings("try")
+  public void increment(String sql) {
+    try (ClosableLock ignore = lock.closeableLock()) {
+      MutableInt count = super.get(sql);
+      if (count == null) {
+        count = new MutableInt(0);
+        super.put(sql, count);
+      }
+      if (count.get() != NEVER && count.incrementAndGet() == threshold) {
+        ServerPrepareMetrics.getInstance().promotion();
+      }
+    }
+  }
+
+  /**
+   * Indicate if command has been executed often enough to be prepared server side
+   *
+   * @param sql command
+   * @return true if command must be prepared server side
+   */
+  @SuppressWarnings("try")
+  public boolean isPromoted(String sql) {
+    try (ClosableLock ignore = lock.closeableLock()) {
+      MutableInt count = super.get(sql);
+      return count != null && count.get() >= threshold;
+    }
+  }
+
+  /**
+   * Keep command client side, after a server prepare failure.
+   *
+   * @param sql command
+   */
+  @SuppressWarnings("try")
+  public void demote(String sql) {
+    try (ClosableLock ignore = lock.closeableLock()) {
+      super.put(sql, new MutableInt(NEVER));
+    }
+  }
+
+  /**
+   * Restart execution count of a command, after a server prepare failure that may not happen again
+   * (like max_prepared_stmt_count reached).
+   *
+   * @param sql command
+   */
+  @SuppressWarnings("try")
+  public void reset(String sql) {
+    try (ClosableLock ignore = lock.closeableLock()) {
+      super.remove(sql);
+    }
+  }
+}
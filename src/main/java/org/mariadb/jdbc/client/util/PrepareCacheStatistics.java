@@ -0,0 +1,75 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.client.util;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Prepare cache hit, miss and eviction counters, of a connection or aggregated for a pool. Counts
+ * are forwarded to an optional parent, so pool counters include all pool connections.
+ */
+public final class PrepareCacheStatistics {
+
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder evictionCount = new LongAdder();
+  private volatile PrepareCacheStatistics parent;
+
+  /**
+   * Set statistics to forward counts to
+   *
+   * @param parent parent statistics
+   */
+  public void setParent(PrepareCacheStatistics parent) {
+    this.parent = parent;
+  }
+
+  /** Record a cache hit */
+  public void hit() {
+    hitCount.increment();
+    PrepareCacheStatistics p = parent;
+    if (p != null) p.hit();
+  }
+
+  /** Record a cache miss */
+  public void miss() {
+    missCount.increment();
+    PrepareCacheStatistics p = parent;
+    if (p != null) p.miss();
+  }
+
+  /** Record a cache eviction */
+  public void eviction() {
+    evictionCount.increment();
+    PrepareCacheStatistics p = parent;
+    if (p != null) p.eviction();
+  }
+
+  /**
+   * Number of lookups that found a cached prepare
+   *
+   * @return hit number
+   */
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * Number of lookups that found no cached prepare
+   *
+   * @return miss number
+   */
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * Number of prepares evicted from cache because cache was full
+   *
+   * @return eviction number
+   */
+  public long getEvictionCount() {
+    return evictionCount.sum();
+  }
+}
@@ -4,10 +4,17 @@
 package org.mariadb.jdbc.client.util;
 
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 public final class SchedulerProvider {
   private static ScheduledThreadPoolExecutor timeoutScheduler;
+  private static final ClosableLock asyncLock = new ClosableLock();
+  private static volatile ThreadPoolExecutor asyncExecutor;
+  private static volatile ThreadPoolExecutor prefetchExecutor;
 
   @SuppressWarnings("try")
   public static ScheduledThreadPoolExecutor getTimeoutScheduler(ClosableLock lock) {
@@ -29,4 +36,68 @@ public final class SchedulerProvider {
     }
     return timeoutScheduler;
   }
+
+  /**
+   * Get executor running asynchronous commands. Threads are daemon threads, released after 60s of
+   * inactivity.
+   *
+   * @return asynchronous commands executor
+   */
+  @SuppressWarnings("try")
+  public static ThreadPoolExecutor getAsyncExecutor() {
+    if (asyncExecutor == null) {
+      try (ClosableLock ignore = asyncLock.closeableLock()) {
+        if (asyncExecutor == null) {
+          int poolSize = Math.max(2, Runtime.getRuntime().availableProcessors());
+          ThreadPoolExecutor executor =
+              new ThreadPoolExecutor(
+                  poolSize,
+                  poolSize,
+                  60,
+                  TimeUnit.SECONDS,
+                  new LinkedBlockingQueue<>(),
+                  runnable -> {
+                    Thread result = Executors.defaultThreadFactory().newThread(runnable);
+                    result.setName("MariaDb-async");
+                    result.setDaemon(true);
+                    return result;
+                  });
+          executor.allowCoreThreadTimeOut(true);
+          asyncExecutor = executor;
+        }
+      }
+    }
+    return asyncExecutor;
+  }
+
+  /**
+   * Get executor reading streaming result-set batches in background. Those tasks block on socket
+   * reads, so they don't use the asynchronous commands executor: a thread is created when none is
+   * available. Threads are daemon threads, released after 60s of inactivity.
+   *
+   * @return streaming prefetch executor
+   */
+  @SuppressWarnings("try")
+  public static ThreadPoolExecutor getPrefetchExecutor() {
+    if (prefetchExecutor == null) {
+      try (ClosableLock ignore = asyncLock.closeableLock()) {
+        if (prefetchExecutor == null) {
+          prefetchExecutor =
+              new ThreadPoolExecutor(
+                  0,
+                  Integer.MAX_VALUE,
+                  60,
+                  TimeUnit.SECONDS,
+                  new SynchronousQueue<>(),
+                  runnable -> {
+                    Thread result = Executors.defaultThreadFactory().newThread(runnable);
+                    result.setName("MariaDb-prefetch");
+                    result.setDaemon(true);
+                    return result;
+                  });
+        }
+      }
+    }
+    return prefetchExecutor;
+  }
 }
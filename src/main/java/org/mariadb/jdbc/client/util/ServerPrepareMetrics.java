@@ -0,0 +1,76 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.client.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * JVM-wide metrics of client side prepared statements promoted to server side prepare according to
+ * option serverPrepareThreshold.
+ */
+public final class ServerPrepareMetrics implements ServerPrepareMetricsMBean {
+
+  private static final ServerPrepareMetrics INSTANCE = new ServerPrepareMetrics();
+
+  private final AtomicLong promotionCount = new AtomicLong();
+  private final AtomicLong promotedPrepareCount = new AtomicLong();
+  private final AtomicLong failedPromotionCount = new AtomicLong();
+
+  private ServerPrepareMetrics() {}
+
+  /**
+   * Get JVM-wide server prepare promotion metrics
+   *
+   * @return server prepare promotion metrics
+   */
+  public static ServerPrepareMetrics getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Register metrics JMX bean if not already registered
+   *
+   * @throws Exception if registration fails
+   */
+  public static void registerJmx() throws Exception {
+    MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+    ObjectName name = new ObjectName("org.mariadb.jdbc:type=ServerPreparePromotion");
+    if (!mbs.isRegistered(name)) {
+      mbs.registerMBean(INSTANCE, name);
+    }
+  }
+
+  /** Record a command reaching promotion threshold */
+  void promotion() {
+    promotionCount.incrementAndGet();
+  }
+
+  /** Record a prepared statement created server side due to promotion */
+  public void promotedPrepare() {
+    promotedPrepareCount.incrementAndGet();
+  }
+
+  /** Record a promoted command failing server prepare */
+  public void failedPromotion() {
+    failedPromotionCount.incrementAndGet();
+  }
+
+  @Override
+  public long getPromotionCount() {
+    return promotionCount.get();
+  }
+
+  @Override
+  public long getPromotedPrepareCount() {
+    return promotedPrepareCount.get();
+  }
+
+  @Override
+  public long getFailedPromotionCount() {
+    return failedPromotionCount.get();
+  }
+}
@@ -0,0 +1,29 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.client.util;
+
+/** JMX server prepare promotion bean */
+public interface ServerPrepareMetricsMBean {
+
+  /**
+   * get number of SQL commands that reached promotion threshold
+   *
+   * @return promoted command number
+   */
+  long getPromotionCount();
+
+  /**
+   * get number of prepared statements created server side due to promotion
+   *
+   * @return server prepared statement number
+   */
+  long getPromotedPrepareCount();
+
+  /**
+   * get number of promoted commands kept client side, because server prepare failed
+   *
+   * @return failed promotion number
+   */
+  long getFailedPromotionCount();
+}
@@ -0,0 +1,98 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.client.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.mariadb.jdbc.client.ReadableByteBuf;
+
+/**
+ * Bounded cache of decoded strings, keyed on raw UTF-8 bytes, so that repeated values of a
+ * low-cardinality column return the same String instance.
+ *
+ * <p>Cache is direct-mapped: a value replaces any previous value with same slot. Cache disables
+ * itself when hit ratio shows that column values are not repeated. Cache can be used concurrently
+ * without locking: a race only results in a missed deduplication.
+ */
+public final class StringCache {
+
+  /** maximum length in bytes of cached values */
+  public static final int MAX_LENGTH = 64;
+
+  private static final int SIZE = 256;
+  private static final int SAMPLE_LOOKUPS = 4096;
+
+  private final Entry[] entries = new Entry[SIZE];
+  private int lookups;
+  private int hits;
+  private boolean disabled;
+
+  /**
+   * Read string of indicated length from buffer, returning cached instance if same value has
+   * already been read.
+   *
+   * @param buf buffer
+   * @param length value length in bytes
+   * @return string value
+   */
+  public String readString(ReadableByteBuf buf, int length) {
+    if (disabled || length > MAX_LENGTH) return buf.readString(length);
+
+    byte[] bytes = buf.buf();
+    int pos = buf.pos();
+    buf.skip(length);
+
+    int hash = 1;
+    for (int i = pos; i < pos + length; i++) {
+      hash = 31 * hash + bytes[i];
+    }
+    int slot = (hash ^ (hash >>> 16)) & (SIZE - 1);
+    Entry entry = entries[slot];
+    boolean hit =
+        entry != null
+            && entry.hash == hash
+            && entry.bytes.length == length
+            && equals(entry.bytes, bytes, pos, length);
+    if (hit) hits++;
+    if (++lookups == SAMPLE_LOOKUPS) {
+      // disable cache if values are not repeated enough for it to be useful
+      if (hits < SAMPLE_LOOKUPS / 2) disabled = true;
+      lookups = 0;
+      hits = 0;
+    }
+    if (hit) return entry.value;
+
+    String value = new String(bytes, pos, length, StandardCharsets.UTF_8);
+    entries[slot] = new Entry(hash, Arrays.copyOfRange(bytes, pos, pos + length), value);
+    return value;
+  }
+
+  private static boolean equals(byte[] cached, byte[] bytes, int pos, int length) {
+    for (int i = 0; i < length; i++) {
+      if (cached[i] != bytes[pos + i]) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Indicate if cache has disabled itself
+   *
+   * @return true if disabled
+   */
+  public boolean isDisabled() {
+    return disabled;
+  }
+
+  private static final class Entry {
+    private final int hash;
+    private final byte[] bytes;
+    private final String value;
+
+    private Entry(int hash, byte[] bytes, String value) {
+      this.hash = hash;
+      this.bytes = bytes;
+      this.value = value;
+    }
+  }
+}
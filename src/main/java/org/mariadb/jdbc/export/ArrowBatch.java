@@ -0,0 +1,246 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.export;
+
+import java.util.Arrays;
+
+/**
+ * Block of rows in Apache Arrow columnar memory layout, filled by {@link
+ * ColumnarResult#fetchArrow(int, ArrowBatch)}, without depending on Arrow library.
+ *
+ * <p>For each column:
+ *
+ * <ul>
+ *   <li>{@link #validity(int)} is the Arrow validity bitmap (least significant bit numbering, bit
+ *       set if value is not null)
+ *   <li>{@link #data(int)} contains fixed-width values in little-endian order, or concatenated
+ *       values for variable-width types
+ *   <li>{@link #offsets(int)} contains the {@link #size()} + 1 value offsets of variable-width
+ *       types
+ * </ul>
+ *
+ * Arrow vectors can then be filled with one bulk copy per buffer, for example:
+ *
+ * <pre>{@code
+ * IntVector vector = (IntVector) root.getVector(i);
+ * vector.allocateNew(batch.size());
+ * vector.getValidityBuffer().setBytes(0, batch.validity(i), 0, (batch.size() + 7) / 8);
+ * vector.getDataBuffer().setBytes(0, batch.data(i), 0, batch.size() * 4L);
+ * vector.setValueCount(batch.size());
+ * }</pre>
+ *
+ * Column types are set according to result-set metadata on first fetch: integer and floating point
+ * columns use corresponding Arrow types, binary columns {@link ArrowColumnType#BINARY}, and other
+ * columns (text, decimal, temporal) {@link ArrowColumnType#UTF8} using their text representation.
+ */
+public final class ArrowBatch {
+
+  private final int capacity;
+  private String[] names;
+  private ArrowColumnType[] types;
+  private byte[][] data;
+  private byte[][] validity;
+  private int[][] offsets;
+  private int[] nullCounts;
+  private int size;
+
+  /**
+   * Constructor
+   *
+   * @param capacity maximum number of rows of a batch
+   */
+  public ArrowBatch(int capacity) {
+    if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive");
+    this.capacity = capacity;
+  }
+
+  /**
+   * Set batch columns. Called by driver on first fetch.
+   *
+   * @param names column names
+   * @param types column types
+   */
+  public void init(String[] names, ArrowColumnType[] types) {
+    this.names = names;
+    this.types = types;
+    this.data = new byte[types.length][];
+    this.validity = new byte[types.length][];
+    this.offsets = new int[types.length][];
+    this.nullCounts = new int[types.length];
+    for (int i = 0; i < types.length; i++) {
+      validity[i] = new byte[(capacity + 7) >>> 3];
+      if (types[i].isFixedWidth()) {
+        data[i] = new byte[capacity * types[i].byteWidth()];
+      } else {
+        data[i] = new byte[capacity * 16];
+        offsets[i] = new int[capacity + 1];
+      }
+    }
+  }
+
+  /**
+   * Indicate if batch columns have been set
+   *
+   * @return true if initialized
+   */
+  public boolean isInitialized() {
+    return types != null;
+  }
+
+  /** Clear batch before a fetch. */
+  public void reset() {
+    size = 0;
+    for (int i = 0; i < types.length; i++) {
+      Arrays.fill(validity[i], (byte) 0);
+      nullCounts[i] = 0;
+    }
+  }
+
+  /**
+   * Mark a value as null
+   *
+   * @param column column (first is 0)
+   * @param row row (first is 0)
+   */
+  public void setNull(int column, int row) {
+    nullCounts[column]++;
+    if (offsets[column] != null) offsets[column][row + 1] = offsets[column][row];
+  }
+
+  /**
+   * Mark a value as not null
+   *
+   * @param column column (first is 0)
+   * @param row row (first is 0)
+   */
+  public void setValid(int column, int row) {
+    validity[column][row >>> 3] |= (byte) (1 << (row & 7));
+  }
+
+  /**
+   * Reserve space for a variable-width value, returning the column data buffer. Value must be
+   * written at position {@code offsets(column)[row]}.
+   *
+   * @param column column (first is 0)
+   * @param row row (first is 0)
+   * @param length value length in bytes
+   * @return column data buffer
+   */
+  public byte[] reserve(int column, int row, int length) {
+    int[] columnOffsets = offsets[column];
+    int end = columnOffsets[row] + length;
+    if (end > data[column].length) {
+      data[column] = Arrays.copyOf(data[column], Math.max(end, data[column].length * 2));
+    }
+    columnOffsets[row + 1] = end;
+    return data[column];
+  }
+
+  /**
+   * Set number of rows read
+   *
+   * @param size row number
+   */
+  public void size(int size) {
+    this.size = size;
+  }
+
+  /**
+   * Number of rows read by last fetch
+   *
+   * @return row number
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Maximum number of rows of a batch
+   *
+   * @return capacity
+   */
+  public int capacity() {
+    return capacity;
+  }
+
+  /**
+   * Number of columns, 0 before first fetch
+   *
+   * @return column number
+   */
+  public int columnCount() {
+    return types == null ? 0 : types.length;
+  }
+
+  /**
+   * Column name
+   *
+   * @param column column (first is 0)
+   * @return column name
+   */
+  public String name(int column) {
+    return names[column];
+  }
+
+  /**
+   * Column Arrow type
+   *
+   * @param column column (first is 0)
+   * @return column type
+   */
+  public ArrowColumnType type(int column) {
+    return types[column];
+  }
+
+  /**
+   * Column data buffer
+   *
+   * @param column column (first is 0)
+   * @return data buffer
+   */
+  public byte[] data(int column) {
+    return data[column];
+  }
+
+  /**
+   * Column validity bitmap
+   *
+   * @param column column (first is 0)
+   * @return validity bitmap
+   */
+  public byte[] validity(int column) {
+    return validity[column];
+  }
+
+  /**
+   * Column value offsets, for variable-width types
+   *
+   * @param column column (first is 0)
+   * @return offsets, null for fixed-width types
+   */
+  public int[] offsets(int column) {
+    return offsets[column];
+  }
+
+  /**
+   * Number of null values of a column in last fetch
+   *
+   * @param column column (first is 0)
+   * @return null value number
+   */
+  public int nullCount(int column) {
+    return nullCounts[column];
+  }
+
+  /**
+   * Is a value null
+   *
+   * @param column column (first is 0)
+   * @param row row (first is 0)
+   * @return true if value is null
+   */
+  public boolean isNull(int column, int row) {
+    return (validity[column][row >>> 3] & (1 << (row & 7))) == 0;
+  }
+}
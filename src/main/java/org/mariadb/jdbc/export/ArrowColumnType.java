@@ -0,0 +1,56 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.export;
+
+/** Apache Arrow type of an {@link ArrowBatch} column. */
+public enum ArrowColumnType {
+  /** signed 8 bits integer */
+  INT8(1),
+  /** unsigned 8 bits integer */
+  UINT8(1),
+  /** signed 16 bits integer */
+  INT16(2),
+  /** unsigned 16 bits integer */
+  UINT16(2),
+  /** signed 32 bits integer */
+  INT32(4),
+  /** unsigned 32 bits integer */
+  UINT32(4),
+  /** signed 64 bits integer */
+  INT64(8),
+  /** unsigned 64 bits integer */
+  UINT64(8),
+  /** single precision floating point */
+  FLOAT32(4),
+  /** double precision floating point */
+  FLOAT64(8),
+  /** variable-width UTF-8 string */
+  UTF8(-1),
+  /** variable-width binary */
+  BINARY(-1);
+
+  private final int byteWidth;
+
+  ArrowColumnType(int byteWidth) {
+    this.byteWidth = byteWidth;
+  }
+
+  /**
+   * Value width in bytes
+   *
+   * @return value width, -1 for variable-width types
+   */
+  public int byteWidth() {
+    return byteWidth;
+  }
+
+  /**
+   * Is type fixed-width
+   *
+   * @return true if values have a fixed width
+   */
+  public boolean isFixedWidth() {
+    return byteWidth > 0;
+  }
+}
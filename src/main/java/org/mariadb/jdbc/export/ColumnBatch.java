@@ -0,0 +1,182 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.export;
+
+import java.util.Arrays;
+
+/**
+ * Column-oriented block of rows, filled by {@link ColumnarResult#fetchColumns(int, ColumnBatch)}.
+ * Each column of the batch is read into a primitive array, with a null bitmap, avoiding a method
+ * call and possible allocation per value.
+ *
+ * <pre>{@code
+ * ColumnBatch batch = new ColumnBatch(4096).addLong(1).addDouble(3);
+ * ColumnarResult rs =
+ *     stmt.executeQuery("SELECT id, name, amount FROM sales").unwrap(ColumnarResult.class);
+ * int rows;
+ * while ((rows = rs.fetchColumns(4096, batch)) > 0) {
+ *   long[] ids = batch.longs(0);
+ *   double[] amounts = batch.doubles(1);
+ *   ...
+ * }
+ * }</pre>
+ */
+public final class ColumnBatch {
+
+  private final int capacity;
+  private int[] columnIndexes = new int[0];
+  private boolean[] doubleColumns = new boolean[0];
+  private long[][] longValues = new long[0][];
+  private double[][] doubleValues = new double[0][];
+  private long[][] nulls = new long[0][];
+  private int size;
+
+  /**
+   * Constructor
+   *
+   * @param capacity maximum number of rows of a batch
+   */
+  public ColumnBatch(int capacity) {
+    if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive");
+    this.capacity = capacity;
+  }
+
+  /**
+   * Add a column read as long values
+   *
+   * @param columnIndex result-set column index (first is 1)
+   * @return this {@link ColumnBatch}
+   */
+  public ColumnBatch addLong(int columnIndex) {
+    return add(columnIndex, false);
+  }
+
+  /**
+   * Add a column read as double values
+   *
+   * @param columnIndex result-set column index (first is 1)
+   * @return this {@link ColumnBatch}
+   */
+  public ColumnBatch addDouble(int columnIndex) {
+    return add(columnIndex, true);
+  }
+
+  private ColumnBatch add(int columnIndex, boolean isDouble) {
+    int pos = columnIndexes.length;
+    columnIndexes = Arrays.copyOf(columnIndexes, pos + 1);
+    doubleColumns = Arrays.copyOf(doubleColumns, pos + 1);
+    longValues = Arrays.copyOf(longValues, pos + 1);
+    doubleValues = Arrays.copyOf(doubleValues, pos + 1);
+    nulls = Arrays.copyOf(nulls, pos + 1);
+    columnIndexes[pos] = columnIndex;
+    doubleColumns[pos] = isDouble;
+    if (isDouble) {
+      doubleValues[pos] = new double[capacity];
+    } else {
+      longValues[pos] = new long[capacity];
+    }
+    nulls[pos] = new long[(capacity + 63) >>> 6];
+    return this;
+  }
+
+  /**
+   * Maximum number of rows of a batch
+   *
+   * @return capacity
+   */
+  public int capacity() {
+    return capacity;
+  }
+
+  /**
+   * Number of columns of batch
+   *
+   * @return column number
+   */
+  public int columnCount() {
+    return columnIndexes.length;
+  }
+
+  /**
+   * Result-set column index of a batch column
+   *
+   * @param column batch column (first added is 0)
+   * @return result-set column index (first is 1)
+   */
+  public int columnIndex(int column) {
+    return columnIndexes[column];
+  }
+
+  /**
+   * Is batch column read as double values
+   *
+   * @param column batch column (first added is 0)
+   * @return true if column values are doubles, false if longs
+   */
+  public boolean isDouble(int column) {
+    return doubleColumns[column];
+  }
+
+  /**
+   * Number of rows read by last fetch
+   *
+   * @return row number
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Set number of rows read
+   *
+   * @param size row number
+   */
+  public void size(int size) {
+    this.size = size;
+  }
+
+  /**
+   * Values of a column added with {@link #addLong(int)}. Only the first {@link #size()} values are
+   * significant, null values being 0.
+   *
+   * @param column batch column (first added is 0)
+   * @return column values
+   */
+  public long[] longs(int column) {
+    return longValues[column];
+  }
+
+  /**
+   * Values of a column added with {@link #addDouble(int)}. Only the first {@link #size()} values
+   * are significant, null values being 0.
+   *
+   * @param column batch column (first added is 0)
+   * @return column values
+   */
+  public double[] doubles(int column) {
+    return doubleValues[column];
+  }
+
+  /**
+   * Null bitmap of a column: bit {@code row % 64} of element {@code row / 64} is set if value is
+   * null.
+   *
+   * @param column batch column (first added is 0)
+   * @return null bitmap
+   */
+  public long[] nulls(int column) {
+    return nulls[column];
+  }
+
+  /**
+   * Is a value null
+   *
+   * @param column batch column (first added is 0)
+   * @param row row in batch (first is 0)
+   * @return true if value is null
+   */
+  public boolean isNull(int column, int row) {
+    return (nulls[column][row >>> 6] & (1L << row)) != 0;
+  }
+}
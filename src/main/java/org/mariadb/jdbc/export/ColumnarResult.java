@@ -0,0 +1,39 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.export;
+
+import java.sql.SQLException;
+
+/**
+ * Result-set column-oriented reading, available using {@code
+ * resultSet.unwrap(ColumnarResult.class)}.
+ */
+public interface ColumnarResult {
+
+  /**
+   * Read next rows column by column into batch primitive arrays. This is equivalent to calling
+   * {@code next()} then {@code getLong(int)} or {@code getDouble(int)} for each batch column, up to
+   * maxRows times, with values decoded in a loop specialized per column type. Cursor is positioned
+   * on last row read.
+   *
+   * @param maxRows maximum number of rows to read, limited to batch capacity
+   * @param batch column batch
+   * @return number of rows read, 0 if there is no more rows
+   * @throws SQLException if a column index is wrong, or if a value cannot be decoded
+   */
+  int fetchColumns(int maxRows, ColumnBatch batch) throws SQLException;
+
+  /**
+   * Read next rows of all columns into batch Apache Arrow formatted buffers. Batch columns are
+   * initialized from result-set metadata on first call, so the same batch can be reused for all
+   * following calls. Cursor is positioned on last row read.
+   *
+   * @param maxRows maximum number of rows to read, limited to batch capacity
+   * @param batch arrow batch
+   * @return number of rows read, 0 if there is no more rows
+   * @throws SQLException if batch columns do not correspond to result-set, or if a value cannot be
+   *     decoded
+   */
+  int fetchArrow(int maxRows, ArrowBatch batch) throws SQLException;
+}
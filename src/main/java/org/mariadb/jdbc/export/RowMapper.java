@@ -0,0 +1,25 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.export;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Map current row of a result-set to an object.
+ *
+ * @param <T> mapped object type
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+  /**
+   * Map current row. Implementation must not move result-set cursor.
+   *
+   * @param rs result-set positioned on the row to map
+   * @return mapped object
+   * @throws SQLException if any column retrieval fails
+   */
+  T map(ResultSet rs) throws SQLException;
+}
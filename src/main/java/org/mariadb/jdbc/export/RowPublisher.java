@@ -0,0 +1,71 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.export;
+
+/**
+ * Reactive streams publisher of query rows. Methods have the same signature and semantic than
+ * java.util.concurrent.Flow interfaces, so that adapting to Flow, or to any reactive streams
+ * library, only requires delegation.
+ *
+ * <p>Rows are read from socket only when requested: subscriber demand drives the number of rows
+ * fetched, so a slow subscriber will not let rows accumulate in memory. Signals are emitted on the
+ * thread calling {@link Subscription#request(long)}, a publisher only accepts one subscriber.
+ *
+ * @param <T> row type
+ */
+public interface RowPublisher<T> {
+
+  /**
+   * Subscribe to rows. Query is executed on first request.
+   *
+   * @param subscriber subscriber
+   */
+  void subscribe(Subscriber<? super T> subscriber);
+
+  /**
+   * Row receiver
+   *
+   * @param <T> row type
+   */
+  interface Subscriber<T> {
+
+    /**
+     * Invoked before any other signal.
+     *
+     * @param subscription subscription used to request rows
+     */
+    void onSubscribe(Subscription subscription);
+
+    /**
+     * Next row
+     *
+     * @param item mapped row
+     */
+    void onNext(T item);
+
+    /**
+     * Query or mapping error. No other signal will be received.
+     *
+     * @param throwable error
+     */
+    void onError(Throwable throwable);
+
+    /** All rows have been received. No other signal will be received. */
+    void onComplete();
+  }
+
+  /** Link between publisher and subscriber */
+  interface Subscription {
+
+    /**
+     * Request additional rows.
+     *
+     * @param n number of rows, must be positive
+     */
+    void request(long n);
+
+    /** Stop receiving rows. Remaining rows are skipped, releasing connection. */
+    void cancel();
+  }
+}
@@ -220,12 +220,7 @@ public interface ClientMessage {
         // sending stream
         if (is != null) {
           try {
-            byte[] fileBuf = new byte[8192];
-            int len;
-            while ((len = is.read(fileBuf)) > 0) {
-              writer.writeBytes(fileBuf, 0, len);
-              writer.flush();
-            }
+            writer.writeStream(is);
           } finally {
             is.close();
           }
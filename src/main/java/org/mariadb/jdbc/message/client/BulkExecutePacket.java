@@ -30,6 +30,7 @@ public final class BulkExecutePacket implements RedoableWithPrepareClientMessage
   private List<Parameters> batchParameterList;
   private Prepare prepareResult;
   private boolean mightBeBulkResult;
+  private ChunkListener chunkListener;
 
   /**
    * Constructor
@@ -61,10 +62,15 @@ public final class BulkExecutePacket implements RedoableWithPrepareClientMessage
   public int encode(Writer writer, Context context, Prepare newPrepareResult)
       throws IOException, SQLException {
 
-    int statementId =
+    Prepare prepare =
         (newPrepareResult != null && newPrepareResult.getStatementId() != -1)
-            ? newPrepareResult.getStatementId()
-            : (this.prepareResult != null ? this.prepareResult.getStatementId() : -1);
+            ? newPrepareResult
+            : this.prepareResult;
+    int statementId = prepare != null ? prepare.getStatementId() : -1;
+    // bulk sends its own types: next COM_STMT_EXECUTE must send types again
+    if (prepare instanceof PrepareResultPacket) {
+      ((PrepareResultPacket) prepare).resetParameterTypesSent();
+    }
 
     Iterator<Parameters> paramIterator = batchParameterList.iterator();
     Parameters parameters = paramIterator.next();
@@ -87,6 +93,10 @@ public final class BulkExecutePacket implements RedoableWithPrepareClientMessage
     // Problem remains if a bunch of parameter is bigger than max_allowed_packet
     main_loop:
     while (true) {
+      if (bulkPacketNo > 0 && chunkListener != null) {
+        // previous commands are completely sent
+        chunkListener.chunkSent(bulkPacketNo);
+      }
       bulkPacketNo++;
 
       writer.initPacket();
@@ -185,6 +195,16 @@ public final class BulkExecutePacket implements RedoableWithPrepareClientMessage
     return bulkPacketNo;
   }
 
+  /**
+   * Set listener notified each time a COM_STMT_BULK_EXECUTE command has been completely sent, when
+   * batch is split in multiple commands.
+   *
+   * @param chunkListener listener, null to remove it
+   */
+  public void setChunkListener(ChunkListener chunkListener) {
+    this.chunkListener = chunkListener;
+  }
+
   public boolean mightBeBulkResult() {
     return mightBeBulkResult;
   }
@@ -212,4 +232,17 @@ public final class BulkExecutePacket implements RedoableWithPrepareClientMessage
   public void setPrepareResult(PrepareResultPacket prepareResult) {
     this.prepareResult = prepareResult;
   }
+
+  /** Listener of sent COM_STMT_BULK_EXECUTE commands */
+  @FunctionalInterface
+  public interface ChunkListener {
+
+    /**
+     * Indicate that commands have been completely sent
+     *
+     * @param sentCommands number of commands sent
+     * @throws SQLException if any error occurs
+     */
+    void chunkSent(int sentCommands) throws SQLException;
+  }
 }
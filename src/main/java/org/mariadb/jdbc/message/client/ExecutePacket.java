@@ -69,10 +69,11 @@ public final class ExecutePacket implements RedoableWithPrepareClientMessage {
   public int encode(Writer writer, Context context, Prepare newPrepareResult)
       throws IOException, SQLException {
 
-    int statementId =
+    Prepare prepare =
         (newPrepareResult != null && newPrepareResult.getStatementId() != -1)
-            ? newPrepareResult.getStatementId()
-            : (this.prepareResult != null ? this.prepareResult.getStatementId() : -1);
+            ? newPrepareResult
+            : this.prepareResult;
+    int statementId = prepare != null ? prepare.getStatementId() : -1;
 
     int parameterCount = parameters.size();
 
@@ -98,19 +99,30 @@ public final class ExecutePacket implements RedoableWithPrepareClientMessage {
       int initialPos = writer.pos();
       writer.pos(initialPos + nullCount);
 
-      // Send Parameter type flag
-      writer.writeByte(0x01);
-
-      // Store types of parameters in first package that is sent to the server.
       for (int i = 0; i < parameterCount; i++) {
-        Parameter p = parameters.get(i);
-        writer.writeByte(p.getBinaryEncodeType());
-        writer.writeByte(0);
-        if (p.isNull()) {
+        if (parameters.get(i).isNull()) {
           nullBitsBuffer[i / 8] |= (byte) (1 << (i % 8));
         }
       }
 
+      // server keeps parameter types of last execution of a statement:
+      // send them only if they changed since then
+      PrepareResultPacket typedPrepare =
+          statementId != -1 && prepare instanceof PrepareResultPacket
+              ? (PrepareResultPacket) prepare
+              : null;
+      if (typedPrepare != null && typedPrepare.isParameterTypesSent(parameters)) {
+        writer.writeByte(0x00);
+      } else {
+        // Send Parameter type flag
+        writer.writeByte(0x01);
+        for (int i = 0; i < parameterCount; i++) {
+          writer.writeByte(parameters.get(i).getBinaryEncodeType());
+          writer.writeByte(0);
+        }
+        if (typedPrepare != null) typedPrepare.setParameterTypesSent(parameters);
+      }
+
       // write nullBitsBuffer in reserved place
       writer.writeBytesAtPos(nullBitsBuffer, initialPos);
 
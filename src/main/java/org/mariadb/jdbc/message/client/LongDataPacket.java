@@ -4,22 +4,35 @@
 package org.mariadb.jdbc.message.client;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
+import java.util.Arrays;
+import org.mariadb.jdbc.HostAddress;
 import org.mariadb.jdbc.client.Context;
 import org.mariadb.jdbc.client.socket.Writer;
+import org.mariadb.jdbc.client.socket.impl.PacketWriter;
 import org.mariadb.jdbc.client.util.Parameter;
 import org.mariadb.jdbc.message.ClientMessage;
 
 /**
  * COM_STMT_SEND_LONG_DATA
  *
- * <p>Permit to send ONE value in a dedicated packet. The advantage is when length is unknown, to
- * stream easily data to socket
+ * <p>Permit to send ONE value in dedicated packets. The advantage is when length is unknown, to
+ * stream easily data to socket. Value is split in successive packets of at most {@link
+ * #MAX_CHUNK_SIZE} bytes, server concatenating data, so sending a value of any length only requires
+ * a 1M write buffer and doesn't depend on max_allowed_packet.
  *
  * <p>https://mariadb.com/kb/en/com_stmt_send_long_data/
  */
 public final class LongDataPacket implements ClientMessage {
 
+  /** maximum data size of a packet, so packet with headers fits in a 1M write buffer */
+  public static final int MAX_CHUNK_SIZE = 1024 * 1024 - 12;
+
+  /** escaped data is encoded in slices of this size, at most 3 bytes per char once escaped */
+  private static final int ESCAPE_SLICE_SIZE = 64 * 1024;
+
   private final int statementId;
   private final Parameter parameter;
   private final int index;
@@ -39,12 +52,273 @@ public final class LongDataPacket implements ClientMessage {
 
   @Override
   public int encode(Writer writer, Context context) throws IOException, SQLException {
-    writer.initPacket();
-    writer.writeByte(0x18);
-    writer.writeInt(statementId);
-    writer.writeShort((short) index);
-    parameter.encodeLongData(writer);
+    ChunkWriter chunkWriter = new ChunkWriter(writer);
+    chunkWriter.initChunk();
+    parameter.encodeLongData(chunkWriter);
     writer.flush();
     return 0;
   }
+
+  /**
+   * Writer sending a new COM_STMT_SEND_LONG_DATA packet each time current packet data reach chunk
+   * size.
+   */
+  private final class ChunkWriter implements Writer {
+    private final Writer writer;
+    private int chunkSize = MAX_CHUNK_SIZE;
+    private int dataStart;
+    private PacketWriter escapeWriter;
+
+    private ChunkWriter(Writer writer) {
+      this.writer = writer;
+    }
+
+    private void initChunk() throws IOException {
+      writer.initPacket();
+      writer.writeByte(0x18);
+      writer.writeInt(statementId);
+      writer.writeShort((short) index);
+      dataStart = writer.pos();
+      // packet must not exceed max_allowed_packet if known
+      while (chunkSize > 1024 && writer.throwMaxAllowedLength(chunkSize + 7)) {
+        chunkSize /= 2;
+      }
+    }
+
+    private int remaining() throws IOException {
+      int remaining = chunkSize - (writer.pos() - dataStart);
+      if (remaining <= 0) {
+        writer.flush();
+        initChunk();
+        return chunkSize;
+      }
+      return remaining;
+    }
+
+    private void ensureRemaining(int length) throws IOException {
+      if (remaining() < length) {
+        writer.flush();
+        initChunk();
+      }
+    }
+
+    @Override
+    public void writeBytes(byte[] arr, int off, int len) throws IOException {
+      while (len > 0) {
+        int chunkLen = Math.min(remaining(), len);
+        writer.writeBytes(arr, off, chunkLen);
+        off += chunkLen;
+        len -= chunkLen;
+      }
+    }
+
+    @Override
+    public void writeBytes(byte[] arr) throws IOException {
+      writeBytes(arr, 0, arr.length);
+    }
+
+    @Override
+    public void writeByte(int value) throws IOException {
+      ensureRemaining(1);
+      writer.writeByte(value);
+    }
+
+    @Override
+    public void writeShort(short value) throws IOException {
+      ensureRemaining(2);
+      writer.writeShort(value);
+    }
+
+    @Override
+    public void writeInt(int value) throws IOException {
+      ensureRemaining(4);
+      writer.writeInt(value);
+    }
+
+    @Override
+    public void writeLong(long value) throws IOException {
+      ensureRemaining(8);
+      writer.writeLong(value);
+    }
+
+    @Override
+    public void writeDouble(double value) throws IOException {
+      ensureRemaining(8);
+      writer.writeDouble(value);
+    }
+
+    @Override
+    public void writeFloat(float value) throws IOException {
+      ensureRemaining(4);
+      writer.writeFloat(value);
+    }
+
+    @Override
+    public void writeLength(long length) throws IOException {
+      ensureRemaining(9);
+      writer.writeLength(length);
+    }
+
+    @Override
+    public void writeAscii(String str) throws IOException {
+      writeBytes(str.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Override
+    public void writeString(String str) throws IOException {
+      writeBytes(str.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeStringEscaped(String str, boolean noBackslashEscapes) throws IOException {
+      int off = 0;
+      while (off < str.length()) {
+        int end = Math.min(str.length(), off + ESCAPE_SLICE_SIZE);
+        // surrogate pair must stay in the same slice
+        if (end < str.length() && Character.isHighSurrogate(str.charAt(end - 1))) end--;
+        PacketWriter escapeWriter = escapeWriter();
+        escapeWriter.writeStringEscaped(str.substring(off, end), noBackslashEscapes);
+        writeBytes(escapeWriter.buf(), 0, escapeWriter.pos());
+        off = end;
+      }
+    }
+
+    @Override
+    public void writeBytesEscaped(byte[] bytes, int len, boolean noBackslashEscapes)
+        throws IOException {
+      int off = 0;
+      while (off < len) {
+        int sliceLen = Math.min(len - off, ESCAPE_SLICE_SIZE);
+        byte[] slice =
+            off == 0 && sliceLen == bytes.length
+                ? bytes
+                : Arrays.copyOfRange(bytes, off, off + sliceLen);
+        PacketWriter escapeWriter = escapeWriter();
+        escapeWriter.writeBytesEscaped(slice, sliceLen, noBackslashEscapes);
+        writeBytes(escapeWriter.buf(), 0, escapeWriter.pos());
+        off += sliceLen;
+      }
+    }
+
+    /**
+     * Writer escaping a slice of data in memory, escaped data being then split in chunks.
+     *
+     * @return empty escape writer
+     * @throws IOException never, writer has no socket
+     */
+    private PacketWriter escapeWriter() throws IOException {
+      if (escapeWriter == null) escapeWriter = new PacketWriter(null, 0, null, null, null);
+      escapeWriter.pos(0);
+      return escapeWriter;
+    }
+
+    @Override
+    public int pos() {
+      return writer.pos();
+    }
+
+    @Override
+    public byte[] buf() {
+      return writer.buf();
+    }
+
+    @Override
+    public void pos(int pos) throws IOException {
+      writer.pos(pos);
+    }
+
+    @Override
+    public void writeBytesAtPos(byte[] arr, int pos) {
+      writer.writeBytesAtPos(arr, pos);
+    }
+
+    @Override
+    public void writeEmptyPacket() throws IOException {
+      writer.writeEmptyPacket();
+    }
+
+    @Override
+    public void writeStream(InputStream is) throws IOException {
+      byte[] array = new byte[8192];
+      int len;
+      while ((len = is.read(array)) > 0) {
+        writeBytes(array, 0, len);
+      }
+    }
+
+    @Override
+    public void flush() throws IOException {
+      writer.flush();
+    }
+
+    @Override
+    public void flushPipeline() throws IOException {
+      writer.flushPipeline();
+    }
+
+    @Override
+    public boolean throwMaxAllowedLength(int length) {
+      return writer.throwMaxAllowedLength(length);
+    }
+
+    @Override
+    public long getCmdLength() {
+      return writer.getCmdLength();
+    }
+
+    @Override
+    public void permitTrace(boolean permitTrace) {
+      writer.permitTrace(permitTrace);
+    }
+
+    @Override
+    public void setServerThreadId(Long serverThreadId, HostAddress hostAddress) {
+      writer.setServerThreadId(serverThreadId, hostAddress);
+    }
+
+    @Override
+    public void mark() {
+      writer.mark();
+    }
+
+    @Override
+    public boolean isMarked() {
+      return writer.isMarked();
+    }
+
+    @Override
+    public boolean hasFlushed() {
+      return writer.hasFlushed();
+    }
+
+    @Override
+    public void flushBufferStopAtMark() throws IOException {
+      writer.flushBufferStopAtMark();
+    }
+
+    @Override
+    public boolean bufIsDataAfterMark() {
+      return writer.bufIsDataAfterMark();
+    }
+
+    @Override
+    public byte[] resetMark() {
+      return writer.resetMark();
+    }
+
+    @Override
+    public void initPacket() {
+      writer.initPacket();
+    }
+
+    @Override
+    public void close() throws IOException {
+      writer.close();
+    }
+
+    @Override
+    public byte getSequence() {
+      return writer.getSequence();
+    }
+  }
 }
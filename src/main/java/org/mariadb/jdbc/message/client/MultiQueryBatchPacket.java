@@ -0,0 +1,199 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.message.client;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import org.mariadb.jdbc.client.Completion;
+import org.mariadb.jdbc.client.Context;
+import org.mariadb.jdbc.client.socket.Reader;
+import org.mariadb.jdbc.client.socket.Writer;
+import org.mariadb.jdbc.client.util.ClosableLock;
+import org.mariadb.jdbc.export.ExceptionFactory;
+import org.mariadb.jdbc.message.ClientMessage;
+import org.mariadb.jdbc.message.server.OkPacket;
+import org.mariadb.jdbc.util.constants.ServerStatus;
+
+/**
+ * Statement batch sent as multi-statement COM_QUERY commands: consecutive batch queries are joined
+ * with ";" in commands limited to max length, sending as many commands as needed. Queries that are
+ * not combinable (multi-statement queries) are sent in their own command.
+ *
+ * <p>Results are followed while read, permitting to map each result, or error, to its batch query:
+ * when a query fails, server skips the remaining queries of the same command.
+ */
+public final class MultiQueryBatchPacket implements RedoableClientMessage {
+
+  private static final int MAX_PACKET_LENGTH = 0x00ffffff;
+  private static final byte[] SEPARATOR = "\n;".getBytes(StandardCharsets.UTF_8);
+
+  private final List<String> queries;
+  private final boolean[] combinable;
+  private final int maxLength;
+
+  // first query index of each command, last value being queries size
+  private final int[] commandStarts;
+  private final long[] updateCounts;
+  private int commandNo;
+  private int readCommand;
+  private int readResult;
+
+  /**
+   * Constructor
+   *
+   * @param queries batch queries
+   * @param combinable indicate for each query if it can be combined with other queries
+   * @param maxAllowedPacket max_allowed_packet, if known
+   */
+  public MultiQueryBatchPacket(
+      List<String> queries, boolean[] combinable, Integer maxAllowedPacket) {
+    this.queries = queries;
+    this.combinable = combinable;
+    this.maxLength =
+        maxAllowedPacket == null
+            ? QueryWithMultiValuesPacket.DEFAULT_MAX_LENGTH
+            : Math.min(maxAllowedPacket, MAX_PACKET_LENGTH);
+    this.commandStarts = new int[queries.size() + 1];
+    this.updateCounts = new long[queries.size()];
+  }
+
+  @Override
+  public int encode(Writer writer, Context context) throws IOException {
+    Arrays.fill(updateCounts, Statement.EXECUTE_FAILED);
+    commandNo = 0;
+    readCommand = 0;
+    readResult = 0;
+
+    int index = 0;
+    byte[] pendingQuery = null;
+    while (index < queries.size()) {
+      commandStarts[commandNo++] = index;
+      writer.initPacket();
+      writer.writeByte(0x03);
+
+      if (pendingQuery != null) {
+        writer.writeBytes(pendingQuery);
+        pendingQuery = null;
+        index++;
+      } else {
+        writer.writeString(queries.get(index));
+        if (!combinable[index++]) {
+          writer.flush();
+          continue;
+        }
+      }
+
+      while (index < queries.size() && combinable[index]) {
+        byte[] query = queries.get(index).getBytes(StandardCharsets.UTF_8);
+        if (writer.hasFlushed()
+            || writer.pos() - 4 + SEPARATOR.length + query.length >= maxLength) {
+          // query doesn't fit: send it in next command, alone if bigger than max length
+          pendingQuery = query;
+          break;
+        }
+        writer.writeBytes(SEPARATOR);
+        writer.writeBytes(query);
+        index++;
+      }
+      writer.flush();
+    }
+    commandStarts[commandNo] = queries.size();
+    return commandNo;
+  }
+
+  @Override
+  public Completion readPacket(
+      org.mariadb.jdbc.Statement stmt,
+      int fetchSize,
+      long maxRows,
+      int resultSetConcurrency,
+      int resultSetType,
+      boolean closeOnCompletion,
+      Reader reader,
+      Writer writer,
+      Context context,
+      ExceptionFactory exceptionFactory,
+      ClosableLock lock,
+      boolean traceEnable,
+      ClientMessage message,
+      Consumer<String> redirectFct)
+      throws IOException, SQLException {
+    Completion completion;
+    try {
+      completion =
+          RedoableClientMessage.super.readPacket(
+              stmt,
+              fetchSize,
+              maxRows,
+              resultSetConcurrency,
+              resultSetType,
+              closeOnCompletion,
+              reader,
+              writer,
+              context,
+              exceptionFactory,
+              lock,
+              traceEnable,
+              message,
+              redirectFct);
+    } catch (SQLException e) {
+      // error ends command: failing and following queries of command are not executed
+      if (readCommand < commandNo
+          && commandStarts[readCommand + 1] - commandStarts[readCommand] == 1) {
+        updateCounts[commandStarts[readCommand]] = Statement.EXECUTE_FAILED;
+      }
+      readCommand++;
+      readResult = 0;
+      throw e;
+    }
+
+    if (readCommand < commandNo) {
+      int commandStart = commandStarts[readCommand];
+      long updateCount =
+          completion instanceof OkPacket
+              ? ((OkPacket) completion).getAffectedRows()
+              : Statement.SUCCESS_NO_INFO;
+      if (commandStarts[readCommand + 1] - commandStart == 1) {
+        // a multi-statement query has multiple results
+        updateCounts[commandStart] = readResult == 0 ? updateCount : Statement.SUCCESS_NO_INFO;
+      } else if (commandStart + readResult < commandStarts[readCommand + 1]) {
+        updateCounts[commandStart + readResult] = updateCount;
+      }
+      readResult++;
+      if ((context.getServerStatus() & ServerStatus.MORE_RESULTS_EXISTS) == 0) {
+        readCommand++;
+        readResult = 0;
+      }
+    }
+    return completion;
+  }
+
+  /**
+   * Update count of each batch query, Statement.EXECUTE_FAILED for queries that failed or have not
+   * been executed.
+   *
+   * @return update counts
+   */
+  public long[] getUpdateCounts() {
+    return updateCounts;
+  }
+
+  public int batchUpdateLength() {
+    return queries.size();
+  }
+
+  @Override
+  public String description() {
+    // query currently executed
+    if (readCommand >= commandNo) return queries.get(0);
+    int index = commandStarts[readCommand];
+    if (commandStarts[readCommand + 1] - index > 1) index += readResult;
+    return queries.get(Math.min(index, queries.size() - 1));
+  }
+}
@@ -156,7 +156,7 @@ public final class PrepareExecutePacket implements RedoableWithPrepareClientMess
             .create(
                 errorPacket.getMessage(), errorPacket.getSqlState(), errorPacket.getErrorCode());
       }
-      if (context.getConf().useServerPrepStmts()
+      if ((context.getConf().useServerPrepStmts() || context.getConf().serverPrepareThreshold() > 0)
           && context.getConf().cachePrepStmts()
           && sql.length() < 8192) {
         PrepareResultPacket prepare = new CachedPrepareResultPacket(buf, reader, context);
@@ -74,7 +74,7 @@ public final class PreparePacket implements ClientMessage {
           .withSql(this.description())
           .create(errorPacket.getMessage(), errorPacket.getSqlState(), errorPacket.getErrorCode());
     }
-    if (context.getConf().useServerPrepStmts()
+    if ((context.getConf().useServerPrepStmts() || context.getConf().serverPrepareThreshold() > 0)
         && context.getConf().cachePrepStmts()
         && sql.length() < 8192) {
       PrepareResultPacket prepare = new CachedPrepareResultPacket(buf, reader, context);
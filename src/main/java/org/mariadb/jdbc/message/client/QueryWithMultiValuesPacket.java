@@ -0,0 +1,285 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.message.client;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import org.mariadb.jdbc.client.Completion;
+import org.mariadb.jdbc.client.Context;
+import org.mariadb.jdbc.client.socket.Reader;
+import org.mariadb.jdbc.client.socket.Writer;
+import org.mariadb.jdbc.client.socket.impl.PacketWriter;
+import org.mariadb.jdbc.client.util.ClosableLock;
+import org.mariadb.jdbc.client.util.MutableByte;
+import org.mariadb.jdbc.client.util.Parameter;
+import org.mariadb.jdbc.client.util.Parameters;
+import org.mariadb.jdbc.export.ExceptionFactory;
+import org.mariadb.jdbc.message.ClientMessage;
+import org.mariadb.jdbc.message.server.OkPacket;
+import org.mariadb.jdbc.plugin.codec.ByteArrayCodec;
+import org.mariadb.jdbc.util.ClientParser;
+
+/**
+ * Batch of an INSERT command rewritten in multi-values COM_QUERY: "INSERT INTO ... VALUES (?, ?)
+ * [ON DUPLICATE KEY UPDATE ...]" is sent as "INSERT INTO ... VALUES (1, 'a'),(2, 'b'),...[ON
+ * DUPLICATE KEY UPDATE ...]", each command being limited to max length, sending as many commands as
+ * needed.
+ *
+ * <p>Result of each command is kept while read, permitting to deduce update count of each batch
+ * row, even when some commands fail.
+ */
+public final class QueryWithMultiValuesPacket implements RedoableClientMessage {
+
+  /** default command length limit when max_allowed_packet is not known */
+  public static final int DEFAULT_MAX_LENGTH = 1024 * 1024;
+
+  private static final int MAX_PACKET_LENGTH = 0x00ffffff;
+
+  private final String preSqlCmd;
+  private final ClientParser parser;
+  private final int maxLength;
+  private List<Parameters> batchParameterList;
+
+  // first batch row index of each command, last value being batch size
+  private int[] commandStarts;
+  // affected rows of each command, Statement.EXECUTE_FAILED if failed or not read
+  private long[] commandResults;
+  private int commandNo;
+  private int readCommand;
+
+  /**
+   * Constructor
+   *
+   * @param preSqlCmd additional pre command
+   * @param parser rewritable command parser result
+   * @param batchParameterList batch parameter list
+   * @param maxAllowedPacket max_allowed_packet, if known
+   */
+  public QueryWithMultiValuesPacket(
+      String preSqlCmd,
+      ClientParser parser,
+      List<Parameters> batchParameterList,
+      Integer maxAllowedPacket) {
+    this.preSqlCmd = preSqlCmd;
+    this.parser = parser;
+    this.batchParameterList = batchParameterList;
+    this.maxLength =
+        maxAllowedPacket == null
+            ? DEFAULT_MAX_LENGTH
+            : Math.min(maxAllowedPacket, MAX_PACKET_LENGTH);
+  }
+
+  @Override
+  public void ensureReplayable(Context context) throws IOException, SQLException {
+    for (Parameters parameters : batchParameterList) {
+      int parameterCount = parameters.size();
+      for (int i = 0; i < parameterCount; i++) {
+        Parameter p = parameters.get(i);
+        if (!p.isNull() && p.canEncodeLongData()) {
+          parameters.set(
+              i, new org.mariadb.jdbc.codec.Parameter<>(ByteArrayCodec.INSTANCE, p.encodeData()));
+        }
+      }
+    }
+  }
+
+  public void saveParameters() {
+    List<Parameters> savedList = new ArrayList<>(batchParameterList.size());
+    for (Parameters parameterList : batchParameterList) {
+      savedList.add(parameterList.clone());
+    }
+    this.batchParameterList = savedList;
+  }
+
+  @Override
+  public int encode(Writer writer, Context context) throws IOException, SQLException {
+    byte[] query = parser.getQuery();
+    int valuesStart = parser.getValuesStart();
+    int valuesEnd = parser.getValuesEnd();
+    int tailLength = query.length - valuesEnd;
+
+    // tuples are encoded apart, permitting to check command length before adding them
+    ByteArrayOutputStream tupleOut = new ByteArrayOutputStream();
+    PacketWriter tupleWriter =
+        new PacketWriter(tupleOut, 0, null, new MutableByte(), new MutableByte());
+
+    commandStarts = new int[batchParameterList.size() + 1];
+    commandNo = 0;
+    readCommand = 0;
+    int index = 0;
+    byte[] tuple = null;
+    int tupleOff = 0;
+    int tupleLen = 0;
+    try {
+      while (true) {
+        commandStarts[commandNo++] = index;
+        writer.initPacket();
+        writer.writeByte(0x03);
+        if (preSqlCmd != null) writer.writeAscii(preSqlCmd);
+        writer.writeBytes(query, 0, valuesStart);
+
+        boolean firstTuple = true;
+        while (index < batchParameterList.size()) {
+          if (tuple == null) {
+            tupleOut.reset();
+            tupleWriter.initPacket();
+            writeTuple(
+                tupleWriter, context, query, valuesStart, valuesEnd, batchParameterList.get(index));
+            if (tupleWriter.hasFlushed()) {
+              tuple = joinPackets(tupleOut.toByteArray(), tupleWriter);
+              tupleOff = 0;
+              tupleLen = tuple.length;
+            } else {
+              tuple = tupleWriter.buf();
+              tupleOff = 4;
+              tupleLen = tupleWriter.pos() - 4;
+            }
+          }
+          if (!firstTuple
+              && (writer.hasFlushed() || writer.pos() - 3 + tupleLen + tailLength >= maxLength)) {
+            // tuple doesn't fit: send it in next command, alone if bigger than max length
+            break;
+          }
+          if (!firstTuple) writer.writeByte(',');
+          writer.writeBytes(tuple, tupleOff, tupleLen);
+          tuple = null;
+          index++;
+          firstTuple = false;
+        }
+
+        writer.writeBytes(query, valuesEnd, tailLength);
+        writer.flush();
+        if (index >= batchParameterList.size()) {
+          commandStarts[commandNo] = batchParameterList.size();
+          commandResults = new long[commandNo];
+          Arrays.fill(commandResults, Statement.EXECUTE_FAILED);
+          return commandNo;
+        }
+      }
+    } finally {
+      // release pooled buffer
+      tupleWriter.initPacket();
+    }
+  }
+
+  /**
+   * Tuple bigger than a packet: join packets already written by tuple writer, without their header,
+   * and data remaining in its buffer.
+   */
+  private static byte[] joinPackets(byte[] packets, PacketWriter tupleWriter) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(packets.length + tupleWriter.pos());
+    int pos = 0;
+    while (pos < packets.length) {
+      int len =
+          (packets[pos] & 0xff)
+              + ((packets[pos + 1] & 0xff) << 8)
+              + ((packets[pos + 2] & 0xff) << 16);
+      out.write(packets, pos + 4, len);
+      pos += 4 + len;
+    }
+    out.write(tupleWriter.buf(), 4, tupleWriter.pos() - 4);
+    return out.toByteArray();
+  }
+
+  @Override
+  public Completion readPacket(
+      org.mariadb.jdbc.Statement stmt,
+      int fetchSize,
+      long maxRows,
+      int resultSetConcurrency,
+      int resultSetType,
+      boolean closeOnCompletion,
+      Reader reader,
+      Writer writer,
+      Context context,
+      ExceptionFactory exceptionFactory,
+      ClosableLock lock,
+      boolean traceEnable,
+      ClientMessage message,
+      Consumer<String> redirectFct)
+      throws IOException, SQLException {
+    Completion completion;
+    try {
+      completion =
+          RedoableClientMessage.super.readPacket(
+              stmt,
+              fetchSize,
+              maxRows,
+              resultSetConcurrency,
+              resultSetType,
+              closeOnCompletion,
+              reader,
+              writer,
+              context,
+              exceptionFactory,
+              lock,
+              traceEnable,
+              message,
+              redirectFct);
+    } catch (SQLException e) {
+      readCommand++;
+      throw e;
+    }
+    if (readCommand < commandNo) {
+      commandResults[readCommand++] =
+          completion instanceof OkPacket
+              ? ((OkPacket) completion).getAffectedRows()
+              : Statement.SUCCESS_NO_INFO;
+    }
+    return completion;
+  }
+
+  /**
+   * Update count of each batch row, deduced from the result of the command that sent it: 1 for each
+   * row when command affected rows is the number of rows of the command (not possible for "ON
+   * DUPLICATE KEY UPDATE"), Statement.SUCCESS_NO_INFO otherwise, and Statement.EXECUTE_FAILED for
+   * rows of commands that failed or have not been executed.
+   *
+   * @return update counts
+   */
+  public int[] getUpdateCounts() {
+    int[] updateCounts = new int[batchParameterList.size()];
+    Arrays.fill(updateCounts, Statement.EXECUTE_FAILED);
+    for (int i = 0; i < commandNo; i++) {
+      int rows = commandStarts[i + 1] - commandStarts[i];
+      long result = commandResults[i];
+      if (result == Statement.EXECUTE_FAILED) continue;
+      Arrays.fill(
+          updateCounts,
+          commandStarts[i],
+          commandStarts[i + 1],
+          result == rows && !parser.isInsertDuplicate() ? 1 : Statement.SUCCESS_NO_INFO);
+    }
+    return updateCounts;
+  }
+
+  private void writeTuple(
+      Writer writer, Context context, byte[] query, int pos, int valuesEnd, Parameters parameters)
+      throws IOException, SQLException {
+    List<Integer> paramPositions = parser.getParamPositions();
+    int paramPos;
+    for (int i = 0; i < paramPositions.size(); i++) {
+      paramPos = paramPositions.get(i);
+      writer.writeBytes(query, pos, paramPos - pos);
+      pos = paramPos + 1;
+      parameters.get(i).encodeText(writer, context);
+    }
+    writer.writeBytes(query, pos, valuesEnd - pos);
+  }
+
+  public int batchUpdateLength() {
+    return batchParameterList.size();
+  }
+
+  @Override
+  public String description() {
+    return parser.getSql();
+  }
+}
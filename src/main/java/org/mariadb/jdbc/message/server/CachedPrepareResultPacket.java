@@ -41,29 +41,37 @@ public final class CachedPrepareResultPacket extends PrepareResultPacket {
    * @throws SQLException if SQL
    */
   public void close(Client con) throws SQLException {
-    if (!cached.get() && closing.compareAndSet(false, true)) {
-      con.closePrepare(this);
+    boolean mustClose;
+    synchronized (statements) {
+      mustClose = !cached.get() && closing.compareAndSet(false, true);
     }
+    if (mustClose) con.closePrepare(this);
   }
 
   public void decrementUse(Client con, BasePreparedStatement preparedStatement)
       throws SQLException {
-    statements.remove(preparedStatement);
-    if (statements.size() == 0 && !cached.get()) {
-      close(con);
+    boolean mustClose;
+    synchronized (statements) {
+      statements.remove(preparedStatement);
+      mustClose = statements.isEmpty() && !cached.get() && closing.compareAndSet(false, true);
     }
+    if (mustClose) con.closePrepare(this);
   }
 
   /**
    * Increment use of prepare statement.
    *
    * @param preparedStatement new statement using prepare result
+   * @return false if prepare is being closed, and cannot be used anymore
    */
-  public void incrementUse(BasePreparedStatement preparedStatement) {
-    if (closing.get()) {
-      return;
+  public boolean incrementUse(BasePreparedStatement preparedStatement) {
+    synchronized (statements) {
+      if (closing.get()) {
+        return false;
+      }
+      if (preparedStatement != null) statements.add(preparedStatement);
+      return true;
     }
-    if (preparedStatement != null) statements.add(preparedStatement);
   }
 
   /**
@@ -72,10 +80,14 @@ public final class CachedPrepareResultPacket extends PrepareResultPacket {
    * @param con current connection
    */
   public void unCache(Client con) {
-    cached.set(false);
-    if (statements.size() <= 0) {
+    boolean mustClose;
+    synchronized (statements) {
+      cached.set(false);
+      mustClose = statements.isEmpty() && closing.compareAndSet(false, true);
+    }
+    if (mustClose) {
       try {
-        close(con);
+        con.closePrepare(this);
       } catch (SQLException e) {
         // eat
       }
@@ -106,7 +118,11 @@ public final class CachedPrepareResultPacket extends PrepareResultPacket {
   /** Resetting cache in case of failover */
   public void reset() {
     statementId = -1;
-    for (BasePreparedStatement stmt : statements) {
+    List<BasePreparedStatement> stmts;
+    synchronized (statements) {
+      stmts = new ArrayList<>(statements);
+    }
+    for (BasePreparedStatement stmt : stmts) {
       stmt.reset();
     }
   }
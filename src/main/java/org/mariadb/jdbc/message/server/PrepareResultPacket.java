@@ -9,6 +9,7 @@ import org.mariadb.jdbc.BasePreparedStatement;
 import org.mariadb.jdbc.client.*;
 import org.mariadb.jdbc.client.impl.StandardReadableByteBuf;
 import org.mariadb.jdbc.client.socket.Reader;
+import org.mariadb.jdbc.client.util.Parameters;
 import org.mariadb.jdbc.export.Prepare;
 import org.mariadb.jdbc.util.log.Logger;
 import org.mariadb.jdbc.util.log.Loggers;
@@ -61,6 +62,9 @@ public class PrepareResultPacket implements Completion, Prepare {
 
   private ColumnDecoder[] columns;
 
+  /** parameter types sent with last COM_STMT_EXECUTE, that server keeps for next executions */
+  private byte[] sentParameterTypes;
+
   /**
    * Prepare packet constructor (parsing)
    *
@@ -134,6 +138,40 @@ public class PrepareResultPacket implements Completion, Prepare {
     return statementId;
   }
 
+  /**
+   * Indicate if parameter types are the same as those sent with last execution of this statement,
+   * so execution can skip sending them.
+   *
+   * @param parameters parameters
+   * @return true if types have already been sent
+   */
+  public boolean isParameterTypesSent(Parameters parameters) {
+    byte[] sent = sentParameterTypes;
+    if (sent == null || sent.length != parameters.size()) return false;
+    for (int i = 0; i < sent.length; i++) {
+      if (sent[i] != (byte) parameters.get(i).getBinaryEncodeType()) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Record parameter types sent to server with an execution.
+   *
+   * @param parameters parameters
+   */
+  public void setParameterTypesSent(Parameters parameters) {
+    byte[] sent = new byte[parameters.size()];
+    for (int i = 0; i < sent.length; i++) {
+      sent[i] = (byte) parameters.get(i).getBinaryEncodeType();
+    }
+    this.sentParameterTypes = sent;
+  }
+
+  /** Force sending parameter types with next execution. */
+  public void resetParameterTypesSent() {
+    this.sentParameterTypes = null;
+  }
+
   public ColumnDecoder[] getParameters() {
     return parameters;
   }
@@ -21,6 +21,13 @@ import org.mariadb.jdbc.Configuration;
 import org.mariadb.jdbc.Connection;
 import org.mariadb.jdbc.Driver;
 import org.mariadb.jdbc.Statement;
+import org.mariadb.jdbc.client.PrepareCache;
+import org.mariadb.jdbc.client.result.StreamingFetchMetrics;
+import org.mariadb.jdbc.client.socket.impl.WriteBufferPool;
+import org.mariadb.jdbc.client.util.ClosableLock;
+import org.mariadb.jdbc.client.util.PrepareCacheStatistics;
+import org.mariadb.jdbc.client.util.ServerPrepareMetrics;
+import org.mariadb.jdbc.util.SqlParseCache;
 import org.mariadb.jdbc.util.log.Logger;
 import org.mariadb.jdbc.util.log.Loggers;
 
@@ -45,6 +52,9 @@ public class Pool implements AutoCloseable, PoolMBean {
   private final String poolTag;
   private final ScheduledThreadPoolExecutor poolExecutor;
   private final ScheduledFuture<?> scheduledFuture;
+  private final ClosableLock closeLock = new ClosableLock();
+  private final PrepareCacheStatistics prepareCacheStatistics = new PrepareCacheStatistics();
+  private final SqlParseCache sqlParseCache;
 
   private int waitTimeout;
 
@@ -59,6 +69,7 @@ public class Pool implements AutoCloseable, PoolMBean {
   public Pool(Configuration conf, int poolIndex, ScheduledThreadPoolExecutor poolExecutor) {
 
     this.conf = conf;
+    this.sqlParseCache = SqlParseCache.create(conf);
     poolTag = generatePoolTag(poolIndex);
 
     // one thread to add new connection to pool.
@@ -194,6 +205,9 @@ public class Pool implements AutoCloseable, PoolMBean {
 
     // create new connection
     Connection connection = Driver.connect(conf);
+    if (sqlParseCache != null) connection.setSqlParseCache(sqlParseCache);
+    PrepareCache prepareCache = connection.getContext().getPrepareCache();
+    if (prepareCache != null) prepareCache.getStatistics().setParent(prepareCacheStatistics);
     MariaDbInnerPoolConnection item = new MariaDbInnerPoolConnection(connection);
     item.addConnectionEventListener(
         new ConnectionEventListener() {
@@ -429,9 +443,10 @@ public class Pool implements AutoCloseable, PoolMBean {
 
   /** Close pool and underlying connections. */
   @Override
+  @SuppressWarnings("try")
   public void close() {
     try {
-      synchronized (this) {
+      try (ClosableLock ignore = closeLock.closeableLock()) {
         Pools.remove(this);
         poolState.set(POOL_STATE_CLOSING);
         pendingRequestNumber.set(0);
@@ -492,9 +507,9 @@ public class Pool implements AutoCloseable, PoolMBean {
   }
 
   private void closeAll(Collection<MariaDbInnerPoolConnection> collection) {
-    synchronized (collection) { // synchronized mandatory to iterate Collections.synchronizedList()
-      for (MariaDbInnerPoolConnection item : collection) {
-        collection.remove(item);
+    // concurrent deque: no monitor needed to iterate, aborting connections without pinning thread
+    for (MariaDbInnerPoolConnection item : collection) {
+      if (collection.remove(item)) {
         totalConnection.decrementAndGet();
         silentAbortConnection(item.getConnection());
       }
@@ -529,6 +544,26 @@ public class Pool implements AutoCloseable, PoolMBean {
     return pendingRequestNumber.get();
   }
 
+  public long getPrepareCacheHits() {
+    return prepareCacheStatistics.getHitCount();
+  }
+
+  public long getPrepareCacheMisses() {
+    return prepareCacheStatistics.getMissCount();
+  }
+
+  public long getPrepareCacheEvictions() {
+    return prepareCacheStatistics.getEvictionCount();
+  }
+
+  public long getSqlParseCacheHits() {
+    return sqlParseCache == null ? 0 : sqlParseCache.getHitCount();
+  }
+
+  public long getSqlParseCacheMisses() {
+    return sqlParseCache == null ? 0 : sqlParseCache.getMissCount();
+  }
+
   private void registerJmx() throws Exception {
     MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
     String jmxName = poolTag.replace(":", "_");
@@ -537,6 +572,11 @@ public class Pool implements AutoCloseable, PoolMBean {
     if (!mbs.isRegistered(name)) {
       mbs.registerMBean(this, name);
     }
+
+    // JVM-wide write buffer pool, shared by all connections
+    WriteBufferPool.registerJmx();
+    StreamingFetchMetrics.registerJmx();
+    ServerPrepareMetrics.registerJmx();
   }
 
   private void unRegisterJmx() throws Exception {
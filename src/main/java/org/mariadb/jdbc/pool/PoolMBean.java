@@ -33,4 +33,39 @@ public interface PoolMBean {
    * @return request number
    */
   long getConnectionRequests();
+
+  /**
+   * get number of prepare cache hits of pool connections
+   *
+   * @return prepare cache hit number
+   */
+  long getPrepareCacheHits();
+
+  /**
+   * get number of prepare cache misses of pool connections
+   *
+   * @return prepare cache miss number
+   */
+  long getPrepareCacheMisses();
+
+  /**
+   * get number of prepare cache evictions of pool connections
+   *
+   * @return prepare cache eviction number
+   */
+  long getPrepareCacheEvictions();
+
+  /**
+   * get number of client side SQL parsing served from cache shared by pool connections
+   *
+   * @return sql parse cache hit number
+   */
+  long getSqlParseCacheHits();
+
+  /**
+   * get number of client side SQL parsing not found in cache shared by pool connections
+   *
+   * @return sql parse cache miss number
+   */
+  long getSqlParseCacheMisses();
 }
@@ -9,12 +9,14 @@ import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.mariadb.jdbc.Configuration;
+import org.mariadb.jdbc.client.util.ClosableLock;
 
 /** Pools */
 public final class Pools {
 
   private static final AtomicInteger poolIndex = new AtomicInteger();
   private static final Map<Configuration, Pool> poolMap = new ConcurrentHashMap<>();
+  private static final ClosableLock lock = new ClosableLock();
   private static ScheduledThreadPoolExecutor poolExecutor = null;
 
   /**
@@ -23,9 +25,10 @@ public final class Pools {
    * @param conf configuration parser
    * @return pool
    */
+  @SuppressWarnings("try")
   public static Pool retrievePool(Configuration conf) {
     if (!poolMap.containsKey(conf)) {
-      synchronized (poolMap) {
+      try (ClosableLock ignore = lock.closeableLock()) {
         if (!poolMap.containsKey(conf)) {
           if (poolExecutor == null) {
             poolExecutor =
@@ -46,9 +49,10 @@ public final class Pools {
    *
    * @param pool pool to remove
    */
+  @SuppressWarnings("try")
   public static void remove(Pool pool) {
     if (poolMap.containsKey(pool.getConf())) {
-      synchronized (poolMap) {
+      try (ClosableLock ignore = lock.closeableLock()) {
         if (poolMap.containsKey(pool.getConf())) {
           poolMap.remove(pool.getConf());
 
@@ -61,8 +65,9 @@ public final class Pools {
   }
 
   /** Close all pools. */
+  @SuppressWarnings("try")
   public static void close() {
-    synchronized (poolMap) {
+    try (ClosableLock ignore = lock.closeableLock()) {
       for (Pool pool : poolMap.values()) {
         try {
           pool.close();
@@ -80,11 +85,12 @@ public final class Pools {
    *
    * @param poolName the option "poolName" value
    */
+  @SuppressWarnings("try")
   public static void close(String poolName) {
     if (poolName == null) {
       return;
     }
-    synchronized (poolMap) {
+    try (ClosableLock ignore = lock.closeableLock()) {
       for (Pool pool : poolMap.values()) {
         if (poolName.equals(pool.getConf().poolName())) {
           try {
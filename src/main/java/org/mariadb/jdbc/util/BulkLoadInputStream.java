@@ -0,0 +1,160 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+
+/**
+ * Stream encoding rows on the fly into LOAD DATA format: fields terminated by tab, lines terminated
+ * by new line, escaped by backslash, NULL being written as <code>\N</code>. Values are encoded in
+ * utf8mb4.
+ */
+public final class BulkLoadInputStream extends InputStream {
+
+  /** LOAD DATA format clause corresponding to encoding */
+  public static final String FORMAT =
+      "CHARACTER SET utf8mb4 FIELDS TERMINATED BY '\\t' ENCLOSED BY '' ESCAPED BY '\\\\' LINES"
+          + " TERMINATED BY '\\n'";
+
+  private static final int MIN_FILL_SIZE = 8192;
+  private static final byte[] NULL_VALUE = new byte[] {'\\', 'N'};
+
+  private final Iterator<Object[]> rows;
+  private final int columnCount;
+  private byte[] buf = new byte[2 * MIN_FILL_SIZE];
+  private int pos;
+  private int limit;
+
+  /**
+   * Constructor
+   *
+   * @param rows row iterator
+   * @param columnCount expected number of values of each row
+   */
+  public BulkLoadInputStream(Iterator<Object[]> rows, int columnCount) {
+    this.rows = rows;
+    this.columnCount = columnCount;
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (pos == limit && !fill()) return -1;
+    return buf[pos++] & 0xff;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (len == 0) return 0;
+    if (pos == limit && !fill()) return -1;
+    int count = Math.min(len, limit - pos);
+    System.arraycopy(buf, pos, b, off, count);
+    pos += count;
+    return count;
+  }
+
+  /** encode rows until having at least MIN_FILL_SIZE bytes or no more rows */
+  private boolean fill() throws IOException {
+    pos = 0;
+    limit = 0;
+    while (limit < MIN_FILL_SIZE && rows.hasNext()) {
+      Object[] row = rows.next();
+      if (row == null || row.length != columnCount) {
+        throw new IOException(
+            String.format(
+                "bulk load row must have %s values, but has %s",
+                columnCount, row == null ? 0 : row.length));
+      }
+      for (int i = 0; i < row.length; i++) {
+        if (i > 0) write((byte) '\t');
+        writeValue(row[i]);
+      }
+      write((byte) '\n');
+    }
+    return limit > 0;
+  }
+
+  private void writeValue(Object value) {
+    if (value == null) {
+      writeRaw(NULL_VALUE);
+    } else if (value instanceof byte[]) {
+      writeEscaped((byte[]) value);
+    } else if (value instanceof Boolean) {
+      write((Boolean) value ? (byte) '1' : (byte) '0');
+    } else if (value instanceof BigDecimal) {
+      writeRaw(((BigDecimal) value).toPlainString().getBytes(StandardCharsets.US_ASCII));
+    } else if (value instanceof Number) {
+      writeRaw(value.toString().getBytes(StandardCharsets.US_ASCII));
+    } else if (value instanceof LocalDateTime) {
+      LocalDateTime dateTime = (LocalDateTime) value;
+      writeRaw(
+          (dateTime.toLocalDate() + " " + dateTime.toLocalTime())
+              .getBytes(StandardCharsets.US_ASCII));
+    } else if (value instanceof java.util.Date
+        && !(value instanceof java.sql.Date)
+        && !(value instanceof java.sql.Time)) {
+      Timestamp ts =
+          value instanceof Timestamp
+              ? (Timestamp) value
+              : new Timestamp(((java.util.Date) value).getTime());
+      writeRaw(ts.toString().getBytes(StandardCharsets.US_ASCII));
+    } else {
+      writeEscaped(value.toString().getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  private void ensureCapacity(int len) {
+    if (limit + len > buf.length) {
+      byte[] newBuf = new byte[Math.max(buf.length * 2, limit + len)];
+      System.arraycopy(buf, 0, newBuf, 0, limit);
+      buf = newBuf;
+    }
+  }
+
+  private void write(byte b) {
+    ensureCapacity(1);
+    buf[limit++] = b;
+  }
+
+  private void writeRaw(byte[] bytes) {
+    ensureCapacity(bytes.length);
+    System.arraycopy(bytes, 0, buf, limit, bytes.length);
+    limit += bytes.length;
+  }
+
+  private void writeEscaped(byte[] bytes) {
+    ensureCapacity(bytes.length * 2);
+    for (byte b : bytes) {
+      switch (b) {
+        case '\\':
+          buf[limit++] = '\\';
+          buf[limit++] = '\\';
+          break;
+        case '\t':
+          buf[limit++] = '\\';
+          buf[limit++] = 't';
+          break;
+        case '\n':
+          buf[limit++] = '\\';
+          buf[limit++] = 'n';
+          break;
+        case '\r':
+          buf[limit++] = '\\';
+          buf[limit++] = 'r';
+          break;
+        case 0:
+          buf[limit++] = '\\';
+          buf[limit++] = '0';
+          break;
+        default:
+          buf[limit++] = b;
+      }
+    }
+  }
+}
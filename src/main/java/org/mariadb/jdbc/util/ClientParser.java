@@ -6,6 +6,7 @@ package org.mariadb.jdbc.util;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 public final class ClientParser implements PrepareResult {
 
@@ -16,6 +17,8 @@ public final class ClientParser implements PrepareResult {
   private final boolean isInsert;
   private final boolean isInsertDuplicate;
   private final boolean isMultiQuery;
+  private final int valuesStart;
+  private final int valuesEnd;
 
   private ClientParser(
       String sql,
@@ -23,7 +26,9 @@ public final class ClientParser implements PrepareResult {
       List<Integer> paramPositions,
       boolean isInsert,
       boolean isInsertDuplicate,
-      boolean isMultiQuery) {
+      boolean isMultiQuery,
+      int valuesStart,
+      int valuesEnd) {
     this.sql = sql;
     this.query = query;
     this.paramPositions = paramPositions;
@@ -31,6 +36,8 @@ public final class ClientParser implements PrepareResult {
     this.isInsert = isInsert;
     this.isInsertDuplicate = isInsertDuplicate;
     this.isMultiQuery = isMultiQuery;
+    this.valuesStart = valuesStart;
+    this.valuesEnd = valuesEnd;
   }
 
   /**
@@ -54,6 +61,10 @@ public final class ClientParser implements PrepareResult {
     boolean isInsert = false;
     boolean isInsertDupplicate = false;
     int multiQueryIdx = -1;
+    int valuesKeywordEnd = -1;
+    int valuesStart = -1;
+    int valuesEnd = -1;
+    int parenthesisLevel = 0;
     byte[] query = queryString.getBytes(StandardCharsets.UTF_8);
     int queryLength = query.length;
     for (int i = 0; i < queryLength; i++) {
@@ -170,6 +181,44 @@ public final class ClientParser implements PrepareResult {
           }
           break;
 
+        case (byte) 'V':
+        case (byte) 'v':
+          if (isInsert
+              && state == LexState.Normal
+              && valuesKeywordEnd == -1
+              && i + 5 < queryLength
+              && (query[i + 1] == (byte) 'a' || query[i + 1] == (byte) 'A')
+              && (query[i + 2] == (byte) 'l' || query[i + 2] == (byte) 'L')
+              && (query[i + 3] == (byte) 'u' || query[i + 3] == (byte) 'U')
+              && (query[i + 4] == (byte) 'e' || query[i + 4] == (byte) 'E')) {
+            if (i > 0 && (query[i - 1] > ' ' && "();><=-+,".indexOf(query[i - 1]) == -1)) {
+              break;
+            }
+            int end = (query[i + 5] == (byte) 's' || query[i + 5] == (byte) 'S') ? i + 6 : i + 5;
+            if (end < queryLength && query[end] > ' ' && "();><=-+,".indexOf(query[end]) == -1) {
+              break;
+            }
+            i = end - 1;
+            valuesKeywordEnd = end;
+          }
+          break;
+
+        case (byte) '(':
+          if (state == LexState.Normal && valuesKeywordEnd != -1 && valuesEnd == -1) {
+            if (parenthesisLevel++ == 0 && valuesStart == -1) {
+              valuesStart = i;
+            }
+          }
+          break;
+
+        case (byte) ')':
+          if (state == LexState.Normal && valuesStart != -1 && valuesEnd == -1) {
+            if (--parenthesisLevel == 0) {
+              valuesEnd = i + 1;
+            }
+          }
+          break;
+
         case (byte) '\\':
           if (noBackslashEscapes) {
             break;
@@ -208,8 +257,54 @@ public final class ClientParser implements PrepareResult {
       }
       isMulti = hasAdditionalPart;
     }
+
+    if (valuesEnd == -1
+        || isMulti
+        || !isRewritable(query, paramPositions, valuesKeywordEnd, valuesStart, valuesEnd)) {
+      valuesStart = -1;
+      valuesEnd = -1;
+    }
     return new ClientParser(
-        queryString, query, paramPositions, isInsert, isInsertDupplicate, isMulti);
+        queryString,
+        query,
+        paramPositions,
+        isInsert,
+        isInsertDupplicate,
+        isMulti,
+        valuesStart,
+        valuesEnd);
+  }
+
+  /**
+   * Check that INSERT values tuple can be repeated: "INSERT INTO ... VALUES (?, ?) [ON DUPLICATE
+   * KEY UPDATE ...]", having all parameters in a single tuple, without any other tuple and without
+   * RETURNING clause.
+   */
+  private static boolean isRewritable(
+      byte[] query,
+      List<Integer> paramPositions,
+      int valuesKeywordEnd,
+      int valuesStart,
+      int valuesEnd) {
+    if (paramPositions.isEmpty()
+        || paramPositions.get(0) < valuesStart
+        || paramPositions.get(paramPositions.size() - 1) >= valuesEnd) {
+      return false;
+    }
+    // only spaces between VALUES keyword and tuple (not "VALUES ROW(...)")
+    for (int i = valuesKeywordEnd; i < valuesStart; i++) {
+      if (query[i] > ' ') return false;
+    }
+    for (int i = valuesEnd; i < query.length; i++) {
+      if (query[i] > ' ') {
+        if (query[i] == (byte) ',') return false;
+        break;
+      }
+    }
+    String tail =
+        new String(query, valuesEnd, query.length - valuesEnd, StandardCharsets.UTF_8)
+            .toUpperCase(Locale.ROOT);
+    return !tail.contains("RETURNING");
   }
 
   public String getSql() {
@@ -240,6 +335,34 @@ public final class ClientParser implements PrepareResult {
     return isMultiQuery;
   }
 
+  /**
+   * Indicate if command is an INSERT with a single values tuple containing all parameters, that can
+   * be rewritten in a multi-values INSERT.
+   *
+   * @return can be rewritten
+   */
+  public boolean isRewritable() {
+    return valuesEnd != -1;
+  }
+
+  /**
+   * Position of values tuple opening parenthesis in query bytes, or -1 if not rewritable.
+   *
+   * @return values tuple start position
+   */
+  public int getValuesStart() {
+    return valuesStart;
+  }
+
+  /**
+   * Position following values tuple closing parenthesis in query bytes, or -1 if not rewritable.
+   *
+   * @return values tuple end position
+   */
+  public int getValuesEnd() {
+    return valuesEnd;
+  }
+
   enum LexState {
     Normal, /* inside  query */
     String, /* inside string */
@@ -0,0 +1,127 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.util;
+
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.mariadb.jdbc.Configuration;
+import org.mariadb.jdbc.client.Context;
+
+/**
+ * Cache of client side SQL parsing results ({@link ClientParser} and {@link NativeSql}). A pool
+ * owns one cache shared by all its connections, while a standalone connection has its own cache.
+ * Results are immutable, and only depend on SQL text and escape mode, so can be used concurrently
+ * by many connections.
+ *
+ * <p>Cache is bounded by option sqlParseCacheSize: when full, an arbitrary entry is evicted.
+ */
+public final class SqlParseCache {
+
+  /** longer commands are not cached */
+  private static final int MAX_SQL_LENGTH = 8192;
+
+  private final int maxSize;
+  private final ConcurrentHashMap<String, ClientParser> parsers = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<String, ClientParser> noBackslashEscapesParsers =
+      new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<String, String> nativeSqls = new ConcurrentHashMap<>();
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+
+  /**
+   * Constructor
+   *
+   * @param maxSize maximum number of cached commands per kind
+   */
+  public SqlParseCache(int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Create cache according to configuration
+   *
+   * @param conf configuration
+   * @return parse cache, null if option sqlParseCacheSize is disabled
+   */
+  public static SqlParseCache create(Configuration conf) {
+    return conf.sqlParseCacheSize() > 0 ? new SqlParseCache(conf.sqlParseCacheSize()) : null;
+  }
+
+  /**
+   * Get parameter parts of a command, parsing it if not cached
+   *
+   * @param sql command
+   * @param noBackslashEscapes escape mode
+   * @return parsing result
+   */
+  public ClientParser parameterParts(String sql, boolean noBackslashEscapes) {
+    ConcurrentHashMap<String, ClientParser> map =
+        noBackslashEscapes ? noBackslashEscapesParsers : parsers;
+    ClientParser parser = map.get(sql);
+    if (parser != null) {
+      hitCount.increment();
+      return parser;
+    }
+    missCount.increment();
+    parser = ClientParser.parameterParts(sql, noBackslashEscapes);
+    if (sql.length() < MAX_SQL_LENGTH) store(map, sql, parser);
+    return parser;
+  }
+
+  /**
+   * Get command with JDBC escape sequences resolved, parsing it if not cached
+   *
+   * @param sql command
+   * @param context connection context
+   * @return native command
+   * @throws SQLException if escape sequences are wrong
+   */
+  public String nativeSql(String sql, Context context) throws SQLException {
+    // fast path of NativeSql, without escape sequences
+    if (sql.indexOf('{') == -1) return sql;
+
+    // escape resolution depends on server type, as cache is shared by all hosts
+    boolean mariadbSyntax =
+        context.getVersion().isMariaDBServer()
+            || context.getVersion().versionGreaterOrEqual(8, 0, 17);
+    String key = mariadbSyntax ? sql : "\0" + sql;
+    String nativeSql = nativeSqls.get(key);
+    if (nativeSql != null) {
+      hitCount.increment();
+      return nativeSql;
+    }
+    missCount.increment();
+    nativeSql = NativeSql.parse(sql, context);
+    if (sql.length() < MAX_SQL_LENGTH) store(nativeSqls, key, nativeSql);
+    return nativeSql;
+  }
+
+  private <T> void store(ConcurrentHashMap<String, T> map, String key, T value) {
+    if (map.size() >= maxSize) {
+      Iterator<String> it = map.keySet().iterator();
+      if (it.hasNext()) map.remove(it.next());
+    }
+    map.put(key, value);
+  }
+
+  /**
+   * Number of parsing served from cache
+   *
+   * @return hit number
+   */
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * Number of parsing not found in cache
+   *
+   * @return miss number
+   */
+  public long getMissCount() {
+    return missCount.sum();
+  }
+}
@@ -6,14 +6,17 @@ package org.mariadb.jdbc.util;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Properties;
+import org.mariadb.jdbc.client.util.ClosableLock;
 
 public final class VersionFactory {
+  private static final ClosableLock lock = new ClosableLock();
   private static volatile Version instance = null;
 
   // use getShape method to get object of type shape
+  @SuppressWarnings("try")
   public static Version getInstance() {
     if (instance == null) {
-      synchronized (VersionFactory.class) {
+      try (ClosableLock ignore = lock.closeableLock()) {
         if (instance == null) {
           String tmpVersion = "5.5.0";
           try (InputStream inputStream =
@@ -0,0 +1,146 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.Connection;
+import org.mariadb.jdbc.Statement;
+import org.mariadb.jdbc.export.ArrowBatch;
+import org.mariadb.jdbc.export.ArrowColumnType;
+import org.mariadb.jdbc.export.ColumnarResult;
+
+public class ArrowExportTest extends Common {
+
+  private static final int ROWS = 1_000;
+
+  @BeforeAll
+  public static void beforeAll2() throws SQLException {
+    after2();
+    Statement stmt = sharedConn.createStatement();
+    stmt.execute(
+        "CREATE TABLE ArrowExport(id int not null primary key, t1 tinyint, t2 smallint unsigned,"
+            + " t3 bigint unsigned, t4 float, t5 double, t6 varchar(20), t7 varbinary(10), t8"
+            + " date, t9 decimal(10,2))");
+    try (PreparedStatement prep =
+        sharedConn.prepareStatement(
+            "INSERT INTO ArrowExport VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+      for (int i = 0; i < ROWS; i++) {
+        prep.setInt(1, i);
+        if (i % 10 == 0) {
+          for (int j = 2; j <= 10; j++) prep.setNull(j, Types.INTEGER);
+        } else {
+          prep.setInt(2, -(i % 128));
+          prep.setInt(3, 60_000 + i);
+          prep.setLong(4, 4_000_000_000L + i);
+          prep.setFloat(5, i + 0.5f);
+          prep.setDouble(6, i * 1.25);
+          prep.setString(7, "s" + i);
+          prep.setBytes(8, new byte[] {(byte) i, 0});
+          prep.setDate(9, Date.valueOf("2020-01-" + (10 + i % 20)));
+          prep.setString(10, i + ".75");
+        }
+        prep.addBatch();
+      }
+      prep.executeBatch();
+    }
+  }
+
+  @AfterAll
+  public static void after2() throws SQLException {
+    sharedConn.createStatement().execute("DROP TABLE IF EXISTS ArrowExport");
+  }
+
+  @Test
+  public void textProtocol() throws SQLException {
+    try (Connection con = createCon("useServerPrepStmts=false")) {
+      check(con);
+    }
+  }
+
+  @Test
+  public void binaryProtocol() throws SQLException {
+    try (Connection con = createCon("useServerPrepStmts")) {
+      check(con);
+    }
+  }
+
+  private static String string(ArrowBatch batch, int column, int row) {
+    int[] offsets = batch.offsets(column);
+    return new String(
+        batch.data(column), offsets[row], offsets[row + 1] - offsets[row], StandardCharsets.UTF_8);
+  }
+
+  private void check(Connection con) throws SQLException {
+    try (PreparedStatement prep =
+        con.prepareStatement("SELECT * FROM ArrowExport WHERE id >= ? ORDER BY id")) {
+      prep.setInt(1, 0);
+      ResultSet rs = prep.executeQuery();
+      ColumnarResult columnar = rs.unwrap(ColumnarResult.class);
+      ArrowBatch batch = new ArrowBatch(300);
+      int offset = 0;
+      int rows;
+      while ((rows = columnar.fetchArrow(1_000, batch)) > 0) {
+        assertEquals(10, batch.columnCount());
+        assertEquals("t6", batch.name(6));
+        assertEquals(ArrowColumnType.INT32, batch.type(0));
+        assertEquals(ArrowColumnType.INT8, batch.type(1));
+        assertEquals(ArrowColumnType.UINT16, batch.type(2));
+        assertEquals(ArrowColumnType.UINT64, batch.type(3));
+        assertEquals(ArrowColumnType.FLOAT32, batch.type(4));
+        assertEquals(ArrowColumnType.FLOAT64, batch.type(5));
+        assertEquals(ArrowColumnType.UTF8, batch.type(6));
+        assertEquals(ArrowColumnType.BINARY, batch.type(7));
+        assertEquals(ArrowColumnType.UTF8, batch.type(8));
+        assertEquals(ArrowColumnType.UTF8, batch.type(9));
+        assertEquals(0, batch.nullCount(0));
+        assertEquals((rows + 9) / 10, batch.nullCount(1));
+
+        ByteBuffer[] data = new ByteBuffer[6];
+        for (int col = 0; col < 6; col++) {
+          data[col] = ByteBuffer.wrap(batch.data(col)).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        for (int row = 0; row < rows; row++) {
+          int i = offset + row;
+          assertEquals(i, data[0].getInt(row * 4));
+          if (i % 10 == 0) {
+            for (int col = 1; col < 10; col++) {
+              assertTrue(batch.isNull(col, row));
+            }
+            assertEquals(batch.offsets(6)[row], batch.offsets(6)[row + 1]);
+            continue;
+          }
+          assertFalse(batch.isNull(1, row));
+          assertEquals(-(i % 128), data[1].get(row));
+          assertEquals(60_000 + i, data[2].getShort(row * 2) & 0xFFFF);
+          assertEquals(4_000_000_000L + i, data[3].getLong(row * 8));
+          assertEquals(i + 0.5f, data[4].getFloat(row * 4));
+          assertEquals(i * 1.25, data[5].getDouble(row * 8));
+          assertEquals("s" + i, string(batch, 6, row));
+          assertEquals(2, batch.offsets(7)[row + 1] - batch.offsets(7)[row]);
+          assertEquals((byte) i, batch.data(7)[batch.offsets(7)[row]]);
+          assertEquals("2020-01-" + (10 + i % 20), string(batch, 8, row));
+          assertEquals(i + ".75", string(batch, 9, row));
+        }
+        offset += rows;
+        // cursor is on last row read
+        assertEquals(offset - 1, rs.getInt(1));
+      }
+      assertEquals(ROWS, offset);
+      assertEquals(0, batch.size());
+
+      // batch columns are bound to first result-set metadata
+      ColumnarResult rs2 =
+          con.createStatement().executeQuery("SELECT 1").unwrap(ColumnarResult.class);
+      assertThrows(SQLException.class, () -> rs2.fetchArrow(10, batch));
+    }
+  }
+}
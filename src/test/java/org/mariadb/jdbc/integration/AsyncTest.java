@@ -0,0 +1,140 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.BasePreparedStatement;
+import org.mariadb.jdbc.Connection;
+import org.mariadb.jdbc.Statement;
+
+public class AsyncTest extends Common {
+
+  @BeforeAll
+  public static void beforeAll2() throws SQLException {
+    after2();
+    Statement stmt = sharedConn.createStatement();
+    stmt.execute(
+        "CREATE TABLE AsyncTest(id int not null primary key auto_increment, t varchar(10))");
+  }
+
+  @AfterAll
+  public static void after2() throws SQLException {
+    sharedConn.createStatement().execute("DROP TABLE IF EXISTS AsyncTest");
+  }
+
+  @Test
+  public void executeQueryAsync() throws Exception {
+    executeQueryAsync(sharedConn);
+    try (Connection con = createCon("disablePipeline")) {
+      executeQueryAsync(con);
+    }
+  }
+
+  private void executeQueryAsync(Connection con) throws Exception {
+    List<CompletableFuture<ResultSet>> futures = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      futures.add(con.executeQueryAsync("SELECT " + i));
+    }
+    for (int i = 0; i < 200; i++) {
+      ResultSet rs = futures.get(i).get();
+      assertTrue(rs.next());
+      assertEquals(i, rs.getInt(1));
+    }
+  }
+
+  @Test
+  public void asyncStatementClosed() throws Exception {
+    ResultSet rs = sharedConn.executeQueryAsync("SELECT 1").get();
+    java.sql.Statement stmt = rs.getStatement();
+    assertFalse(stmt.isClosed());
+    assertTrue(rs.next());
+    rs.close();
+    assertTrue(stmt.isClosed());
+  }
+
+  @Test
+  public void executeUpdateAsync() throws Exception {
+    try (Connection con = createCon()) {
+      con.setAutoCommit(false);
+      CompletableFuture<Long> first =
+          con.executeLargeUpdateAsync("INSERT INTO AsyncTest(t) VALUES ('a')");
+      CompletableFuture<Long> second =
+          con.executeLargeUpdateAsync("INSERT INTO AsyncTest(t) VALUES ('b'), ('c')");
+      assertEquals(1L, first.get());
+      assertEquals(2L, second.get());
+      ResultSet rs = con.executeQueryAsync("SELECT count(*) FROM AsyncTest").get();
+      assertTrue(rs.next());
+      assertEquals(3, rs.getInt(1));
+      con.rollback();
+    }
+  }
+
+  @Test
+  public void errorAsync() throws Exception {
+    CompletableFuture<ResultSet> wrong = sharedConn.executeQueryAsync("SELECT * FROM wrongTable");
+    CompletableFuture<ResultSet> next = sharedConn.executeQueryAsync("SELECT 5");
+    ExecutionException e = assertThrows(ExecutionException.class, wrong::get);
+    assertTrue(e.getCause() instanceof SQLSyntaxErrorException);
+    ResultSet rs = next.get();
+    assertTrue(rs.next());
+    assertEquals(5, rs.getInt(1));
+
+    e = assertThrows(ExecutionException.class, sharedConn.executeQueryAsync("DO 1")::get);
+    assertTrue(e.getCause().getMessage().contains("does NOT return a result-set"));
+  }
+
+  @Test
+  public void preparedStatementAsync() throws Exception {
+    preparedStatementAsync(sharedConn);
+    try (Connection con = createCon("useServerPrepStmts")) {
+      preparedStatementAsync(con);
+    }
+  }
+
+  private void preparedStatementAsync(Connection con) throws Exception {
+    try (PreparedStatement prep = con.prepareStatement("SELECT ?")) {
+      BasePreparedStatement stmt = (BasePreparedStatement) prep;
+      List<CompletableFuture<ResultSet>> futures = new ArrayList<>();
+      for (int i = 0; i < 100; i++) {
+        stmt.setInt(1, i);
+        futures.add(stmt.executeQueryAsync());
+      }
+      for (int i = 0; i < 100; i++) {
+        ResultSet rs = futures.get(i).get();
+        assertTrue(rs.next());
+        assertEquals(i, rs.getInt(1));
+      }
+    }
+  }
+
+  @Test
+  public void preparedStatementClosedAfterSubmit() throws Exception {
+    for (String option :
+        new String[] {"useServerPrepStmts", "useServerPrepStmts&cachePrepStmts=false"}) {
+      try (Connection con = createCon(option)) {
+        List<CompletableFuture<ResultSet>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+          try (PreparedStatement prep = con.prepareStatement("SELECT ? + 1")) {
+            prep.setInt(1, i);
+            futures.add(((BasePreparedStatement) prep).executeQueryAsync());
+          }
+        }
+        for (int i = 0; i < 50; i++) {
+          ResultSet rs = futures.get(i).get();
+          assertTrue(rs.next());
+          assertEquals(i + 1, rs.getInt(1));
+        }
+      }
+    }
+  }
+}
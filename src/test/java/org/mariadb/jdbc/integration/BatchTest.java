@@ -526,6 +526,101 @@ public class BatchTest extends Common {
     con.commit();
   }
 
+  @Test
+  public void rewriteBatchedStatements() throws SQLException {
+    try (Connection con =
+        createCon(
+            "&useServerPrepStmts=false&useBulkStmts=false&useBulkStmtsForInserts=false"
+                + "&rewriteBatchedStatements&maxAllowedPacket=1024")) {
+      rewriteBatchedStatements(con);
+    }
+    try (Connection con =
+        createCon(
+            "&useServerPrepStmts=false&useBulkStmts=false&useBulkStmtsForInserts=false"
+                + "&rewriteBatchedStatements&disablePipeline")) {
+      rewriteBatchedStatements(con);
+    }
+  }
+
+  private void rewriteBatchedStatements(Connection con) throws SQLException {
+    Statement stmt = con.createStatement();
+    stmt.execute("TRUNCATE BatchTest");
+    stmt.execute("START TRANSACTION"); // if MAXSCALE ensure using WRITER
+    try (PreparedStatement prep =
+        con.prepareStatement("INSERT INTO BatchTest(t1, t2) VALUES (?,?)")) {
+      for (int i = 1; i <= 200; i++) {
+        prep.setInt(1, i);
+        prep.setString(2, i % 10 == 0 ? null : "t'" + i);
+        prep.addBatch();
+      }
+      int[] res = prep.executeBatch();
+      assertEquals(200, res.length);
+      for (int re : res) assertEquals(1, re);
+    }
+
+    // affected rows of ON DUPLICATE KEY UPDATE cannot be deduced
+    try (PreparedStatement prep =
+        con.prepareStatement(
+            "INSERT INTO BatchTest(t1, t2) VALUES (?,?) ON DUPLICATE KEY UPDATE t2 = VALUES(t2)")) {
+      for (int i = 195; i <= 204; i++) {
+        prep.setInt(1, i);
+        prep.setString(2, "changed");
+        prep.addBatch();
+      }
+      long[] res = prep.executeLargeBatch();
+      assertEquals(10, res.length);
+      for (long re : res) assertEquals(Statement.SUCCESS_NO_INFO, re);
+    }
+
+    ResultSet rs = stmt.executeQuery("SELECT * FROM BatchTest ORDER BY t1");
+    for (int i = 1; i <= 204; i++) {
+      assertTrue(rs.next());
+      assertEquals(i, rs.getInt(1));
+      assertEquals(i >= 195 ? "changed" : i % 10 == 0 ? null : "t'" + i, rs.getString(2));
+    }
+    assertFalse(rs.next());
+
+    // error
+    try (PreparedStatement prep =
+        con.prepareStatement("INSERT INTO BatchTest(t1, t2) VALUES (?,?)")) {
+      prep.setInt(1, 300);
+      prep.setString(2, "a");
+      prep.addBatch();
+      prep.setInt(1, 1);
+      prep.setString(2, "duplicate");
+      prep.addBatch();
+      BatchUpdateException e = assertThrows(BatchUpdateException.class, prep::executeBatch);
+      assertTrue(e.getMessage().contains("Duplicate entry"));
+      assertEquals(2, e.getUpdateCounts().length);
+    }
+
+    // error in one command: rows of commands that succeeded are reported
+    try (PreparedStatement prep =
+        con.prepareStatement("INSERT INTO BatchTest(t1, t2) VALUES (?,?)")) {
+      for (int i = 400; i < 500; i++) {
+        prep.setInt(1, i == 450 ? 1 : i);
+        prep.setString(2, "t" + i);
+        prep.addBatch();
+      }
+      BatchUpdateException e = assertThrows(BatchUpdateException.class, prep::executeBatch);
+      int[] res = e.getUpdateCounts();
+      assertEquals(100, res.length);
+      assertEquals(Statement.EXECUTE_FAILED, res[50]);
+      int succeeded = 0;
+      for (int re : res) {
+        if (re == 1) {
+          succeeded++;
+        } else {
+          assertEquals(Statement.EXECUTE_FAILED, re);
+        }
+      }
+      rs = stmt.executeQuery("SELECT COUNT(*) FROM BatchTest WHERE t1 >= 400");
+      assertTrue(rs.next());
+      assertEquals(succeeded, rs.getInt(1));
+    }
+    con.rollback();
+  }
+
   @Test
   public void bulkPacketSplitMaxAllowedPacket() throws SQLException {
     Assumptions.assumeTrue(runLongTest());
@@ -609,6 +704,56 @@ public class BatchTest extends Common {
     }
   }
 
+  @Test
+  public void bulkChunkWindow() throws SQLException {
+    Assumptions.assumeTrue(isMariaDBServer());
+    for (String conf :
+        new String[] {
+          "&useServerPrepStmts&useBulkStmts&bulkChunkWindow=1&maxAllowedPacket=4096",
+          "&useServerPrepStmts=false&useBulkStmts&bulkChunkWindow=3&maxAllowedPacket=4096",
+          "&useServerPrepStmts&useBulkStmts&bulkChunkWindow=2&cachePrepStmts=false"
+              + "&maxAllowedPacket=4096"
+        }) {
+      try (Connection con = createCon(conf)) {
+        bulkChunkWindow(con);
+      }
+    }
+  }
+
+  private void bulkChunkWindow(Connection con) throws SQLException {
+    Statement stmt = con.createStatement();
+    stmt.execute("TRUNCATE BatchTest");
+    stmt.execute("START TRANSACTION"); // if MAXSCALE ensure using WRITER
+    try (PreparedStatement prep =
+        con.prepareStatement("INSERT INTO BatchTest(t1, t2) VALUES (?,?)")) {
+      for (int i = 1; i <= 5_000; i++) {
+        prep.setInt(1, i);
+        prep.setString(2, "t" + i);
+        prep.addBatch();
+      }
+      int[] res = prep.executeBatch();
+      assertEquals(5_000, res.length);
+      for (int re : res) assertTrue(re == 1 || re == Statement.SUCCESS_NO_INFO);
+
+      // error in a middle command: following commands are still read
+      for (int i = 5_001; i <= 10_000; i++) {
+        prep.setInt(1, i == 7_000 ? 1 : i);
+        prep.setString(2, "t" + i);
+        prep.addBatch();
+      }
+      BatchUpdateException e = assertThrows(BatchUpdateException.class, prep::executeBatch);
+      assertTrue(e.getMessage().contains("Duplicate entry"));
+      assertEquals(5_000, e.getUpdateCounts().length);
+    }
+    ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM BatchTest WHERE t1 <= 5000");
+    assertTrue(rs.next());
+    assertEquals(5_000, rs.getInt(1));
+    // connection is still usable
+    rs = stmt.executeQuery("SELECT 1");
+    assertTrue(rs.next());
+    con.rollback();
+  }
+
   @Test
   public void batchWithError() throws SQLException {
     try (Connection con = createCon("&useServerPrepStmts=false&useBulkStmts=false")) {
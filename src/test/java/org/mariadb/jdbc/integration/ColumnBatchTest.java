@@ -0,0 +1,131 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.*;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.Connection;
+import org.mariadb.jdbc.Statement;
+import org.mariadb.jdbc.export.ColumnBatch;
+import org.mariadb.jdbc.export.ColumnarResult;
+
+public class ColumnBatchTest extends Common {
+
+  private static final int ROWS = 1_000;
+
+  @BeforeAll
+  public static void beforeAll2() throws SQLException {
+    after2();
+    Statement stmt = sharedConn.createStatement();
+    stmt.execute(
+        "CREATE TABLE ColumnBatch(id int not null primary key, t1 tinyint, t2 tinyint unsigned,"
+            + " t3 smallint, t4 mediumint, t5 int unsigned, t6 bigint, t7 float, t8 double, t9"
+            + " decimal(10,2), t10 varchar(10))");
+    try (PreparedStatement prep =
+        sharedConn.prepareStatement(
+            "INSERT INTO ColumnBatch VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+      for (int i = 0; i < ROWS; i++) {
+        prep.setInt(1, i);
+        if (i % 10 == 0) {
+          for (int j = 2; j <= 11; j++) prep.setNull(j, Types.INTEGER);
+        } else {
+          prep.setInt(2, -(i % 128));
+          prep.setInt(3, 255 - (i % 256));
+          prep.setInt(4, -i * 10);
+          prep.setInt(5, i * 1000);
+          prep.setLong(6, 4_000_000_000L + i);
+          prep.setLong(7, -9_000_000_000_000L * i);
+          prep.setFloat(8, i + 0.5f);
+          prep.setDouble(9, i * 1.25);
+          prep.setString(10, i + ".75");
+          prep.setString(11, String.valueOf(i));
+        }
+        prep.addBatch();
+      }
+      prep.executeBatch();
+    }
+  }
+
+  @AfterAll
+  public static void after2() throws SQLException {
+    sharedConn.createStatement().execute("DROP TABLE IF EXISTS ColumnBatch");
+  }
+
+  @Test
+  public void textProtocol() throws SQLException {
+    try (Connection con = createCon("useServerPrepStmts=false")) {
+      check(con);
+    }
+  }
+
+  @Test
+  public void binaryProtocol() throws SQLException {
+    try (Connection con = createCon("useServerPrepStmts")) {
+      check(con);
+    }
+  }
+
+  private void check(Connection con) throws SQLException {
+    try (PreparedStatement prep =
+        con.prepareStatement("SELECT * FROM ColumnBatch WHERE id >= ? ORDER BY id")) {
+      prep.setInt(1, 0);
+      ResultSet rs = prep.executeQuery();
+      ColumnarResult columnar = rs.unwrap(ColumnarResult.class);
+      ColumnBatch batch =
+          new ColumnBatch(300)
+              .addLong(1)
+              .addLong(2)
+              .addLong(3)
+              .addLong(4)
+              .addLong(5)
+              .addLong(6)
+              .addLong(7)
+              .addDouble(8)
+              .addDouble(9)
+              .addDouble(10)
+              .addLong(11);
+      int offset = 0;
+      int rows;
+      while ((rows = columnar.fetchColumns(1_000, batch)) > 0) {
+        assertEquals(rows, batch.size());
+        assertTrue(rows <= 300);
+        for (int row = 0; row < rows; row++) {
+          int i = offset + row;
+          assertEquals(i, batch.longs(0)[row]);
+          assertFalse(batch.isNull(0, row));
+          if (i % 10 == 0) {
+            for (int col = 1; col < batch.columnCount(); col++) {
+              assertTrue(batch.isNull(col, row));
+            }
+            continue;
+          }
+          assertFalse(batch.isNull(1, row));
+          assertEquals(-(i % 128), batch.longs(1)[row]);
+          assertEquals(255 - (i % 256), batch.longs(2)[row]);
+          assertEquals(-i * 10, batch.longs(3)[row]);
+          assertEquals(i * 1000, batch.longs(4)[row]);
+          assertEquals(4_000_000_000L + i, batch.longs(5)[row]);
+          assertEquals(-9_000_000_000_000L * i, batch.longs(6)[row]);
+          assertEquals(i + 0.5f, batch.doubles(7)[row], 0.01);
+          assertEquals(i * 1.25, batch.doubles(8)[row], 0.0001);
+          assertEquals(i + 0.75, batch.doubles(9)[row], 0.0001);
+          assertEquals(i, batch.longs(10)[row]);
+        }
+        offset += rows;
+        // cursor is on last row read
+        assertEquals(offset - 1, rs.getInt(1));
+      }
+      assertEquals(ROWS, offset);
+      assertEquals(0, batch.size());
+
+      // wrong column index
+      ColumnarResult rs2 = prep.executeQuery().unwrap(ColumnarResult.class);
+      assertThrows(SQLException.class, () -> rs2.fetchColumns(10, new ColumnBatch(10).addLong(12)));
+    }
+  }
+}
@@ -0,0 +1,135 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.*;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.Connection;
+import org.mariadb.jdbc.Statement;
+
+public class CompactRowStorageTest extends Common {
+
+  @BeforeAll
+  public static void beforeAll2() throws SQLException {
+    after2();
+    Statement stmt = sharedConn.createStatement();
+    stmt.execute("CREATE TABLE CompactRowStorage(id int not null primary key, t mediumtext)");
+    try (PreparedStatement prep =
+        sharedConn.prepareStatement("INSERT INTO CompactRowStorage VALUES (?, ?)")) {
+      for (int i = 0; i < 20_000; i++) {
+        prep.setInt(1, i);
+        // some rows bigger than chunk size
+        prep.setString(2, i % 5_000 == 1 ? repeat(i, 2_000_000) : i % 7 == 0 ? null : "t" + i);
+        prep.addBatch();
+      }
+      prep.executeBatch();
+    }
+  }
+
+  @AfterAll
+  public static void after2() throws SQLException {
+    sharedConn.createStatement().execute("DROP TABLE IF EXISTS CompactRowStorage");
+  }
+
+  private static String repeat(int i, int length) {
+    StringBuilder sb = new StringBuilder(length);
+    while (sb.length() < length) sb.append(i);
+    return sb.toString();
+  }
+
+  private static String expected(int i) {
+    return i % 5_000 == 1 ? repeat(i, 2_000_000) : i % 7 == 0 ? null : "t" + i;
+  }
+
+  @Test
+  public void textProtocol() throws SQLException {
+    try (Connection con = createCon("useCompactRowStorage&useServerPrepStmts=false")) {
+      check(con);
+    }
+  }
+
+  @Test
+  public void binaryProtocol() throws SQLException {
+    try (Connection con = createCon("useCompactRowStorage&useServerPrepStmts")) {
+      check(con);
+    }
+  }
+
+  @Test
+  public void rowBiggerThanPacket() throws SQLException {
+    Assumptions.assumeTrue(getMaxAllowedPacket() > 19 * 1024 * 1024);
+    for (String option : new String[] {"useServerPrepStmts=false", "useServerPrepStmts"}) {
+      try (Connection con = createCon("useCompactRowStorage&" + option)) {
+        try (PreparedStatement prep =
+            con.prepareStatement(
+                "SELECT ?, REPEAT('a', 17 * 1024 * 1024) UNION ALL SELECT ?, 'b'",
+                ResultSet.TYPE_SCROLL_INSENSITIVE,
+                ResultSet.CONCUR_READ_ONLY)) {
+          prep.setInt(1, 1);
+          prep.setInt(2, 2);
+          ResultSet rs = prep.executeQuery();
+          assertTrue(rs.next());
+          assertEquals(1, rs.getInt(1));
+          assertEquals(17 * 1024 * 1024, rs.getString(2).length());
+          assertTrue(rs.next());
+          assertEquals(2, rs.getInt(1));
+          assertEquals("b", rs.getString(2));
+          assertFalse(rs.next());
+          assertTrue(rs.first());
+          assertEquals(17 * 1024 * 1024, rs.getString(2).length());
+        }
+      }
+    }
+  }
+
+  private void check(Connection con) throws SQLException {
+    try (PreparedStatement prep =
+        con.prepareStatement(
+            "SELECT * FROM CompactRowStorage WHERE id >= ? ORDER BY id",
+            ResultSet.TYPE_SCROLL_INSENSITIVE,
+            ResultSet.CONCUR_READ_ONLY)) {
+      prep.setInt(1, 0);
+      ResultSet rs = prep.executeQuery();
+      for (int i = 0; i < 20_000; i++) {
+        assertTrue(rs.next());
+        assertEquals(i, rs.getInt(1));
+        assertEquals(expected(i), rs.getString(2));
+      }
+      assertFalse(rs.next());
+
+      assertTrue(rs.absolute(5_002));
+      assertEquals(5_001, rs.getInt(1));
+      assertEquals(expected(5_001), rs.getString(2));
+      assertTrue(rs.previous());
+      assertEquals(5_000, rs.getInt("id"));
+      assertNull(rs.getString("t"));
+      assertTrue(rs.last());
+      assertEquals(19_999, rs.getInt(1));
+      assertTrue(rs.first());
+      assertEquals(0, rs.getInt(1));
+      assertTrue(rs.relative(10));
+      assertEquals(10, rs.getInt(1));
+      assertEquals("t10", rs.getString(2));
+
+      prep.setMaxRows(10);
+      rs = prep.executeQuery();
+      int count = 0;
+      while (rs.next()) count++;
+      assertEquals(10, count);
+    }
+
+    // updatable result-set keeps standard storage
+    try (java.sql.Statement stmt =
+        con.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_UPDATABLE)) {
+      ResultSet rs = stmt.executeQuery("SELECT * FROM CompactRowStorage WHERE id < 3");
+      assertTrue(rs.next());
+      assertEquals(0, rs.getInt(1));
+    }
+  }
+}
@@ -925,6 +925,29 @@ public class ConnectionTest extends Common {
     }
   }
 
+  @Test
+  public void testSocketChannelConnection() throws Exception {
+    try (Connection connection = createCon("useSocketChannel")) {
+      Statement stmt = connection.createStatement();
+      ResultSet rs = stmt.executeQuery("SELECT * FROM sequence_1_to_10000");
+      int i = 0;
+      while (rs.next()) i++;
+      assertEquals(10000, i);
+
+      rs = stmt.executeQuery("SELECT REPEAT('a', 1000000)");
+      assertTrue(rs.next());
+      assertEquals(1000000, rs.getString(1).length());
+
+      PreparedStatement prep = connection.prepareStatement("SELECT ?");
+      char[] chars = new char[500_000];
+      Arrays.fill(chars, 'b');
+      prep.setString(1, new String(chars));
+      rs = prep.executeQuery();
+      assertTrue(rs.next());
+      assertEquals(new String(chars), rs.getString(1));
+    }
+  }
+
   @Test
   public void useNoDatabase() throws SQLException {
     try (Connection con = createCon()) {
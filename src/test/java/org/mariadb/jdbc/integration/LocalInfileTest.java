@@ -7,7 +7,11 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.io.*;
 import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.Locale;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.*;
 
 @SuppressWarnings("ResultOfMethodCallIgnored")
@@ -20,6 +24,7 @@ public class LocalInfileTest extends Common {
     stmt.execute("CREATE TABLE LocalInfileInputStreamTest(id int, test varchar(100))");
     stmt.execute("CREATE TABLE LocalInfileInputStreamTest2(id int, test varchar(100))");
     stmt.execute("CREATE TABLE ttlocal(id int, test varchar(100))");
+    stmt.execute("CREATE TABLE bulkLoadTest(id int, t varchar(100), d datetime(6))");
     stmt.execute("CREATE TABLE ldinfile(a varchar(10))");
     stmt.execute(
         "CREATE TABLE `infile`(`a` varchar(50) DEFAULT NULL, `b` varchar(50) DEFAULT NULL)"
@@ -40,6 +45,7 @@ public class LocalInfileTest extends Common {
     stmt.execute("DROP TABLE IF EXISTS LocalInfileInputStreamTest");
     stmt.execute("DROP TABLE IF EXISTS LocalInfileInputStreamTest2");
     stmt.execute("DROP TABLE IF EXISTS ttlocal");
+    stmt.execute("DROP TABLE IF EXISTS bulkLoadTest");
     stmt.execute("DROP TABLE IF EXISTS ldinfile");
     stmt.execute("DROP TABLE IF EXISTS `infile`");
     stmt.execute("DROP TABLE IF EXISTS big_load_data_infile");
@@ -55,6 +61,73 @@ public class LocalInfileTest extends Common {
     return false;
   }
 
+  @Test
+  public void bulkLoad() throws SQLException {
+    Assumptions.assumeTrue(checkLocal());
+    Assumptions.assumeFalse((!isMariaDBServer() && minVersion(8, 0, 3)));
+    LocalDateTime date = LocalDateTime.of(2025, 1, 2, 3, 4, 5, 6000);
+    Iterator<Object[]> rows =
+        IntStream.range(0, 10_000)
+            .mapToObj(i -> new Object[] {i, i == 5 ? null : "v\t\n" + i, date})
+            .iterator();
+    try (org.mariadb.jdbc.Connection con = createCon()) {
+      assertEquals(10_000, con.bulkLoad("bulkLoadTest", new String[] {"id", "t", "d"}, rows));
+      ResultSet rs = con.createStatement().executeQuery("SELECT * FROM bulkLoadTest ORDER BY id");
+      for (int i = 0; i < 10_000; i++) {
+        assertTrue(rs.next());
+        assertEquals(i, rs.getInt(1));
+        assertEquals(i == 5 ? null : "v\t\n" + i, rs.getString(2));
+        assertEquals(date, rs.getObject(3, LocalDateTime.class));
+      }
+      assertFalse(rs.next());
+    }
+
+    try (org.mariadb.jdbc.Connection con = createCon("allowLocalInfile=false")) {
+      SQLException e =
+          assertThrows(
+              SQLException.class,
+              () ->
+                  con.bulkLoad(
+                      "bulkLoadTest",
+                      new String[] {"id"},
+                      Collections.<Object[]>emptyList().iterator()));
+      assertTrue(e.getMessage().contains("allowLocalInfile"));
+    }
+  }
+
+  @Test
+  public void bulkLoadIdentifiers() throws SQLException {
+    Assumptions.assumeTrue(checkLocal());
+    Assumptions.assumeFalse((!isMariaDBServer() && minVersion(8, 0, 3)));
+    try (org.mariadb.jdbc.Connection con = createCon()) {
+      con.setAutoCommit(false);
+      Iterator<Object[]> rows = Collections.singletonList(new Object[] {1}).iterator();
+      assertEquals(1, con.bulkLoad(database + ".bulkLoadTest", new String[] {"id"}, rows));
+      rows = Collections.singletonList(new Object[] {2}).iterator();
+      assertEquals(1, con.bulkLoad("`bulkLoadTest`", new String[] {"id"}, rows));
+
+      // table name is quoted
+      SQLException e =
+          assertThrows(
+              SQLException.class,
+              () ->
+                  con.bulkLoad(
+                      "bulkLoadTest; DROP TABLE bulkLoadTest",
+                      new String[] {"id"},
+                      Collections.<Object[]>emptyList().iterator()));
+      assertTrue(e.getMessage().contains("doesn't exist"), e.getMessage());
+
+      e =
+          assertThrows(
+              SQLException.class,
+              () ->
+                  con.bulkLoad(
+                      "bulkLoadTest", new String[0], Collections.<Object[]>emptyList().iterator()));
+      assertTrue(e.getMessage().contains("at least one column"));
+      con.rollback();
+    }
+  }
+
   @Test
   public void smallLoadDataInfileTest() throws SQLException, IOException {
     Assumptions.assumeFalse((!isMariaDBServer() && minVersion(8, 0, 3)));
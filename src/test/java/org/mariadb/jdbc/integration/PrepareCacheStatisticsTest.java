@@ -0,0 +1,56 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.*;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.Connection;
+import org.mariadb.jdbc.client.PrepareCache;
+
+public class PrepareCacheStatisticsTest extends Common {
+
+  @Test
+  public void statistics() throws SQLException {
+    try (Connection con = createCon("useServerPrepStmts&prepStmtCacheSize=2")) {
+      PrepareCache cache = con.getContext().getPrepareCache();
+      assertNotNull(cache);
+      for (int round = 0; round < 3; round++) {
+        for (int i = 0; i < 2; i++) {
+          try (PreparedStatement prep = con.prepareStatement("SELECT ? + " + i)) {
+            prep.setInt(1, round);
+            ResultSet rs = prep.executeQuery();
+            assertTrue(rs.next());
+            assertEquals(round + i, rs.getInt(1));
+          }
+        }
+      }
+      assertEquals(2, cache.size());
+      assertEquals(0, cache.getStatistics().getEvictionCount());
+      long hits = cache.getStatistics().getHitCount();
+      assertTrue(hits >= 4, "hits: " + hits);
+
+      // a third command evicts least recently used one
+      try (PreparedStatement prep = con.prepareStatement("SELECT ? + 10")) {
+        prep.setInt(1, 1);
+        prep.execute();
+      }
+      assertEquals(2, cache.size());
+      assertEquals(1, cache.getStatistics().getEvictionCount());
+
+      // evicted command is prepared again, still working
+      try (PreparedStatement prep = con.prepareStatement("SELECT ? + 0")) {
+        prep.setInt(1, 5);
+        ResultSet rs = prep.executeQuery();
+        assertTrue(rs.next());
+        assertEquals(5, rs.getInt(1));
+      }
+    }
+
+    try (Connection con = createCon("useServerPrepStmts&cachePrepStmts=false")) {
+      assertNull(con.getContext().getPrepareCache());
+    }
+  }
+}
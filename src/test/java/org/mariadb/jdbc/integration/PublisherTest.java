@@ -0,0 +1,166 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.BasePreparedStatement;
+import org.mariadb.jdbc.Statement;
+import org.mariadb.jdbc.export.RowPublisher;
+
+public class PublisherTest extends Common {
+
+  @Test
+  public void requestDrivesFetch() throws SQLException {
+    Assumptions.assumeTrue(isMariaDBServer());
+    Statement stmt = sharedConn.createStatement();
+    RowPublisher<Integer> publisher =
+        stmt.executeQueryPublisher("SELECT * FROM seq_1_to_1000", rs -> rs.getInt(1));
+    TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+    publisher.subscribe(subscriber);
+    assertTrue(subscriber.items.isEmpty());
+
+    subscriber.subscription.request(10);
+    assertEquals(10, subscriber.items.size());
+    assertEquals(1, subscriber.items.get(0));
+    assertEquals(10, subscriber.items.get(9));
+    assertFalse(subscriber.completed);
+
+    subscriber.subscription.request(Long.MAX_VALUE);
+    assertEquals(1000, subscriber.items.size());
+    assertEquals(1000, subscriber.items.get(999));
+    assertTrue(subscriber.completed);
+    assertNull(subscriber.error);
+
+    // statement fetch size is not changed
+    assertEquals(0, stmt.getFetchSize());
+  }
+
+  @Test
+  public void cancel() throws SQLException {
+    Assumptions.assumeTrue(isMariaDBServer());
+    Statement stmt = sharedConn.createStatement();
+    TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+    stmt.executeQueryPublisher("SELECT * FROM seq_1_to_10000", rs -> rs.getInt(1))
+        .subscribe(subscriber);
+    subscriber.subscription.request(5);
+    subscriber.subscription.cancel();
+    subscriber.subscription.request(5);
+    assertEquals(5, subscriber.items.size());
+    assertFalse(subscriber.completed);
+
+    // connection is usable
+    ResultSet rs = stmt.executeQuery("SELECT 5");
+    assertTrue(rs.next());
+    assertEquals(5, rs.getInt(1));
+  }
+
+  @Test
+  public void errors() throws SQLException {
+    Statement stmt = sharedConn.createStatement();
+    TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+    RowPublisher<Integer> publisher =
+        stmt.executeQueryPublisher("SELECT * FROM wrongTable", rs -> rs.getInt(1));
+    publisher.subscribe(subscriber);
+    subscriber.subscription.request(1);
+    assertTrue(subscriber.error instanceof SQLSyntaxErrorException);
+
+    // only one subscriber
+    TestSubscriber<Integer> second = new TestSubscriber<>();
+    publisher.subscribe(second);
+    assertTrue(second.error instanceof IllegalStateException);
+
+    TestSubscriber<Integer> invalid = new TestSubscriber<>();
+    stmt.executeQueryPublisher("SELECT 1", rs -> rs.getInt(1)).subscribe(invalid);
+    invalid.subscription.request(0);
+    assertTrue(invalid.error instanceof IllegalArgumentException);
+  }
+
+  @Test
+  public void preparedStatementPublisher() throws SQLException {
+    Assumptions.assumeTrue(isMariaDBServer());
+    try (PreparedStatement prep =
+        sharedConn.prepareStatement("SELECT * FROM seq_1_to_100 WHERE seq > ?")) {
+      prep.setInt(1, 50);
+      TestSubscriber<String> subscriber = new TestSubscriber<>();
+      ((BasePreparedStatement) prep)
+          .executeQueryPublisher(rs -> rs.getString(1))
+          .subscribe(subscriber);
+      subscriber.subscription.request(100);
+      assertEquals(50, subscriber.items.size());
+      assertEquals("51", subscriber.items.get(0));
+      assertTrue(subscriber.completed);
+    }
+  }
+
+  @Test
+  public void requestFromOnNext() throws SQLException {
+    Assumptions.assumeTrue(isMariaDBServer());
+    List<Integer> items = new ArrayList<>();
+    boolean[] completed = new boolean[1];
+    sharedConn
+        .createStatement()
+        .executeQueryPublisher("SELECT * FROM seq_1_to_100", rs -> rs.getInt(1))
+        .subscribe(
+            new RowPublisher.Subscriber<Integer>() {
+              private RowPublisher.Subscription subscription;
+
+              @Override
+              public void onSubscribe(RowPublisher.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+              }
+
+              @Override
+              public void onNext(Integer item) {
+                items.add(item);
+                subscription.request(1);
+              }
+
+              @Override
+              public void onError(Throwable throwable) {
+                fail(throwable);
+              }
+
+              @Override
+              public void onComplete() {
+                completed[0] = true;
+              }
+            });
+    assertEquals(100, items.size());
+    assertTrue(completed[0]);
+  }
+
+  private static class TestSubscriber<T> implements RowPublisher.Subscriber<T> {
+    private final List<T> items = new ArrayList<>();
+    private RowPublisher.Subscription subscription;
+    private Throwable error;
+    private boolean completed;
+
+    @Override
+    public void onSubscribe(RowPublisher.Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(T item) {
+      items.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      error = throwable;
+    }
+
+    @Override
+    public void onComplete() {
+      completed = true;
+    }
+  }
+}
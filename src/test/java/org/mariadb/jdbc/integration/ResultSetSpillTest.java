@@ -0,0 +1,142 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.*;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.Connection;
+import org.mariadb.jdbc.Statement;
+
+public class ResultSetSpillTest extends Common {
+
+  @BeforeAll
+  public static void beforeAll2() throws SQLException {
+    after2();
+    Statement stmt = sharedConn.createStatement();
+    stmt.execute("CREATE TABLE ResultSetSpill(id int not null primary key, t mediumtext, b blob)");
+    try (PreparedStatement prep =
+        sharedConn.prepareStatement("INSERT INTO ResultSetSpill VALUES (?, ?, ?)")) {
+      for (int i = 0; i < 20_000; i++) {
+        prep.setInt(1, i);
+        prep.setString(2, expected(i));
+        prep.setBytes(3, new byte[] {(byte) i, (byte) (i >> 8)});
+        prep.addBatch();
+      }
+      prep.executeBatch();
+    }
+  }
+
+  @AfterAll
+  public static void after2() throws SQLException {
+    sharedConn.createStatement().execute("DROP TABLE IF EXISTS ResultSetSpill");
+  }
+
+  private static String expected(int i) {
+    if (i % 7 == 0) return null;
+    if (i % 5_000 == 1) {
+      StringBuilder sb = new StringBuilder(200_000);
+      while (sb.length() < 200_000) sb.append(i);
+      return sb.toString();
+    }
+    return "t" + i;
+  }
+
+  @Test
+  public void textProtocol() throws SQLException {
+    try (Connection con = createCon("resultSetSpillThreshold=100000&useServerPrepStmts=false")) {
+      check(con);
+    }
+  }
+
+  @Test
+  public void binaryProtocol() throws SQLException {
+    try (Connection con = createCon("resultSetSpillThreshold=100000&useServerPrepStmts")) {
+      check(con);
+    }
+  }
+
+  @Test
+  public void compactStorage() throws SQLException {
+    try (Connection con = createCon("resultSetSpillThreshold=100000&useCompactRowStorage")) {
+      check(con);
+    }
+  }
+
+  @Test
+  public void updatableResult() throws SQLException {
+    // refresh results have their first row spilled
+    try (Connection con = createCon("resultSetSpillThreshold=1")) {
+      con.setAutoCommit(false);
+      try (java.sql.Statement stmt =
+          con.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_UPDATABLE)) {
+        ResultSet rs = stmt.executeQuery("SELECT * FROM ResultSetSpill WHERE id < 3 ORDER BY id");
+        assertTrue(rs.next());
+        rs.updateString(2, "changed");
+        rs.updateRow();
+        assertEquals(0, rs.getInt(1));
+        assertEquals("changed", rs.getString(2));
+
+        rs.moveToInsertRow();
+        rs.updateInt(1, 30_000);
+        rs.updateString(2, "inserted");
+        rs.updateBytes(3, new byte[] {1, 2});
+        rs.insertRow();
+        rs.moveToCurrentRow();
+        assertTrue(rs.last());
+        assertEquals(30_000, rs.getInt(1));
+        assertEquals("inserted", rs.getString(2));
+        assertArrayEquals(new byte[] {1, 2}, rs.getBytes(3));
+      }
+      con.rollback();
+    }
+  }
+
+  private void check(Connection con) throws SQLException {
+    try (PreparedStatement prep =
+        con.prepareStatement(
+            "SELECT * FROM ResultSetSpill WHERE id >= ? ORDER BY id",
+            ResultSet.TYPE_SCROLL_INSENSITIVE,
+            ResultSet.CONCUR_READ_ONLY)) {
+      prep.setInt(1, 0);
+      ResultSet rs = prep.executeQuery();
+      Blob first = null;
+      for (int i = 0; i < 20_000; i++) {
+        assertTrue(rs.next());
+        assertEquals(i, rs.getInt(1));
+        assertEquals(expected(i), rs.getString(2));
+        if (i == 15_000) first = rs.getBlob(3);
+      }
+      assertFalse(rs.next());
+      // blob of a spilled row stays valid after moving to other rows
+      assertArrayEquals(new byte[] {(byte) 15_000, (byte) (15_000 >> 8)}, first.getBytes(1, 2));
+
+      assertTrue(rs.absolute(15_002));
+      assertEquals(15_001, rs.getInt(1));
+      assertEquals(expected(15_001), rs.getString(2));
+      assertTrue(rs.previous());
+      assertEquals(15_000, rs.getInt("id"));
+      assertTrue(rs.last());
+      assertEquals(19_999, rs.getInt(1));
+      assertTrue(rs.first());
+      assertEquals(0, rs.getInt(1));
+      assertTrue(rs.relative(10_000));
+      assertEquals(10_000, rs.getInt(1));
+      assertTrue(rs.absolute(-1));
+      assertEquals(19_999, rs.getInt(1));
+      rs.close();
+      assertTrue(rs.isClosed());
+    }
+
+    // small result-set stays in memory
+    try (java.sql.Statement stmt = con.createStatement()) {
+      ResultSet rs = stmt.executeQuery("SELECT * FROM ResultSetSpill WHERE id < 3 ORDER BY id");
+      assertTrue(rs.next());
+      assertEquals(0, rs.getInt(1));
+    }
+  }
+}
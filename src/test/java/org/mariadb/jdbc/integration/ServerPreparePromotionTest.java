@@ -0,0 +1,93 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.*;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.ClientPreparedStatement;
+import org.mariadb.jdbc.Connection;
+import org.mariadb.jdbc.ServerPreparedStatement;
+import org.mariadb.jdbc.client.PrepareCache;
+import org.mariadb.jdbc.client.util.ServerPrepareMetrics;
+
+public class ServerPreparePromotionTest extends Common {
+
+  @Test
+  public void promotion() throws SQLException {
+    ServerPrepareMetrics metrics = ServerPrepareMetrics.getInstance();
+    long promotedPrepares = metrics.getPromotedPrepareCount();
+    try (Connection con = createCon("useServerPrepStmts=false&serverPrepareThreshold=3")) {
+      for (int i = 0; i < 5; i++) {
+        try (PreparedStatement prep = con.prepareStatement("SELECT ? + 1")) {
+          if (i < 3) {
+            assertTrue(prep instanceof ClientPreparedStatement);
+          } else {
+            assertTrue(prep instanceof ServerPreparedStatement);
+          }
+          prep.setInt(1, i);
+          ResultSet rs = prep.executeQuery();
+          assertTrue(rs.next());
+          assertEquals(i + 1, rs.getInt(1));
+        }
+      }
+      assertEquals(promotedPrepares + 2, metrics.getPromotedPrepareCount());
+
+      // one-off command stays client side
+      try (PreparedStatement prep = con.prepareStatement("SELECT ? + 2")) {
+        assertTrue(prep instanceof ClientPreparedStatement);
+      }
+    }
+
+    // disabled by default
+    try (Connection con = createCon("useServerPrepStmts=false")) {
+      for (int i = 0; i < 5; i++) {
+        try (PreparedStatement prep = con.prepareStatement("SELECT ? + 1")) {
+          assertTrue(prep instanceof ClientPreparedStatement);
+          prep.setInt(1, i);
+          prep.execute();
+        }
+      }
+    }
+  }
+
+  @Test
+  public void promotedPrepareCached() throws SQLException {
+    try (Connection con = createCon("useServerPrepStmts=false&serverPrepareThreshold=2")) {
+      PrepareCache cache = con.getContext().getPrepareCache();
+      assertNotNull(cache);
+      long hits = cache.getStatistics().getHitCount();
+      for (int i = 0; i < 6; i++) {
+        try (PreparedStatement prep = con.prepareStatement("SELECT ? + 3")) {
+          prep.setInt(1, i);
+          ResultSet rs = prep.executeQuery();
+          assertTrue(rs.next());
+          assertEquals(i + 3, rs.getInt(1));
+        }
+      }
+      // prepared once, then each promoted statement reuses cached prepare
+      assertEquals(1, cache.size());
+      assertTrue(cache.getStatistics().getHitCount() >= hits + 3);
+    }
+  }
+
+  @Test
+  public void failedPromotion() throws SQLException {
+    ServerPrepareMetrics metrics = ServerPrepareMetrics.getInstance();
+    long failed = metrics.getFailedPromotionCount();
+    try (Connection con =
+        createCon("useServerPrepStmts=false&serverPrepareThreshold=2&allowMultiQueries")) {
+      // multiple commands cannot be prepared server side: command stays client side
+      for (int i = 0; i < 4; i++) {
+        try (PreparedStatement prep = con.prepareStatement("SELECT ?; SELECT 2")) {
+          assertTrue(prep instanceof ClientPreparedStatement);
+          prep.setInt(1, i);
+          prep.execute();
+        }
+      }
+    }
+    assertEquals(failed + 1, metrics.getFailedPromotionCount());
+  }
+}
@@ -0,0 +1,55 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.*;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.Configuration;
+import org.mariadb.jdbc.Connection;
+import org.mariadb.jdbc.pool.MariaDbInnerPoolConnection;
+import org.mariadb.jdbc.pool.Pool;
+import org.mariadb.jdbc.pool.Pools;
+
+public class SqlParseCacheTest extends Common {
+
+  private static void execute(Connection con, int i) throws SQLException {
+    try (PreparedStatement prep = con.prepareStatement("SELECT ? + {fn ABS(-1)}")) {
+      prep.setInt(1, i);
+      ResultSet rs = prep.executeQuery();
+      assertTrue(rs.next());
+      assertEquals(i + 1, rs.getInt(1));
+    }
+  }
+
+  @Test
+  public void sharedBetweenPoolConnections() throws SQLException {
+    try (Pool pool =
+        Pools.retrievePool(Configuration.parse(mDefUrl + "&maxPoolSize=2&sqlParseCacheSize=50"))) {
+      MariaDbInnerPoolConnection first = pool.getPoolConnection();
+      MariaDbInnerPoolConnection second = pool.getPoolConnection();
+      assertNotSame(first.getConnection(), second.getConnection());
+      execute(first.getConnection(), 0);
+      execute(second.getConnection(), 1);
+      first.close();
+      second.close();
+
+      // first connection parses escape sequence and parameters, second one uses cache
+      assertEquals(2, pool.getSqlParseCacheMisses());
+      assertEquals(2, pool.getSqlParseCacheHits());
+    }
+  }
+
+  @Test
+  public void standaloneConnection() throws SQLException {
+    for (int i = 0; i < 2; i++) {
+      try (Connection con = createCon("sqlParseCacheSize=50")) {
+        // each standalone connection has its own cache
+        execute(con, i);
+        execute(con, i);
+      }
+    }
+  }
+}
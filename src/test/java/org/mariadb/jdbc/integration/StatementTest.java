@@ -1097,6 +1097,64 @@ public class StatementTest extends Common {
     }
   }
 
+  @Test
+  public void executeBatchMultiQuery() throws SQLException {
+    try (Connection con =
+        createCon("allowMultiQueries&rewriteBatchedStatements&maxAllowedPacket=1024")) {
+      Statement stmt = con.createStatement();
+      stmt.execute("DROP TABLE IF EXISTS executeBatchMultiQuery");
+      stmt.execute("CREATE TABLE executeBatchMultiQuery (t1 int not null primary key, t2 int)");
+      stmt.execute("DROP PROCEDURE IF EXISTS executeBatchMultiQueryProc");
+      stmt.execute("CREATE PROCEDURE executeBatchMultiQueryProc() BEGIN SELECT 1; END");
+      stmt.execute("START TRANSACTION"); // if MAXSCALE ensure using WRITER
+
+      for (int i = 0; i < 100; i++) {
+        stmt.addBatch("INSERT INTO executeBatchMultiQuery VALUES (" + i + ", 0) -- comment");
+      }
+      stmt.addBatch("UPDATE executeBatchMultiQuery SET t2 = 1 WHERE t1 < 10;");
+      stmt.addBatch("DO 1; DELETE FROM executeBatchMultiQuery WHERE t1 = 99");
+      stmt.addBatch("DELETE FROM executeBatchMultiQuery WHERE t1 = 98");
+      int[] ret = stmt.executeBatch();
+      assertEquals(103, ret.length);
+      for (int i = 0; i < 100; i++) assertEquals(1, ret[i]);
+      assertEquals(10, ret[100]);
+      assertEquals(Statement.SUCCESS_NO_INFO, ret[101]);
+      assertEquals(1, ret[102]);
+
+      ResultSet rs = stmt.executeQuery("SELECT COUNT(*), SUM(t2) FROM executeBatchMultiQuery");
+      assertTrue(rs.next());
+      assertEquals(98, rs.getInt(1));
+      assertEquals(10, rs.getInt(2));
+
+      // error: following queries of the failing command are not executed, next commands are
+      for (int i = 0; i < 100; i++) {
+        stmt.addBatch(
+            "INSERT INTO executeBatchMultiQuery VALUES (" + (i == 20 ? 1 : 200 + i) + ", 0)");
+      }
+      BatchUpdateException e = assertThrows(BatchUpdateException.class, stmt::executeBatch);
+      assertTrue(e.getMessage().contains("Duplicate entry"));
+      assertTrue(e.getMessage().contains("VALUES (1, 0)"));
+      long[] counts = e.getLargeUpdateCounts();
+      assertEquals(100, counts.length);
+      for (int i = 0; i < 20; i++) assertEquals(1, counts[i]);
+      assertEquals(Statement.EXECUTE_FAILED, counts[20]);
+      assertEquals(1, counts[99]);
+      int executed = 0;
+      for (long count : counts) if (count == 1) executed++;
+      rs = stmt.executeQuery("SELECT COUNT(*) FROM executeBatchMultiQuery WHERE t1 >= 200");
+      assertTrue(rs.next());
+      assertEquals(executed, rs.getInt(1));
+
+      // CALL behind a comment returns multiple results
+      stmt.addBatch("/* comment */ CALL executeBatchMultiQueryProc()");
+      stmt.addBatch("DELETE FROM executeBatchMultiQuery WHERE t1 < 5");
+      stmt.addBatch("DELETE FROM executeBatchMultiQuery WHERE t1 < 10");
+      assertArrayEquals(new long[] {Statement.SUCCESS_NO_INFO, 5, 5}, stmt.executeLargeBatch());
+      con.rollback();
+      stmt.execute("DROP PROCEDURE executeBatchMultiQueryProc");
+    }
+  }
+
   @Test
   public void executeLargeBatchBasic() throws SQLException {
     executeLargeBatchBasic(sharedConn);
@@ -0,0 +1,97 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.sql.*;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.Connection;
+import org.mariadb.jdbc.Statement;
+import org.mariadb.jdbc.client.result.StreamingFetchMetrics;
+
+public class StreamingMemoryBudgetTest extends Common {
+
+  @BeforeAll
+  public static void beforeAll2() throws SQLException {
+    after2();
+    Statement stmt = sharedConn.createStatement();
+    stmt.execute("CREATE TABLE StreamingMemoryBudget(id int not null primary key, t mediumtext)");
+    try (PreparedStatement prep =
+        sharedConn.prepareStatement("INSERT INTO StreamingMemoryBudget VALUES (?, ?)")) {
+      for (int i = 0; i < 5_000; i++) {
+        prep.setInt(1, i);
+        // narrow rows, then wide rows
+        prep.setString(2, i < 4_000 ? "t" + i : repeat('a', 50_000));
+        prep.addBatch();
+      }
+      prep.executeBatch();
+    }
+  }
+
+  @AfterAll
+  public static void after2() throws SQLException {
+    sharedConn.createStatement().execute("DROP TABLE IF EXISTS StreamingMemoryBudget");
+  }
+
+  private static String repeat(char c, int length) {
+    StringBuilder sb = new StringBuilder(length);
+    while (sb.length() < length) sb.append(c);
+    return sb.toString();
+  }
+
+  @Test
+  public void budget() throws SQLException {
+    try (Connection con = createCon("streamingMemoryBudget=1000000")) {
+      check(con, 0);
+    }
+    try (Connection con = createCon("streamingMemoryBudget=1000000&streamingPrefetch")) {
+      check(con, 0);
+    }
+  }
+
+  @Test
+  public void budgetWithMaxRows() throws SQLException {
+    try (Connection con = createCon("streamingMemoryBudget=100000")) {
+      check(con, 4_500);
+    }
+  }
+
+  private void check(Connection con, int maxRows) throws SQLException {
+    StreamingFetchMetrics metrics = StreamingFetchMetrics.getInstance();
+    long batches = metrics.getBatchCount();
+    Statement stmt = con.createStatement();
+    stmt.setFetchSize(10);
+    stmt.setMaxRows(maxRows);
+    ResultSet rs = stmt.executeQuery("SELECT * FROM StreamingMemoryBudget ORDER BY id");
+    int expectedRows = maxRows == 0 ? 5_000 : maxRows;
+    for (int i = 0; i < expectedRows; i++) {
+      assertTrue(rs.next());
+      assertEquals(i, rs.getInt(1));
+      assertEquals(i < 4_000 ? "t" + i : repeat('a', 50_000), rs.getString(2));
+    }
+    assertFalse(rs.next());
+
+    // narrow rows allow batches far bigger than initial fetch size, wide rows small ones
+    assertTrue(metrics.getBatchCount() > batches);
+    assertTrue(metrics.getMaxBatchRows() > 10);
+    assertTrue(metrics.getLastComputedFetchSize() <= 20);
+    ResultSet rs2 = con.createStatement().executeQuery("SELECT 5");
+    assertTrue(rs2.next());
+  }
+
+  @Test
+  public void jmx() throws Exception {
+    StreamingFetchMetrics.registerJmx();
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName name = new ObjectName("org.mariadb.jdbc:type=StreamingFetch");
+    assertTrue(server.isRegistered(name));
+    assertTrue((Long) server.getAttribute(name, "BatchCount") >= 0);
+  }
+}
@@ -0,0 +1,134 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.*;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.Connection;
+import org.mariadb.jdbc.Statement;
+
+public class StreamingPrefetchTest extends Common {
+
+  @BeforeAll
+  public static void beforeAll2() throws SQLException {
+    after2();
+    Statement stmt = sharedConn.createStatement();
+    stmt.execute("CREATE TABLE StreamingPrefetch(id int not null primary key, t varchar(20))");
+    try (PreparedStatement prep =
+        sharedConn.prepareStatement("INSERT INTO StreamingPrefetch VALUES (?, ?)")) {
+      for (int i = 0; i < 10_000; i++) {
+        prep.setInt(1, i);
+        prep.setString(2, i % 7 == 0 ? null : "t" + i);
+        prep.addBatch();
+      }
+      prep.executeBatch();
+    }
+  }
+
+  @AfterAll
+  public static void after2() throws SQLException {
+    sharedConn.createStatement().execute("DROP TABLE IF EXISTS StreamingPrefetch");
+  }
+
+  @Test
+  public void textProtocol() throws SQLException {
+    try (Connection con = createCon("streamingPrefetch&useServerPrepStmts=false")) {
+      check(con, 1);
+      check(con, 10);
+      check(con, 999);
+    }
+  }
+
+  @Test
+  public void binaryProtocol() throws SQLException {
+    try (Connection con = createCon("streamingPrefetch&useServerPrepStmts")) {
+      check(con, 1);
+      check(con, 100);
+      check(con, 20_000);
+    }
+  }
+
+  private void check(Connection con, int fetchSize) throws SQLException {
+    try (PreparedStatement prep =
+        con.prepareStatement("SELECT * FROM StreamingPrefetch WHERE id >= ? ORDER BY id")) {
+      prep.setFetchSize(fetchSize);
+      prep.setInt(1, 0);
+      ResultSet rs = prep.executeQuery();
+      for (int i = 0; i < 10_000; i++) {
+        assertTrue(rs.next());
+        assertEquals(i, rs.getInt(1));
+        assertEquals(i % 7 == 0 ? null : "t" + i, rs.getString(2));
+      }
+      assertFalse(rs.next());
+      assertTrue(rs.isAfterLast());
+      rs.close();
+    }
+  }
+
+  @Test
+  public void otherCommandDuringStreaming() throws SQLException {
+    try (Connection con = createCon("streamingPrefetch")) {
+      Statement stmt = con.createStatement();
+      stmt.setFetchSize(10);
+      ResultSet rs = stmt.executeQuery("SELECT * FROM StreamingPrefetch ORDER BY id");
+      for (int i = 0; i < 25; i++) {
+        assertTrue(rs.next());
+        assertEquals(i, rs.getInt(1));
+      }
+
+      // remaining rows, including a prefetched batch, are loaded before executing other command
+      ResultSet rs2 = con.createStatement().executeQuery("SELECT 5");
+      assertTrue(rs2.next());
+      assertEquals(5, rs2.getInt(1));
+
+      for (int i = 25; i < 10_000; i++) {
+        assertTrue(rs.next());
+        assertEquals(i, rs.getInt(1));
+      }
+      assertFalse(rs.next());
+    }
+  }
+
+  @Test
+  public void closeWithPrefetchedBatch() throws SQLException {
+    try (Connection con = createCon("streamingPrefetch")) {
+      for (int fetchSize : new int[] {10, 9_990, 10_000, 20_000}) {
+        Statement stmt = con.createStatement();
+        stmt.setFetchSize(fetchSize);
+        ResultSet rs = stmt.executeQuery("SELECT * FROM StreamingPrefetch ORDER BY id");
+        assertTrue(rs.next());
+        rs.close();
+        ResultSet rs2 = con.createStatement().executeQuery("SELECT 6");
+        assertTrue(rs2.next());
+        assertEquals(6, rs2.getInt(1));
+      }
+    }
+  }
+
+  @Test
+  public void errorInPrefetchedBatch() throws SQLException {
+    try (Connection con = createCon("streamingPrefetch")) {
+      Statement stmt = con.createStatement();
+      stmt.setFetchSize(2);
+      ResultSet rs =
+          stmt.executeQuery(
+              "SELECT id, IF(id < 5, id, (SELECT 1 UNION SELECT 2)) FROM StreamingPrefetch ORDER"
+                  + " BY id");
+      assertThrows(
+          SQLException.class,
+          () -> {
+            while (rs.next()) {
+              rs.getInt(2);
+            }
+          });
+      ResultSet rs2 = con.createStatement().executeQuery("SELECT 7");
+      assertTrue(rs2.next());
+      assertEquals(7, rs2.getInt(1));
+    }
+  }
+}
@@ -0,0 +1,73 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.*;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.Connection;
+import org.mariadb.jdbc.Statement;
+
+public class StringDeduplicationTest extends Common {
+
+  @BeforeAll
+  public static void beforeAll2() throws SQLException {
+    after2();
+    Statement stmt = sharedConn.createStatement();
+    stmt.execute(
+        "CREATE TABLE StringDeduplication(id int not null primary key, status"
+            + " enum('active','inactive'), country varchar(20), t text)");
+    try (PreparedStatement prep =
+        sharedConn.prepareStatement("INSERT INTO StringDeduplication VALUES (?, ?, ?, 'text')")) {
+      for (int i = 1; i <= 100; i++) {
+        prep.setInt(1, i);
+        prep.setString(2, i % 2 == 0 ? "active" : "inactive");
+        prep.setString(3, i % 3 == 0 ? "FR" : "US");
+        prep.addBatch();
+      }
+      prep.executeBatch();
+    }
+  }
+
+  @AfterAll
+  public static void after2() throws SQLException {
+    sharedConn.createStatement().execute("DROP TABLE IF EXISTS StringDeduplication");
+  }
+
+  @Test
+  public void deduplicate() throws SQLException {
+    try (Connection con = createCon("deduplicateStrings")) {
+      check(con, true);
+    }
+    try (Connection con = createCon("deduplicateStrings&useServerPrepStmts")) {
+      check(con, true);
+    }
+    try (Connection con = createCon()) {
+      check(con, false);
+    }
+  }
+
+  private void check(Connection con, boolean deduplicate) throws SQLException {
+    try (PreparedStatement prep =
+        con.prepareStatement("SELECT * FROM StringDeduplication WHERE id > ? ORDER BY id")) {
+      prep.setInt(1, 0);
+      ResultSet rs = prep.executeQuery();
+      assertTrue(rs.next());
+      String inactive = rs.getString(2);
+      String country = rs.getString("country");
+      String text = rs.getString(4);
+      // row with id 5 has same values
+      for (int i = 0; i < 4; i++) assertTrue(rs.next());
+      assertEquals("inactive", rs.getString(2));
+      assertEquals("US", rs.getString(3));
+      assertEquals(deduplicate, inactive == rs.getString(2));
+      assertEquals(deduplicate, country == rs.getObject(3));
+      // long text columns are not deduplicated
+      assertNotSame(text, rs.getString(4));
+    }
+  }
+}
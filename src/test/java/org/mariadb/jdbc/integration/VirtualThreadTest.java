@@ -0,0 +1,101 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.*;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.MariaDbPoolDataSource;
+
+/**
+ * Virtual thread test mode: run many virtual threads against a bounded pool, failing if any
+ * jdk.VirtualThreadPinned event has a driver frame. Requires java 21+, thread number can be set
+ * with system property "virtualThreadNumber" (default 1000, 50000 for full run).
+ */
+public class VirtualThreadTest extends Common {
+
+  private static ThreadFactory virtualThreadFactory() {
+    try {
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      return (ThreadFactory)
+          Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+    } catch (ReflectiveOperationException e) {
+      return null;
+    }
+  }
+
+  @Test
+  public void noPinningOnBoundedPool() throws Exception {
+    ThreadFactory factory = virtualThreadFactory();
+    Assumptions.assumeTrue(factory != null, "virtual threads require java 21+");
+    int threadNumber = Integer.getInteger("virtualThreadNumber", 1000);
+
+    Path recordingFile = Files.createTempFile("pinned", ".jfr");
+    AtomicInteger success = new AtomicInteger();
+    AtomicReference<Throwable> error = new AtomicReference<>();
+    try (Recording recording = new Recording();
+        MariaDbPoolDataSource ds =
+            new MariaDbPoolDataSource(
+                mDefUrl + "&maxPoolSize=8&connectTimeout=60000&prepStmtCacheSize=4")) {
+      recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+      recording.start();
+
+      List<Thread> threads = new ArrayList<>(threadNumber);
+      for (int i = 0; i < threadNumber; i++) {
+        final int val = i;
+        Thread thread =
+            factory.newThread(
+                () -> {
+                  try (Connection con = ds.getConnection();
+                      PreparedStatement prep = con.prepareStatement("SELECT ? + " + (val % 16))) {
+                    prep.setInt(1, val);
+                    ResultSet rs = prep.executeQuery();
+                    assertTrue(rs.next());
+                    assertEquals(val + (val % 16), rs.getInt(1));
+                    success.incrementAndGet();
+                  } catch (Throwable t) {
+                    error.compareAndSet(null, t);
+                  }
+                });
+        thread.start();
+        threads.add(thread);
+      }
+      for (Thread thread : threads) {
+        thread.join();
+      }
+      recording.stop();
+      recording.dump(recordingFile);
+    }
+
+    if (error.get() != null) fail(error.get());
+    assertEquals(threadNumber, success.get());
+
+    try {
+      for (RecordedEvent event : RecordingFile.readAllEvents(recordingFile)) {
+        if (event.getStackTrace() == null) continue;
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+          if (frame.getMethod().getType().getName().startsWith("org.mariadb.jdbc.")) {
+            fail("virtual thread pinned in driver:\n" + event);
+          }
+        }
+      }
+    } finally {
+      Files.deleteIfExists(recordingFile);
+    }
+  }
+}
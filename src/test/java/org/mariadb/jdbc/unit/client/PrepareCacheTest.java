@@ -7,24 +7,63 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import org.junit.jupiter.api.Test;
 import org.mariadb.jdbc.client.impl.PrepareCache;
-import org.mariadb.jdbc.message.server.PrepareResultPacket;
+import org.mariadb.jdbc.client.impl.StandardReadableByteBuf;
+import org.mariadb.jdbc.client.util.PrepareCacheStatistics;
+import org.mariadb.jdbc.message.server.CachedPrepareResultPacket;
 
 public class PrepareCacheTest {
 
+  private static CachedPrepareResultPacket prepare(int statementId) throws Exception {
+    // COM_STMT_PREPARE_OK, no column, no parameter
+    byte[] bytes = new byte[] {0x00, (byte) statementId, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00};
+    return new CachedPrepareResultPacket(
+        new StandardReadableByteBuf(bytes, bytes.length), null, null);
+  }
+
   @Test
-  public void check() {
+  public void check() throws Exception {
     PrepareCache cache = new PrepareCache(20, null);
-    try {
-      cache.get("dd");
-      fail();
-    } catch (IllegalStateException s) {
-      assertTrue(s.getMessage().contains("not available method"));
-    }
-    try {
-      cache.put("dd", (PrepareResultPacket) null);
-      fail();
-    } catch (IllegalStateException s) {
-      assertTrue(s.getMessage().contains("not available method"));
+    PrepareCacheStatistics poolStatistics = new PrepareCacheStatistics();
+    cache.getStatistics().setParent(poolStatistics);
+
+    assertNull(cache.get("db", "SELECT 1", null));
+    CachedPrepareResultPacket prepare = prepare(1);
+    assertNull(cache.put("db", "SELECT 1", prepare, null));
+    assertEquals(1, cache.size());
+    assertSame(prepare, cache.get("db", "SELECT 1", null));
+    assertEquals(1, cache.get("db", "SELECT 1", null).getStatementId());
+
+    // same command on another database
+    assertNull(cache.get("db2", "SELECT 1", null));
+    assertNull(cache.get(null, "SELECT 1", null));
+
+    assertEquals(2, cache.getStatistics().getHitCount());
+    assertEquals(3, cache.getStatistics().getMissCount());
+    assertEquals(0, cache.getStatistics().getEvictionCount());
+    assertEquals(2, poolStatistics.getHitCount());
+    assertEquals(3, poolStatistics.getMissCount());
+
+    cache.reset();
+    assertEquals(0, cache.size());
+    assertEquals(-1, prepare.getStatementId());
+    assertNull(cache.get("db", "SELECT 1", null));
+  }
+
+  @Test
+  public void sameCommandOnDatabases() throws Exception {
+    PrepareCache cache = new PrepareCache(2, null);
+    CachedPrepareResultPacket prepare1 = prepare(1);
+    CachedPrepareResultPacket prepare2 = prepare(2);
+    assertNull(cache.put("db", "SELECT 1", prepare1, null));
+    assertNull(cache.put("db2", "SELECT 1", prepare2, null));
+    assertEquals(2, cache.size());
+
+    // alternate use doesn't evict anything
+    for (int i = 0; i < 3; i++) {
+      assertSame(prepare1, cache.get("db", "SELECT 1", null));
+      assertSame(prepare2, cache.get("db2", "SELECT 1", null));
     }
+    assertEquals(0, cache.getStatistics().getEvictionCount());
+    assertEquals(6, cache.getStatistics().getHitCount());
   }
 }
@@ -0,0 +1,93 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.unit.client.result;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.client.impl.StandardReadableByteBuf;
+import org.mariadb.jdbc.client.result.rowdecoder.TextRowDecoder;
+import org.mariadb.jdbc.client.util.MutableInt;
+
+public class TextRowDecoderTest {
+
+  private static final int COLUMNS = 100;
+
+  private static String value(int row, int index) {
+    if (index == 50) return null;
+    if (index == 7) {
+      char[] chars = new char[300];
+      Arrays.fill(chars, (char) ('a' + row));
+      return new String(chars);
+    }
+    return "r" + row + "v" + index;
+  }
+
+  private static byte[] row(int row) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (int i = 0; i < COLUMNS; i++) {
+      String val = value(row, i);
+      if (val == null) {
+        out.write(251);
+        continue;
+      }
+      byte[] bytes = val.getBytes(StandardCharsets.UTF_8);
+      if (bytes.length < 251) {
+        out.write(bytes.length);
+      } else {
+        out.write(252);
+        out.write(bytes.length);
+        out.write(bytes.length >>> 8);
+      }
+      out.write(bytes, 0, bytes.length);
+    }
+    return out.toByteArray();
+  }
+
+  private static String read(
+      TextRowDecoder decoder, int index, MutableInt fieldIndex, StandardReadableByteBuf rowBuf) {
+    int length = decoder.setPosition(index, fieldIndex, COLUMNS, rowBuf, null, null);
+    if (length == -1) return null;
+    String val = new String(rowBuf.buf, rowBuf.pos, length, StandardCharsets.UTF_8);
+    rowBuf.skip(length);
+    return val;
+  }
+
+  @Test
+  public void randomAccess() {
+    TextRowDecoder decoder = new TextRowDecoder();
+    MutableInt fieldIndex = new MutableInt(-1);
+    byte[] first = row(0);
+    StandardReadableByteBuf rowBuf = new StandardReadableByteBuf(first);
+    rowBuf.buf(first, first.length, 0);
+
+    assertEquals(value(0, 99), read(decoder, 99, fieldIndex, rowBuf));
+    assertEquals(COLUMNS, rowBuf.knownOffsets);
+    for (int i = COLUMNS - 1; i >= 0; i--) {
+      assertEquals(value(0, i), read(decoder, i, fieldIndex, rowBuf));
+    }
+    assertEquals(value(0, 3), read(decoder, 3, fieldIndex, rowBuf));
+    assertEquals(value(0, 4), read(decoder, 4, fieldIndex, rowBuf));
+
+    // new row, shifted in a shared buffer: offsets must be rebuilt
+    byte[] second = row(1);
+    byte[] shared = new byte[second.length + 10];
+    System.arraycopy(second, 0, shared, 10, second.length);
+    rowBuf.buf(shared, shared.length, 10);
+    fieldIndex.set(-1);
+    assertEquals(0, rowBuf.knownOffsets);
+    assertEquals(value(1, 60), read(decoder, 60, fieldIndex, rowBuf));
+    assertEquals(61, rowBuf.knownOffsets);
+    assertEquals(value(1, 7), read(decoder, 7, fieldIndex, rowBuf));
+    // forward after a jump back continues from last known field
+    assertEquals(value(1, 80), read(decoder, 80, fieldIndex, rowBuf));
+    assertEquals(value(1, 81), read(decoder, 81, fieldIndex, rowBuf));
+    assertNull(read(decoder, 50, fieldIndex, rowBuf));
+    assertEquals(value(1, 51), read(decoder, 51, fieldIndex, rowBuf));
+    assertEquals(value(1, 0), read(decoder, 0, fieldIndex, rowBuf));
+  }
+}
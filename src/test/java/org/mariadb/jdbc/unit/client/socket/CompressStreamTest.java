@@ -0,0 +1,141 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.unit.client.socket;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.Configuration;
+import org.mariadb.jdbc.client.socket.impl.CompressInputStream;
+import org.mariadb.jdbc.client.socket.impl.CompressOutputStream;
+import org.mariadb.jdbc.client.util.MutableByte;
+
+public class CompressStreamTest {
+
+  private static byte[] compressible(int len) {
+    byte[] data = new byte[len];
+    for (int i = 0; i < len; i++) {
+      data[i] = (byte) ('a' + (i % 7));
+    }
+    return data;
+  }
+
+  private static byte[] random(int len) {
+    byte[] data = new byte[len];
+    new Random(42).nextBytes(data);
+    return data;
+  }
+
+  private static int uncompressedLength(byte[] packets, int pos) {
+    return (packets[pos + 4] & 0xff)
+        + ((packets[pos + 5] & 0xff) << 8)
+        + ((packets[pos + 6] & 0xff) << 16);
+  }
+
+  private static int packetLength(byte[] packets, int pos) {
+    return (packets[pos] & 0xff)
+        + ((packets[pos + 1] & 0xff) << 8)
+        + ((packets[pos + 2] & 0xff) << 16);
+  }
+
+  private static void checkRoundTrip(byte[] packets, byte[]... expected) throws IOException {
+    try (CompressInputStream in =
+        new CompressInputStream(new ByteArrayInputStream(packets), new MutableByte())) {
+      for (byte[] data : expected) {
+        byte[] res = new byte[data.length];
+        int read = 0;
+        while (read < data.length) {
+          read += in.read(res, read, data.length - read);
+        }
+        Assertions.assertArrayEquals(data, res);
+      }
+    }
+  }
+
+  @Test
+  public void compressionThreshold() throws IOException, SQLException {
+    Configuration conf = Configuration.parse("jdbc:mariadb://localhost/?compressionMinSize=4000");
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    byte[] small = compressible(3000);
+    byte[] large = compressible(5000);
+    try (CompressOutputStream out = new CompressOutputStream(baos, new MutableByte(), conf)) {
+      out.write(small, 0, small.length);
+      out.write(large, 0, large.length);
+    }
+    byte[] packets = baos.toByteArray();
+    Assertions.assertEquals(3000, packetLength(packets, 0));
+    Assertions.assertEquals(0, uncompressedLength(packets, 0));
+    int pos = 7 + 3000;
+    Assertions.assertTrue(packetLength(packets, pos) < 5000);
+    Assertions.assertEquals(5000, uncompressedLength(packets, pos));
+    checkRoundTrip(packets, small, large);
+  }
+
+  @Test
+  public void incompressibleData() throws IOException, SQLException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    byte[] data = random(10000);
+    try (CompressOutputStream out =
+        new CompressOutputStream(
+            baos, new MutableByte(), Configuration.parse("jdbc:mariadb://localhost/"))) {
+      out.write(data, 0, data.length);
+    }
+    byte[] packets = baos.toByteArray();
+    Assertions.assertEquals(10000, packetLength(packets, 0));
+    Assertions.assertEquals(0, uncompressedLength(packets, 0));
+    checkRoundTrip(packets, data);
+  }
+
+  @Test
+  public void compressionAdaptive() throws IOException, SQLException {
+    Configuration conf =
+        Configuration.parse("jdbc:mariadb://localhost/?compressionAdaptive&compressionLevel=1");
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    byte[] randomData = random(4000);
+    byte[] data = compressible(4000);
+    try (CompressOutputStream out = new CompressOutputStream(baos, new MutableByte(), conf)) {
+      for (int i = 0; i < 4; i++) {
+        out.write(randomData, 0, randomData.length);
+      }
+      // compression is now temporary disabled
+      out.write(data, 0, data.length);
+    }
+    byte[] packets = baos.toByteArray();
+    int pos = 4 * (7 + 4000);
+    Assertions.assertEquals(4000, packetLength(packets, pos));
+    Assertions.assertEquals(0, uncompressedLength(packets, pos));
+    checkRoundTrip(packets, randomData, randomData, randomData, randomData, data);
+  }
+
+  @Test
+  public void multiPacket() throws IOException, SQLException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    byte[] data = compressible(0xffffff + 100);
+    byte[] next = compressible(2000);
+    try (CompressOutputStream out =
+        new CompressOutputStream(
+            baos, new MutableByte(), Configuration.parse("jdbc:mariadb://localhost/"))) {
+      out.write(data, 0, data.length);
+      out.write(next, 0, next.length);
+      out.flush();
+    }
+    byte[] packets = baos.toByteArray();
+    Assertions.assertEquals(0xffffff, uncompressedLength(packets, 0));
+    checkRoundTrip(packets, data, next);
+  }
+
+  @Test
+  public void wrongCompressionLevel() {
+    Assertions.assertThrows(
+        SQLException.class,
+        () -> Configuration.parse("jdbc:mariadb://localhost/?compressionLevel=10"));
+    Assertions.assertThrows(
+        SQLException.class,
+        () -> Configuration.parse("jdbc:mariadb://localhost/?compressionLevel=-5"));
+  }
+}
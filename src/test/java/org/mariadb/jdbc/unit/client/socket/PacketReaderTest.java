@@ -0,0 +1,52 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.unit.client.socket;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.sql.SQLException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.Configuration;
+import org.mariadb.jdbc.client.socket.impl.PacketReader;
+import org.mariadb.jdbc.client.util.MutableByte;
+
+public class PacketReaderTest {
+
+  private static final int MAX_PACKET_SIZE = 0xffffff;
+
+  @Test
+  public void readMultiPacket() throws IOException, SQLException {
+    int payloadLength = MAX_PACKET_SIZE * 2 + 10;
+    ByteArrayOutputStream out = new ByteArrayOutputStream(payloadLength + 12);
+    int written = 0;
+    byte seq = 0;
+    while (true) {
+      int len = Math.min(MAX_PACKET_SIZE, payloadLength - written);
+      out.write(len);
+      out.write(len >> 8);
+      out.write(len >> 16);
+      out.write(seq++);
+      for (int i = 0; i < len; i++) {
+        out.write((written + i) % 127);
+      }
+      written += len;
+      if (len < MAX_PACKET_SIZE) break;
+    }
+
+    PacketReader reader =
+        new PacketReader(
+            new ByteArrayInputStream(out.toByteArray()),
+            Configuration.parse("jdbc:mariadb://localhost/"),
+            new MutableByte());
+    byte[] payload = reader.readPacket(false);
+    Assertions.assertEquals(payloadLength, payload.length);
+    for (int i = 0; i < payloadLength; i++) {
+      if (payload[i] != (byte) (i % 127)) {
+        Assertions.fail("wrong value at position " + i);
+      }
+    }
+  }
+}
@@ -3,10 +3,24 @@
 // Copyright (c) 2015-2025 MariaDB Corporation Ab
 package org.mariadb.jdbc.unit.client.socket;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.client.socket.impl.ChannelOutputStream;
+import org.mariadb.jdbc.client.socket.impl.ChannelSelector;
 import org.mariadb.jdbc.client.socket.impl.PacketWriter;
+import org.mariadb.jdbc.client.util.MutableByte;
 
 public class PacketWriterTest {
 
@@ -25,4 +39,86 @@ public class PacketWriterTest {
       Assertions.assertEquals('a' + i, pw.buf()[i + 8194]);
     }
   }
+
+  private static byte[] data(int length) {
+    byte[] data = new byte[length];
+    for (int i = 0; i < length; i++) data[i] = (byte) (i * 31);
+    return data;
+  }
+
+  /** check packets, returning concatenated data */
+  private static byte[] readPackets(byte[] sent, int maxPacketLength, int expectedPackets) {
+    ByteArrayOutputStream data = new ByteArrayOutputStream();
+    int pos = 0;
+    int packets = 0;
+    while (pos < sent.length) {
+      int len = (sent[pos] & 0xff) | ((sent[pos + 1] & 0xff) << 8) | ((sent[pos + 2] & 0xff) << 16);
+      Assertions.assertEquals((byte) packets, sent[pos + 3]);
+      Assertions.assertTrue(len <= maxPacketLength);
+      data.write(sent, pos + 4, len);
+      pos += 4 + len;
+      packets++;
+    }
+    Assertions.assertEquals(expectedPackets, packets);
+    return data.toByteArray();
+  }
+
+  @Test
+  public void writeStream() throws IOException {
+    byte[] value = data(3 * 1024 * 1024);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    PacketWriter pw = new PacketWriter(out, 0, null, new MutableByte(), new MutableByte());
+    pw.writeStream(new ByteArrayInputStream(value));
+    Assertions.assertArrayEquals(value, readPackets(out.toByteArray(), 1024 * 1024 - 4, 4));
+    Assertions.assertEquals(PacketWriter.SMALL_BUFFER_SIZE, pw.buf().length);
+
+    out.reset();
+    pw = new PacketWriter(out, 0, 20_000, new MutableByte(), new MutableByte());
+    pw.writeStream(new ByteArrayInputStream(value, 0, 100_000));
+    byte[] sent = readPackets(out.toByteArray(), 20_000, 7);
+    Assertions.assertEquals(100_000, sent.length);
+  }
+
+  @Test
+  public void writeFileToChannel() throws Exception {
+    byte[] value = data(3 * 1024 * 1024 + 10);
+    Path file = Files.createTempFile("infile", ".txt");
+    try (ServerSocketChannel server = ServerSocketChannel.open()) {
+      Files.write(file, value);
+      server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+      CompletableFuture<byte[]> received =
+          CompletableFuture.supplyAsync(
+              () -> {
+                try (SocketChannel accepted = server.accept();
+                    InputStream in = accepted.socket().getInputStream()) {
+                  ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                  byte[] buf = new byte[65536];
+                  int len;
+                  while ((len = in.read(buf)) > 0) bytes.write(buf, 0, len);
+                  return bytes.toByteArray();
+                } catch (IOException e) {
+                  throw new RuntimeException(e);
+                }
+              });
+
+      SocketChannel channel = SocketChannel.open(server.getLocalAddress());
+      channel.configureBlocking(false);
+      ChannelSelector selector = new ChannelSelector(channel);
+      PacketWriter pw =
+          new PacketWriter(
+              new ChannelOutputStream(channel, selector),
+              0,
+              null,
+              new MutableByte(),
+              new MutableByte());
+      try (FileInputStream is = new FileInputStream(file.toFile())) {
+        pw.writeStream(is);
+      }
+      pw.close();
+      selector.close();
+      Assertions.assertArrayEquals(value, readPackets(received.get(), 1024 * 1024 - 4, 4));
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
 }
@@ -0,0 +1,62 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.unit.client.socket;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.client.socket.impl.PacketWriter;
+import org.mariadb.jdbc.client.socket.impl.WriteBufferPool;
+import org.mariadb.jdbc.client.util.MutableByte;
+
+public class WriteBufferPoolTest {
+
+  @Test
+  public void borrowDuringCommand() throws IOException {
+    WriteBufferPool pool = WriteBufferPool.getInstance();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    PacketWriter writer = new PacketWriter(out, 0, null, new MutableByte(), new MutableByte());
+
+    long initialBorrowed = pool.getBorrowedBytes();
+    writer.initPacket();
+    writer.writeBytes(new byte[200_000], 0, 200_000);
+    Assertions.assertEquals(1024 * 1024, writer.buf().length);
+    Assertions.assertEquals(initialBorrowed + 1024 * 1024, pool.getBorrowedBytes());
+
+    writer.flush();
+    Assertions.assertEquals(PacketWriter.SMALL_BUFFER_SIZE, writer.buf().length);
+    Assertions.assertEquals(initialBorrowed, pool.getBorrowedBytes());
+    Assertions.assertEquals(200_004, out.size());
+
+    // second command reuse pooled buffer
+    long allocations = pool.getAllocationCount();
+    writer.initPacket();
+    writer.writeBytes(new byte[200_000], 0, 200_000);
+    writer.flush();
+    Assertions.assertEquals(allocations, pool.getAllocationCount());
+  }
+
+  @Test
+  public void temporaryWriterDoesNotBorrow() throws IOException {
+    WriteBufferPool pool = WriteBufferPool.getInstance();
+    long borrowCount = pool.getBorrowCount();
+    PacketWriter writer = new PacketWriter(null, 0, 0xffffff, null, null);
+    writer.writeBytes(new byte[200_000], 0, 200_000);
+    Assertions.assertEquals(borrowCount, pool.getBorrowCount());
+  }
+
+  @Test
+  public void jmx() throws Exception {
+    WriteBufferPool.registerJmx();
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName name = new ObjectName("org.mariadb.jdbc:type=WriteBufferPool");
+    Assertions.assertTrue(server.isRegistered(name));
+    Assertions.assertTrue((Long) server.getAttribute(name, "PooledBytes") >= 0);
+    Assertions.assertTrue((Long) server.getAttribute(name, "BorrowCount") >= 0);
+  }
+}
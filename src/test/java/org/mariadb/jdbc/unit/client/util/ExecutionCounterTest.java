@@ -0,0 +1,56 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.unit.client.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.client.util.ExecutionCounter;
+import org.mariadb.jdbc.client.util.ServerPrepareMetrics;
+
+public class ExecutionCounterTest {
+
+  @Test
+  public void promotion() {
+    long promotions = ServerPrepareMetrics.getInstance().getPromotionCount();
+    ExecutionCounter counter = new ExecutionCounter(3, 2);
+    counter.increment("SELECT ?");
+    counter.increment("SELECT ?");
+    assertFalse(counter.isPromoted("SELECT ?"));
+    counter.increment("SELECT ?");
+    assertTrue(counter.isPromoted("SELECT ?"));
+    counter.increment("SELECT ?");
+    assertTrue(counter.isPromoted("SELECT ?"));
+    assertEquals(promotions + 1, ServerPrepareMetrics.getInstance().getPromotionCount());
+
+    counter.demote("SELECT ?");
+    counter.increment("SELECT ?");
+    assertFalse(counter.isPromoted("SELECT ?"));
+  }
+
+  @Test
+  public void reset() {
+    ExecutionCounter counter = new ExecutionCounter(2, 2);
+    counter.increment("SELECT ?");
+    counter.increment("SELECT ?");
+    assertTrue(counter.isPromoted("SELECT ?"));
+    counter.reset("SELECT ?");
+    assertFalse(counter.isPromoted("SELECT ?"));
+    counter.increment("SELECT ?");
+    counter.increment("SELECT ?");
+    assertTrue(counter.isPromoted("SELECT ?"));
+  }
+
+  @Test
+  public void eviction() {
+    ExecutionCounter counter = new ExecutionCounter(2, 2);
+    counter.increment("a");
+    counter.increment("a");
+    counter.increment("b");
+    counter.increment("c");
+    assertEquals(2, counter.size());
+    assertFalse(counter.isPromoted("a"));
+    assertFalse(counter.containsKey("a"));
+  }
+}
@@ -0,0 +1,58 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.unit.client.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.client.impl.StandardReadableByteBuf;
+import org.mariadb.jdbc.client.util.StringCache;
+
+public class StringCacheTest {
+
+  private static String read(StringCache cache, String value) {
+    byte[] bytes = ("xx" + value + "yy").getBytes(StandardCharsets.UTF_8);
+    StandardReadableByteBuf buf = new StandardReadableByteBuf(bytes);
+    buf.skip(2);
+    String res = cache.readString(buf, bytes.length - 4);
+    assertEquals(bytes.length - 2, buf.pos());
+    return res;
+  }
+
+  @Test
+  public void deduplicate() {
+    StringCache cache = new StringCache();
+    String first = read(cache, "active");
+    assertEquals("active", first);
+    assertSame(first, read(cache, "active"));
+    assertEquals("inactive", read(cache, "inactive"));
+    assertSame(first, read(cache, "active"));
+    assertEquals("é€", read(cache, "é€"));
+    assertEquals("", read(cache, ""));
+
+    // long values are not cached
+    StringBuilder sb = new StringBuilder();
+    while (sb.length() <= StringCache.MAX_LENGTH) sb.append('a');
+    String longValue = read(cache, sb.toString());
+    assertEquals(sb.toString(), longValue);
+    assertNotSame(longValue, read(cache, sb.toString()));
+  }
+
+  @Test
+  public void disableOnHighCardinality() {
+    StringCache cache = new StringCache();
+    for (int i = 0; i < 10_000; i++) {
+      assertEquals("v" + i, read(cache, "v" + i));
+    }
+    assertTrue(cache.isDisabled());
+    assertEquals("v1", read(cache, "v1"));
+
+    StringCache lowCardinality = new StringCache();
+    for (int i = 0; i < 10_000; i++) {
+      assertEquals("v" + (i % 10), read(lowCardinality, "v" + (i % 10)));
+    }
+    assertFalse(lowCardinality.isDisabled());
+  }
+}
@@ -0,0 +1,55 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.unit.export;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.export.ArrowBatch;
+import org.mariadb.jdbc.export.ArrowColumnType;
+
+public class ArrowBatchTest {
+
+  @Test
+  public void buffers() {
+    ArrowBatch batch = new ArrowBatch(10);
+    assertFalse(batch.isInitialized());
+    assertEquals(0, batch.columnCount());
+    batch.init(
+        new String[] {"a", "b"},
+        new ArrowColumnType[] {ArrowColumnType.INT32, ArrowColumnType.UTF8});
+    assertTrue(batch.isInitialized());
+    assertEquals(2, batch.columnCount());
+    assertEquals(40, batch.data(0).length);
+    assertEquals(2, batch.validity(0).length);
+    assertNull(batch.offsets(0));
+    assertEquals(11, batch.offsets(1).length);
+
+    batch.reset();
+    batch.setValid(0, 9);
+    batch.setNull(0, 0);
+    assertFalse(batch.isNull(0, 9));
+    assertTrue(batch.isNull(0, 0));
+    assertEquals(1, batch.nullCount(0));
+
+    // variable-width data grows
+    byte[] data = batch.reserve(1, 0, 200);
+    assertTrue(data.length >= 200);
+    assertEquals(200, batch.offsets(1)[1]);
+    batch.setNull(1, 1);
+    assertEquals(200, batch.offsets(1)[2]);
+
+    batch.reset();
+    assertTrue(batch.isNull(0, 9));
+    assertEquals(0, batch.nullCount(0));
+    assertThrows(IllegalArgumentException.class, () -> new ArrowBatch(0));
+  }
+
+  @Test
+  public void types() {
+    assertEquals(8, ArrowColumnType.UINT64.byteWidth());
+    assertTrue(ArrowColumnType.FLOAT32.isFixedWidth());
+    assertFalse(ArrowColumnType.BINARY.isFixedWidth());
+  }
+}
@@ -0,0 +1,33 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.unit.export;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.export.ColumnBatch;
+
+public class ColumnBatchTest {
+
+  @Test
+  public void columns() {
+    ColumnBatch batch = new ColumnBatch(100).addLong(3).addDouble(1);
+    assertEquals(100, batch.capacity());
+    assertEquals(2, batch.columnCount());
+    assertEquals(3, batch.columnIndex(0));
+    assertEquals(1, batch.columnIndex(1));
+    assertFalse(batch.isDouble(0));
+    assertTrue(batch.isDouble(1));
+    assertEquals(100, batch.longs(0).length);
+    assertNull(batch.doubles(0));
+    assertEquals(100, batch.doubles(1).length);
+    assertEquals(2, batch.nulls(1).length);
+
+    batch.nulls(1)[1] |= 1L << 70;
+    assertTrue(batch.isNull(1, 70));
+    assertFalse(batch.isNull(1, 6));
+    assertFalse(batch.isNull(0, 70));
+    assertThrows(IllegalArgumentException.class, () -> new ColumnBatch(0));
+  }
+}
@@ -0,0 +1,78 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.unit.message;
+
+import java.io.ByteArrayOutputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.client.impl.StandardReadableByteBuf;
+import org.mariadb.jdbc.client.socket.impl.PacketWriter;
+import org.mariadb.jdbc.client.util.MutableByte;
+import org.mariadb.jdbc.codec.Parameter;
+import org.mariadb.jdbc.message.client.ExecutePacket;
+import org.mariadb.jdbc.message.server.PrepareResultPacket;
+import org.mariadb.jdbc.plugin.codec.IntCodec;
+import org.mariadb.jdbc.plugin.codec.StringCodec;
+import org.mariadb.jdbc.util.ParameterList;
+
+public class ExecutePacketTest {
+
+  private static PrepareResultPacket prepare() throws Exception {
+    // COM_STMT_PREPARE_OK, statement id 5, no column, no parameter metadata
+    byte[] bytes = new byte[] {0x00, 0x05, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00};
+    return new PrepareResultPacket(new StandardReadableByteBuf(bytes, bytes.length), null, null);
+  }
+
+  private static byte[] send(PrepareResultPacket prepare, ParameterList parameters)
+      throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    PacketWriter writer = new PacketWriter(out, 0, null, new MutableByte(), new MutableByte());
+    new ExecutePacket(prepare, parameters, "SELECT ?, ?", null, null).encode(writer, null, null);
+    return out.toByteArray();
+  }
+
+  private static ParameterList parameters(Parameter<?> first, Parameter<?> second) {
+    ParameterList parameters = new ParameterList(2);
+    parameters.set(0, first);
+    parameters.set(1, second);
+    return parameters;
+  }
+
+  /** new params bound flag, after header, cursor flag, iteration count and null bitmap */
+  private static byte newParamsBound(byte[] sent) {
+    return sent[4 + 1 + 4 + 1 + 4 + 1];
+  }
+
+  @Test
+  public void sendTypesOnlyWhenChanged() throws Exception {
+    PrepareResultPacket prepare = prepare();
+
+    byte[] first =
+        send(prepare, parameters(new Parameter<>(IntCodec.INSTANCE, 1), Parameter.NULL_PARAMETER));
+    Assertions.assertEquals(1, newParamsBound(first));
+
+    // same types: flag only, 4 bytes less
+    byte[] second =
+        send(prepare, parameters(new Parameter<>(IntCodec.INSTANCE, 2), Parameter.NULL_PARAMETER));
+    Assertions.assertEquals(0, newParamsBound(second));
+    Assertions.assertEquals(first.length - 4, second.length);
+
+    // type change
+    byte[] third =
+        send(
+            prepare,
+            parameters(
+                new Parameter<>(IntCodec.INSTANCE, 3), new Parameter<>(StringCodec.INSTANCE, "a")));
+    Assertions.assertEquals(1, newParamsBound(third));
+
+    // after a reset, types are sent again
+    prepare.resetParameterTypesSent();
+    byte[] fourth =
+        send(
+            prepare,
+            parameters(
+                new Parameter<>(IntCodec.INSTANCE, 3), new Parameter<>(StringCodec.INSTANCE, "a")));
+    Assertions.assertEquals(1, newParamsBound(fourth));
+  }
+}
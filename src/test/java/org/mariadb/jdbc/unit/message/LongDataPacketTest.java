@@ -0,0 +1,160 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.unit.message;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.client.Context;
+import org.mariadb.jdbc.client.socket.Writer;
+import org.mariadb.jdbc.client.socket.impl.PacketWriter;
+import org.mariadb.jdbc.client.util.MutableByte;
+import org.mariadb.jdbc.codec.Parameter;
+import org.mariadb.jdbc.message.client.LongDataPacket;
+import org.mariadb.jdbc.plugin.codec.ReaderCodec;
+import org.mariadb.jdbc.plugin.codec.StreamCodec;
+
+public class LongDataPacketTest {
+
+  private static byte[] send(LongDataPacket packet, Integer maxAllowedPacket) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    PacketWriter writer =
+        new PacketWriter(out, 0, maxAllowedPacket, new MutableByte(), new MutableByte());
+    packet.encode(writer, null);
+    return out.toByteArray();
+  }
+
+  /** check packets, returning concatenated data */
+  private static byte[] readChunks(byte[] sent, int maxChunkSize, int expectedPackets) {
+    ByteArrayOutputStream data = new ByteArrayOutputStream();
+    int pos = 0;
+    int packets = 0;
+    while (pos < sent.length) {
+      int len = (sent[pos] & 0xff) | ((sent[pos + 1] & 0xff) << 8) | ((sent[pos + 2] & 0xff) << 16);
+      // each packet is a complete COM_STMT_SEND_LONG_DATA command
+      Assertions.assertEquals(0, sent[pos + 3]);
+      Assertions.assertEquals(0x18, sent[pos + 4]);
+      Assertions.assertEquals(5, sent[pos + 5]);
+      Assertions.assertEquals(2, sent[pos + 9]);
+      Assertions.assertTrue(len - 7 <= maxChunkSize);
+      data.write(sent, pos + 11, len - 7);
+      pos += 4 + len;
+      packets++;
+    }
+    Assertions.assertEquals(expectedPackets, packets);
+    return data.toByteArray();
+  }
+
+  @Test
+  public void streamInChunks() throws Exception {
+    byte[] value = new byte[3 * 1024 * 1024];
+    for (int i = 0; i < value.length; i++) value[i] = (byte) i;
+    LongDataPacket packet =
+        new LongDataPacket(
+            5, new Parameter<>(StreamCodec.INSTANCE, new ByteArrayInputStream(value)), 2);
+    byte[] data = readChunks(send(packet, null), LongDataPacket.MAX_CHUNK_SIZE, 4);
+    Assertions.assertArrayEquals(value, data);
+  }
+
+  @Test
+  public void emptyValue() throws Exception {
+    LongDataPacket packet =
+        new LongDataPacket(
+            5, new Parameter<>(StreamCodec.INSTANCE, new ByteArrayInputStream(new byte[0])), 2);
+    Assertions.assertEquals(0, readChunks(send(packet, null), 0, 1).length);
+  }
+
+  @Test
+  public void respectMaxAllowedPacket() throws Exception {
+    char[] chars = new char[100_000];
+    Arrays.fill(chars, 'a');
+    String value = new String(chars);
+    LongDataPacket packet =
+        new LongDataPacket(5, new Parameter<>(ReaderCodec.INSTANCE, new StringReader(value)), 2);
+    byte[] data = readChunks(send(packet, 20_000), 20_000 - 7, 7);
+    Assertions.assertEquals(value, new String(data, StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void stringInChunks() throws Exception {
+    char[] chars = new char[1024 * 1024];
+    Arrays.fill(chars, '\u00e9');
+    String value = new String(chars);
+    LongDataPacket packet = new LongDataPacket(5, new StringParameter(value), 2);
+    byte[] data = readChunks(send(packet, null), LongDataPacket.MAX_CHUNK_SIZE, 3);
+    Assertions.assertEquals(value, new String(data, StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void escapedStringInChunks() throws Exception {
+    // prefix makes a surrogate pair end an escape slice
+    StringBuilder sb = new StringBuilder("xxxxx");
+    for (int i = 0; i < 200_000; i++) sb.append("a'\\\u00e9\uD83C\uDFA4");
+    String value = sb.toString();
+    LongDataPacket packet = new LongDataPacket(5, new StringParameter(value, true), 2);
+    byte[] data = readChunks(send(packet, null), LongDataPacket.MAX_CHUNK_SIZE, 3);
+    Assertions.assertEquals(
+        value.replace("\\", "\\\\").replace("'", "\\'"), new String(data, StandardCharsets.UTF_8));
+  }
+
+  /** parameter sending its value with writeString, or writeStringEscaped */
+  private static final class StringParameter implements org.mariadb.jdbc.client.util.Parameter {
+    private final String value;
+    private final boolean escaped;
+
+    private StringParameter(String value) {
+      this(value, false);
+    }
+
+    private StringParameter(String value, boolean escaped) {
+      this.value = value;
+      this.escaped = escaped;
+    }
+
+    @Override
+    public void encodeText(Writer encoder, Context context) {}
+
+    @Override
+    public void encodeBinary(Writer encoder, Context context) {}
+
+    @Override
+    public void encodeLongData(Writer encoder) throws IOException {
+      if (escaped) {
+        encoder.writeStringEscaped(value, false);
+      } else {
+        encoder.writeString(value);
+      }
+    }
+
+    @Override
+    public byte[] encodeData() {
+      return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean canEncodeLongData() {
+      return true;
+    }
+
+    @Override
+    public int getBinaryEncodeType() {
+      return 0;
+    }
+
+    @Override
+    public boolean isNull() {
+      return false;
+    }
+
+    @Override
+    public String bestEffortStringValue(Context context) {
+      return value;
+    }
+  }
+}
@@ -0,0 +1,97 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.unit.message;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.client.socket.impl.PacketWriter;
+import org.mariadb.jdbc.client.util.MutableByte;
+import org.mariadb.jdbc.message.client.MultiQueryBatchPacket;
+
+public class MultiQueryBatchPacketTest {
+
+  /** send batch, returning sent COM_QUERY commands */
+  private static List<String> send(MultiQueryBatchPacket packet, int expectedCommands)
+      throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    PacketWriter writer = new PacketWriter(out, 0, null, new MutableByte(), new MutableByte());
+    Assertions.assertEquals(expectedCommands, packet.encode(writer, null));
+
+    byte[] sent = out.toByteArray();
+    List<String> commands = new ArrayList<>();
+    int pos = 0;
+    while (pos < sent.length) {
+      // command bigger than a packet is sent in multiple packets
+      ByteArrayOutputStream command = new ByteArrayOutputStream();
+      int len;
+      do {
+        len = (sent[pos] & 0xff) + ((sent[pos + 1] & 0xff) << 8) + ((sent[pos + 2] & 0xff) << 16);
+        command.write(sent, pos + 4, len);
+        pos += 4 + len;
+      } while (len == 0xffffff);
+      byte[] commandBytes = command.toByteArray();
+      Assertions.assertEquals(0x03, commandBytes[0]);
+      commands.add(new String(commandBytes, 1, commandBytes.length - 1, StandardCharsets.UTF_8));
+    }
+    return commands;
+  }
+
+  @Test
+  public void combine() throws Exception {
+    MultiQueryBatchPacket packet =
+        new MultiQueryBatchPacket(
+            Arrays.asList("DO 1", "DO 2 -- comment", "DO 3; DO 4", "DO 5", "DO 6"),
+            new boolean[] {true, true, false, true, true},
+            null);
+    List<String> commands = send(packet, 3);
+    Assertions.assertEquals("DO 1\n;DO 2 -- comment", commands.get(0));
+    Assertions.assertEquals("DO 3; DO 4", commands.get(1));
+    Assertions.assertEquals("DO 5\n;DO 6", commands.get(2));
+    Assertions.assertEquals(5, packet.batchUpdateLength());
+    Assertions.assertEquals("DO 1", packet.description());
+    for (long count : packet.getUpdateCounts()) {
+      Assertions.assertEquals(Statement.EXECUTE_FAILED, count);
+    }
+  }
+
+  @Test
+  public void splitToMaxAllowedPacket() throws Exception {
+    List<String> queries = new ArrayList<>();
+    boolean[] combinable = new boolean[100];
+    for (int i = 0; i < 100; i++) {
+      queries.add("DO " + i);
+      combinable[i] = true;
+    }
+    List<String> commands = send(new MultiQueryBatchPacket(queries, combinable, 50), 15);
+    List<String> sentQueries = new ArrayList<>();
+    for (String command : commands) {
+      Assertions.assertTrue(command.length() + 1 < 50, command);
+      sentQueries.addAll(Arrays.asList(command.split("\n;")));
+    }
+    Assertions.assertEquals(queries, sentQueries);
+  }
+
+  @Test
+  public void queryBiggerThanPacket() throws Exception {
+    char[] value = new char[0xffffff];
+    Arrays.fill(value, 'a');
+    String bigQuery = "DO '" + new String(value) + "'";
+    List<String> commands =
+        send(
+            new MultiQueryBatchPacket(
+                Arrays.asList("DO 1", bigQuery, "DO 3", "DO 4"),
+                new boolean[] {true, true, true, true},
+                64 * 1024 * 1024),
+            3);
+    Assertions.assertEquals("DO 1", commands.get(0));
+    Assertions.assertEquals(bigQuery, commands.get(1));
+    Assertions.assertEquals("DO 3\n;DO 4", commands.get(2));
+  }
+}
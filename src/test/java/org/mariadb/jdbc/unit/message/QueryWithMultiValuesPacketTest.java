@@ -0,0 +1,213 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.unit.message;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.client.Context;
+import org.mariadb.jdbc.client.socket.Writer;
+import org.mariadb.jdbc.client.socket.impl.PacketWriter;
+import org.mariadb.jdbc.client.util.MutableByte;
+import org.mariadb.jdbc.client.util.Parameters;
+import org.mariadb.jdbc.codec.Parameter;
+import org.mariadb.jdbc.message.client.QueryWithMultiValuesPacket;
+import org.mariadb.jdbc.plugin.codec.IntCodec;
+import org.mariadb.jdbc.util.ClientParser;
+import org.mariadb.jdbc.util.ParameterList;
+
+public class QueryWithMultiValuesPacketTest {
+
+  private static final String SQL =
+      "INSERT INTO t(a, b) VALUES (?, ?) ON DUPLICATE KEY UPDATE b = VALUES(b)";
+
+  private static List<Parameters> batch(int rows) {
+    List<Parameters> batch = new ArrayList<>();
+    for (int i = 0; i < rows; i++) {
+      ParameterList parameters = new ParameterList(2);
+      parameters.set(0, new Parameter<>(IntCodec.INSTANCE, i));
+      parameters.set(
+          1, i % 2 == 0 ? Parameter.NULL_PARAMETER : new Parameter<>(IntCodec.INSTANCE, -i));
+      batch.add(parameters);
+    }
+    return batch;
+  }
+
+  /** send batch, returning sent COM_QUERY commands */
+  private static List<String> send(int rows, Integer maxAllowedPacket, int expectedCommands)
+      throws Exception {
+    return send(batch(rows), maxAllowedPacket, expectedCommands);
+  }
+
+  private static List<String> send(
+      List<Parameters> batch, Integer maxAllowedPacket, int expectedCommands) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    PacketWriter writer = new PacketWriter(out, 0, null, new MutableByte(), new MutableByte());
+    QueryWithMultiValuesPacket packet =
+        new QueryWithMultiValuesPacket(
+            null, ClientParser.parameterParts(SQL, false), batch, maxAllowedPacket);
+    Assertions.assertEquals(expectedCommands, packet.encode(writer, null));
+    Assertions.assertEquals(batch.size(), packet.batchUpdateLength());
+    // no result read
+    for (int count : packet.getUpdateCounts()) {
+      Assertions.assertEquals(Statement.EXECUTE_FAILED, count);
+    }
+
+    byte[] sent = out.toByteArray();
+    List<String> commands = new ArrayList<>();
+    int pos = 0;
+    while (pos < sent.length) {
+      // command bigger than a packet is sent in multiple packets
+      ByteArrayOutputStream command = new ByteArrayOutputStream();
+      int len;
+      do {
+        len = (sent[pos] & 0xff) + ((sent[pos + 1] & 0xff) << 8) + ((sent[pos + 2] & 0xff) << 16);
+        command.write(sent, pos + 4, len);
+        pos += 4 + len;
+      } while (len == 0xffffff);
+      byte[] commandBytes = command.toByteArray();
+      Assertions.assertEquals(0x03, commandBytes[0]);
+      // only a single tuple command can exceed max_allowed_packet
+      String query = new String(commandBytes, 1, commandBytes.length - 1, StandardCharsets.UTF_8);
+      if (maxAllowedPacket != null && query.contains("),(")) {
+        Assertions.assertTrue(commandBytes.length < maxAllowedPacket);
+      }
+      commands.add(query);
+    }
+    return commands;
+  }
+
+  @Test
+  public void singleCommand() throws Exception {
+    List<String> commands = send(3, null, 1);
+    Assertions.assertEquals(1, commands.size());
+    Assertions.assertEquals(
+        "INSERT INTO t(a, b) VALUES (0, null),(1, -1),(2, null) ON DUPLICATE KEY UPDATE b ="
+            + " VALUES(b)",
+        commands.get(0));
+  }
+
+  @Test
+  public void splitToMaxAllowedPacket() throws Exception {
+    List<String> commands = send(100, 120, 20);
+    int row = 0;
+    for (String command : commands) {
+      Assertions.assertTrue(command.startsWith("INSERT INTO t(a, b) VALUES ("), command);
+      Assertions.assertTrue(command.endsWith(") ON DUPLICATE KEY UPDATE b = VALUES(b)"), command);
+      String values =
+          command.substring(
+              "INSERT INTO t(a, b) VALUES (".length(),
+              command.length() - ") ON DUPLICATE KEY UPDATE b = VALUES(b)".length());
+      for (String tuple : values.split("\\),\\(")) {
+        Assertions.assertEquals(row + ", " + (row % 2 == 0 ? "null" : -row), tuple);
+        row++;
+      }
+    }
+    Assertions.assertEquals(100, row);
+  }
+
+  @Test
+  public void tupleBiggerThanMaxAllowedPacket() throws Exception {
+    // a tuple is always sent, even if too big for the command
+    List<String> commands = send(2, 10, 2);
+    Assertions.assertEquals(
+        "INSERT INTO t(a, b) VALUES (0, null) ON DUPLICATE KEY UPDATE b = VALUES(b)",
+        commands.get(0));
+    Assertions.assertEquals(
+        "INSERT INTO t(a, b) VALUES (1, -1) ON DUPLICATE KEY UPDATE b = VALUES(b)",
+        commands.get(1));
+  }
+
+  @Test
+  public void bigTupleSentAlone() throws Exception {
+    // command is ended before a tuple that doesn't fit
+    List<Parameters> batch = batch(3);
+    char[] value = new char[500];
+    Arrays.fill(value, 'a');
+    batch.get(1).set(1, new TextParameter("'" + new String(value) + "'"));
+    List<String> commands = send(batch, 200, 3);
+    Assertions.assertEquals(
+        "INSERT INTO t(a, b) VALUES (0, null) ON DUPLICATE KEY UPDATE b = VALUES(b)",
+        commands.get(0));
+    Assertions.assertEquals(
+        "INSERT INTO t(a, b) VALUES (1, '"
+            + new String(value)
+            + "') ON DUPLICATE KEY UPDATE b = VALUES(b)",
+        commands.get(1));
+    Assertions.assertEquals(
+        "INSERT INTO t(a, b) VALUES (2, null) ON DUPLICATE KEY UPDATE b = VALUES(b)",
+        commands.get(2));
+  }
+
+  @Test
+  public void tupleBiggerThanPacket() throws Exception {
+    List<Parameters> batch = batch(3);
+    char[] value = new char[0xffffff];
+    Arrays.fill(value, 'a');
+    batch.get(1).set(1, new TextParameter("'" + new String(value) + "'"));
+    List<String> commands = send(batch, 64 * 1024 * 1024, 3);
+    Assertions.assertEquals(
+        "INSERT INTO t(a, b) VALUES (0, null) ON DUPLICATE KEY UPDATE b = VALUES(b)",
+        commands.get(0));
+    Assertions.assertEquals(
+        "INSERT INTO t(a, b) VALUES (1, '"
+            + new String(value)
+            + "') ON DUPLICATE KEY UPDATE b = VALUES(b)",
+        commands.get(1));
+    Assertions.assertEquals(
+        "INSERT INTO t(a, b) VALUES (2, null) ON DUPLICATE KEY UPDATE b = VALUES(b)",
+        commands.get(2));
+  }
+
+  /** parameter sending its value as is in text protocol */
+  private static final class TextParameter implements org.mariadb.jdbc.client.util.Parameter {
+    private final String value;
+
+    private TextParameter(String value) {
+      this.value = value;
+    }
+
+    @Override
+    public void encodeText(Writer encoder, Context context) throws IOException {
+      encoder.writeAscii(value);
+    }
+
+    @Override
+    public void encodeBinary(Writer encoder, Context context) {}
+
+    @Override
+    public void encodeLongData(Writer encoder) {}
+
+    @Override
+    public byte[] encodeData() {
+      return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean canEncodeLongData() {
+      return false;
+    }
+
+    @Override
+    public int getBinaryEncodeType() {
+      return 0;
+    }
+
+    @Override
+    public boolean isNull() {
+      return false;
+    }
+
+    @Override
+    public String bestEffortStringValue(Context context) {
+      return value;
+    }
+  }
+}
@@ -0,0 +1,62 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.unit.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.util.BulkLoadInputStream;
+
+public class BulkLoadInputStreamTest {
+
+  private static String read(InputStream is) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] buf = new byte[100];
+    int len;
+    while ((len = is.read(buf)) > 0) out.write(buf, 0, len);
+    return new String(out.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void encoding() throws IOException {
+    Iterator<Object[]> rows =
+        Arrays.asList(
+                new Object[] {1, "a\tb\nc\\d\re\0", null},
+                new Object[] {
+                  new BigDecimal("1E+3"), "€", LocalDateTime.of(2025, 1, 2, 3, 4, 5, 6000)
+                },
+                new Object[] {true, new byte[] {'x', '\t'}, java.sql.Date.valueOf("2025-01-02")})
+            .iterator();
+    Assertions.assertEquals(
+        "1\ta\\tb\\nc\\\\d\\re\\0\t\\N\n"
+            + "1000\t€\t2025-01-02 03:04:05.000006\n"
+            + "1\tx\\t\t2025-01-02\n",
+        read(new BulkLoadInputStream(rows, 3)));
+  }
+
+  @Test
+  public void manyRows() throws IOException {
+    Iterator<Object[]> rows =
+        IntStream.range(0, 100_000).mapToObj(i -> new Object[] {i, "v" + i}).iterator();
+    String[] lines = read(new BulkLoadInputStream(rows, 2)).split("\n");
+    Assertions.assertEquals(100_000, lines.length);
+    Assertions.assertEquals("99999\tv99999", lines[99_999]);
+  }
+
+  @Test
+  public void wrongColumnNumber() {
+    Iterator<Object[]> rows = Arrays.asList(new Object[] {1}, new Object[] {1, 2}).iterator();
+    IOException e =
+        Assertions.assertThrows(IOException.class, () -> read(new BulkLoadInputStream(rows, 2)));
+    Assertions.assertTrue(e.getMessage().contains("must have 2 values, but has 1"));
+  }
+}
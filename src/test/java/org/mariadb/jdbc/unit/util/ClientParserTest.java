@@ -139,4 +139,40 @@ public class ClientParserTest {
     assertFalse(ClientParser.parameterParts("INSERT _duplicate key", true).isInsertDuplicate());
     assertFalse(ClientParser.parameterParts("INSERT duplicate_ key", true).isInsertDuplicate());
   }
+
+  @ParameterizedTest()
+  @ValueSource(
+      strings = {
+        "INSERT INTO t(a, b) VALUES (?, ?)",
+        "insert into t values(?, (? + 1))",
+        "INSERT INTO t VALUE (?, 'a)')",
+        "INSERT INTO t(a, b) VALUES (?, ?) ON DUPLICATE KEY UPDATE b = VALUES(b)",
+        "INSERT INTO t(a) VALUES (?);"
+      })
+  public void rewritable(String sql) {
+    ClientParser parser = ClientParser.parameterParts(sql, false);
+    assertTrue(parser.isRewritable());
+    assertEquals('(', parser.getQuery()[parser.getValuesStart()]);
+    assertEquals(')', parser.getQuery()[parser.getValuesEnd() - 1]);
+  }
+
+  @ParameterizedTest()
+  @ValueSource(
+      strings = {
+        "INSERT INTO t(a) VALUES (1)",
+        "INSERT INTO t(a) VALUES (?), (?)",
+        "INSERT INTO t(a, b) VALUES (?, 1) ON DUPLICATE KEY UPDATE b = ?",
+        "INSERT INTO t(a) VALUES (?) RETURNING a",
+        "INSERT INTO t(a) SELECT ?",
+        "INSERT INTO t SET a = ?",
+        "INSERT INTO t(a) VALUES ROW(?)",
+        "INSERT INTO t(a) VALUES (?); DO 1",
+        "UPDATE t SET a = ? WHERE b IN (SELECT c FROM d)"
+      })
+  public void nonRewritable(String sql) {
+    ClientParser parser = ClientParser.parameterParts(sql, false);
+    assertFalse(parser.isRewritable());
+    assertEquals(-1, parser.getValuesStart());
+    assertEquals(-1, parser.getValuesEnd());
+  }
 }
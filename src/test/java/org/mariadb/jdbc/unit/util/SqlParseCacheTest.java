@@ -0,0 +1,57 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+package org.mariadb.jdbc.unit.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.SQLException;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.Configuration;
+import org.mariadb.jdbc.util.ClientParser;
+import org.mariadb.jdbc.util.SqlParseCache;
+
+public class SqlParseCacheTest {
+
+  @Test
+  public void parameterParts() {
+    SqlParseCache cache = new SqlParseCache(2);
+    ClientParser parser = cache.parameterParts("INSERT INTO t VALUES (?, '\\'?')", false);
+    assertEquals(1, parser.getParamCount());
+    assertTrue(parser.isInsert());
+    assertSame(parser, cache.parameterParts("INSERT INTO t VALUES (?, '\\'?')", false));
+    assertEquals(1, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+
+    // escape mode is part of key
+    ClientParser noBackslash = cache.parameterParts("INSERT INTO t VALUES (?, '\\'?')", true);
+    assertNotSame(parser, noBackslash);
+    assertEquals(2, noBackslash.getParamCount());
+    assertEquals(2, cache.getMissCount());
+
+    // bounded size
+    cache.parameterParts("SELECT ?", false);
+    cache.parameterParts("SELECT ?, ?", false);
+    cache.parameterParts("SELECT 1", false);
+    assertEquals(5, cache.getMissCount());
+  }
+
+  @Test
+  public void nativeSql() throws SQLException {
+    SqlParseCache cache = new SqlParseCache(10);
+    // without escape sequence, command is returned without lookup
+    assertEquals("SELECT 1", cache.nativeSql("SELECT 1", null));
+    assertEquals(0, cache.getMissCount());
+  }
+
+  @Test
+  public void create() throws SQLException {
+    assertNull(SqlParseCache.create(Configuration.parse("jdbc:mariadb://localhost/db")));
+    Configuration conf = Configuration.parse("jdbc:mariadb://localhost/db?sqlParseCacheSize=100");
+    assertEquals(100, conf.sqlParseCacheSize());
+    SqlParseCache cache = SqlParseCache.create(conf);
+    assertNotNull(cache);
+    // each call creates a new cache, owned by caller
+    assertNotSame(cache, SqlParseCache.create(conf));
+  }
+}